@@ -0,0 +1,140 @@
+package com.safetynet.safetynet_alerts.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
+
+/**
+ * Latency of each alert query, at the service layer, over datasets of increasing size.
+ * <p>
+ * Every invocation targets another household, station, last name or city, picked by a
+ * per-thread {@link Cursor}, so that results are not served from a single warm entry.
+ * The streamed variants write to a discarding stream, as the controller does when
+ * {@code response.streaming.enabled} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AlertQueryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int persons;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BenchmarkData data;
+    private BenchmarkStack stack;
+
+    /**
+     * Picks the targets of the queries of one benchmark thread. A multiplicative step
+     * spreads consecutive invocations over the whole dataset.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private long next;
+
+        int next(int bound) {
+            return (int) Long.remainderUnsigned(next++ * 0x9E3779B97F4A7C15L, bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = new BenchmarkData(persons);
+        stack = new BenchmarkStack(data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stack.close();
+    }
+
+    private String station(Cursor cursor) {
+        return String.valueOf(cursor.next(data.stationCount()) + 1);
+    }
+
+    private String address(Cursor cursor) {
+        return BenchmarkData.address(cursor.next(data.addressCount()));
+    }
+
+    private List<Integer> stationPair(Cursor cursor) {
+        int first = cursor.next(data.stationCount()) + 1;
+        return List.of(first, first % data.stationCount() + 1);
+    }
+
+    @Benchmark
+    public FireStationCoverageDTO fireStation(Cursor cursor) {
+        return stack.fireStationService.getPeopleCoveredByFireStation(station(cursor));
+    }
+
+    @Benchmark
+    public void fireStationStreamed(Cursor cursor) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            stack.fireStationService.writePeopleCoveredByFireStation(station(cursor), generator);
+        }
+    }
+
+    @Benchmark
+    public List<ChildAlertDTO> childAlert(Cursor cursor) {
+        return stack.personService.getChildrenByAddress(address(cursor));
+    }
+
+    @Benchmark
+    public List<String> phoneAlert(Cursor cursor) {
+        return stack.personService.getPhoneNumbersByStation(station(cursor));
+    }
+
+    @Benchmark
+    public FireAlertDTO fire(Cursor cursor) {
+        return stack.personService.getPersonsByAddress(address(cursor));
+    }
+
+    @Benchmark
+    public Map<String, List<ResidentDTO>> floodStations(Cursor cursor) {
+        return stack.fireStationService.getFloodStationsInfo(stationPair(cursor));
+    }
+
+    @Benchmark
+    public void floodStationsStreamed(Cursor cursor) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            stack.fireStationService.writeFloodStationsInfo(stationPair(cursor), generator);
+        }
+    }
+
+    @Benchmark
+    public List<PersonInfoDTO> personInfo(Cursor cursor) {
+        return stack.personService.getPersonInfoByLastName(data.lastName(cursor.next(data.lastNameCount())));
+    }
+
+    @Benchmark
+    public List<String> communityEmail(Cursor cursor) {
+        return stack.personService.getEmailsByCity(BenchmarkData.city(cursor.next(data.cityCount()) * BenchmarkData.PERSONS_PER_CITY));
+    }
+}
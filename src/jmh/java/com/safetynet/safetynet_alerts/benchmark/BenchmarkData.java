@@ -0,0 +1,152 @@
+package com.safetynet.safetynet_alerts.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Deterministic dataset written for the benchmarks, so that every run and every
+ * fork measures the same data.
+ * <p>
+ * Persons live in households of {@value #HOUSEHOLD_SIZE} sharing an address and a last name;
+ * one in four is a child. Each station covers {@value #ADDRESSES_PER_STATION} addresses and
+ * each city {@value #PERSONS_PER_CITY} persons, so query results grow with the dataset the
+ * way they would for a larger county.
+ */
+final class BenchmarkData {
+
+    static final int HOUSEHOLD_SIZE = 3;
+    static final int ADDRESSES_PER_STATION = 500;
+    static final int PERSONS_PER_CITY = 10_000;
+    static final int HOUSEHOLDS_PER_LAST_NAME = 5;
+
+    private static final DateTimeFormatter BIRTHDATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private final int persons;
+
+    /**
+     * @param persons Number of persons in the dataset.
+     */
+    BenchmarkData(int persons) {
+        this.persons = persons;
+    }
+
+    int addressCount() {
+        return (persons + HOUSEHOLD_SIZE - 1) / HOUSEHOLD_SIZE;
+    }
+
+    int stationCount() {
+        return Math.max(1, (addressCount() + ADDRESSES_PER_STATION - 1) / ADDRESSES_PER_STATION);
+    }
+
+    int cityCount() {
+        return Math.max(1, (persons + PERSONS_PER_CITY - 1) / PERSONS_PER_CITY);
+    }
+
+    int lastNameCount() {
+        return Math.max(1, addressCount() / HOUSEHOLDS_PER_LAST_NAME);
+    }
+
+    static String address(int household) {
+        return household + " Benchmark St";
+    }
+
+    static String station(int household) {
+        return String.valueOf(household / ADDRESSES_PER_STATION + 1);
+    }
+
+    static String city(int person) {
+        return "City" + person / PERSONS_PER_CITY;
+    }
+
+    String lastName(int household) {
+        return "Family" + household % lastNameCount();
+    }
+
+    static String firstName(int person) {
+        return "Person" + person;
+    }
+
+    static String zip(int person) {
+        return String.valueOf(10_000 + person / PERSONS_PER_CITY);
+    }
+
+    static String email(int person) {
+        return firstName(person).toLowerCase() + "@email.com";
+    }
+
+    /**
+     * @return The birth date of a person, relative to today so that one in four stays a child.
+     */
+    static String birthdate(int person) {
+        boolean child = person % 4 == 3;
+        return LocalDate.now()
+                .minusYears(child ? 1 + person % 17 : 19 + person % 70)
+                .minusDays(person % 365)
+                .format(BIRTHDATE_FORMAT);
+    }
+
+    /**
+     * Streams the dataset to a JSON file in the layout of {@code data.json}.
+     *
+     * @param file         The file to write.
+     * @param objectMapper The mapper providing the JSON factory.
+     * @throws IOException If the file cannot be written.
+     */
+    void write(File file, ObjectMapper objectMapper) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(file, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (int i = 0; i < persons; i++) {
+                int household = i / HOUSEHOLD_SIZE;
+                generator.writeStartObject();
+                generator.writeStringField("firstName", firstName(i));
+                generator.writeStringField("lastName", lastName(household));
+                generator.writeStringField("address", address(household));
+                generator.writeStringField("city", city(i));
+                generator.writeStringField("zip", zip(i));
+                generator.writeStringField("phone", String.format("841-%03d-%04d", household / 10_000 % 1000, household % 10_000));
+                generator.writeStringField("email", email(i));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("firestations");
+            for (int household = 0; household < addressCount(); household++) {
+                generator.writeStartObject();
+                generator.writeStringField("address", address(household));
+                generator.writeStringField("station", station(household));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("medicalrecords");
+            for (int i = 0; i < persons; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("firstName", firstName(i));
+                generator.writeStringField("lastName", lastName(i / HOUSEHOLD_SIZE));
+                generator.writeStringField("birthdate", birthdate(i));
+                generator.writeArrayFieldStart("medications");
+                if (i % 3 == 0) {
+                    generator.writeString("aznol:" + (50 + i % 300) + "mg");
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("allergies");
+                if (i % 5 == 0) {
+                    generator.writeString("peanut");
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
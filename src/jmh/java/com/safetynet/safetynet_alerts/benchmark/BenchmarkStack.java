@@ -0,0 +1,84 @@
+package com.safetynet.safetynet_alerts.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
+import com.safetynet.safetynet_alerts.service.FireStationService;
+import com.safetynet.safetynet_alerts.service.MedicalRecordService;
+import com.safetynet.safetynet_alerts.service.PersonService;
+
+/**
+ * The data store, repositories and services wired by hand over a {@link BenchmarkData}
+ * file in a temporary directory, the way the Spring context wires them.
+ * <p>
+ * The journal is enabled as in {@code application.properties}, but compaction is pushed
+ * out of the measurement so that mutations are timed without the periodic full rewrite.
+ */
+final class BenchmarkStack implements AutoCloseable {
+
+    private static final long FLUSH_INTERVAL_MS = 1000;
+    private static final long COMPACT_INTERVAL_MS = 60 * 60 * 1000;
+
+    final Path directory;
+    final JsonDataStore dataStore;
+    final PersonRepository personRepository;
+    final MedicalRecordRepository medicalRecordRepository;
+    final FireStationRepository fireStationRepository;
+    final HouseholdRepository householdRepository;
+    final StationCoverageRepository stationCoverageRepository;
+    final PersonService personService;
+    final FireStationService fireStationService;
+    final MedicalRecordService medicalRecordService;
+
+    /**
+     * Writes the dataset and builds the stack over it.
+     *
+     * @param data The dataset to load.
+     * @throws IOException If the dataset cannot be written.
+     */
+    BenchmarkStack(BenchmarkData data) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        this.directory = Files.createTempDirectory("safetynet-benchmark");
+        File file = directory.resolve("data.json").toFile();
+        data.write(file, objectMapper);
+
+        this.dataStore = new JsonDataStore(objectMapper, file.getPath(), file.getPath(),
+                FLUSH_INTERVAL_MS, Integer.MAX_VALUE,
+                true, COMPACT_INTERVAL_MS, false, false);
+        this.personRepository = new PersonRepository(dataStore);
+        this.medicalRecordRepository = new MedicalRecordRepository(dataStore);
+        this.fireStationRepository = new FireStationRepository(dataStore);
+        this.householdRepository = new HouseholdRepository(dataStore, personRepository, medicalRecordRepository);
+        this.stationCoverageRepository = new StationCoverageRepository(
+                dataStore, fireStationRepository, personRepository, householdRepository);
+        this.personService = new PersonService(personRepository, medicalRecordRepository, fireStationRepository,
+                householdRepository, stationCoverageRepository);
+        this.fireStationService = new FireStationService(fireStationRepository, stationCoverageRepository,
+                householdRepository);
+        this.medicalRecordService = new MedicalRecordService(medicalRecordRepository);
+    }
+
+    /**
+     * Stops the write-behind thread and deletes the temporary directory.
+     */
+    @Override
+    public void close() throws IOException {
+        dataStore.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
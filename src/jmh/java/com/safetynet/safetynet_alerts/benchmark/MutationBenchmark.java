@@ -0,0 +1,139 @@
+package com.safetynet.safetynet_alerts.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * Latency of each mutation path, at the service layer, over datasets of increasing size:
+ * the repository update, the index and derived-view maintenance, and the journal append.
+ * <p>
+ * Each benchmark leaves the dataset as it found it, either by toggling a value back and
+ * forth or by pairing an insertion with its deletion, so that the measured size stays
+ * the requested one however long the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MutationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int persons;
+
+    private BenchmarkData data;
+    private BenchmarkStack stack;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = new BenchmarkData(persons);
+        stack = new BenchmarkStack(data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stack.close();
+    }
+
+    /**
+     * @return An existing person, another one on each invocation.
+     */
+    private int nextPerson() {
+        return (int) Long.remainderUnsigned(invocation++ * 0x9E3779B97F4A7C15L, persons);
+    }
+
+    private Person person(int index, int household, String phone) {
+        return new Person(BenchmarkData.firstName(index), data.lastName(index / BenchmarkData.HOUSEHOLD_SIZE),
+                BenchmarkData.address(household), BenchmarkData.city(index), BenchmarkData.zip(index), phone,
+                BenchmarkData.email(index));
+    }
+
+    private MedicalRecord medicalRecord(int index, String firstName, List<String> medications) {
+        return new MedicalRecord(firstName, data.lastName(index / BenchmarkData.HOUSEHOLD_SIZE),
+                BenchmarkData.birthdate(index), medications, List.of());
+    }
+
+    @Benchmark
+    public Optional<Person> updatePerson() {
+        int index = nextPerson();
+        String phone = invocation % 2 == 0 ? "841-000-0000" : "841-000-0001";
+        return stack.personService.updatePerson(person(index, index / BenchmarkData.HOUSEHOLD_SIZE, phone));
+    }
+
+    @Benchmark
+    public Optional<Person> movePerson() {
+        int index = nextPerson();
+        int household = index / BenchmarkData.HOUSEHOLD_SIZE;
+        Person current = stack.personRepository
+                .getPersonByName(BenchmarkData.firstName(index), data.lastName(household))
+                .orElseThrow();
+        boolean moved = !current.getAddress().equals(BenchmarkData.address(household));
+        int target = moved ? household : (household + 1) % data.addressCount();
+        return stack.personService.updatePerson(person(index, target, current.getPhone()));
+    }
+
+    @Benchmark
+    public boolean addAndDeletePerson() {
+        int index = nextPerson();
+        Person person = person(index, index / BenchmarkData.HOUSEHOLD_SIZE, "841-000-0000");
+        person.setFirstName("Newcomer" + index);
+        stack.personService.addPerson(person);
+        return stack.personService.deletePerson(person.getFirstName(), person.getLastName());
+    }
+
+    @Benchmark
+    public void updateMedicalRecord() {
+        int index = nextPerson();
+        List<String> medications = invocation % 2 == 0 ? List.of("aznol:350mg") : List.of("hydrapermazol:100mg");
+        stack.medicalRecordService.addOrUpdateMedicalRecord(
+                medicalRecord(index, BenchmarkData.firstName(index), medications));
+    }
+
+    @Benchmark
+    public void addAndDeleteMedicalRecord() {
+        int index = nextPerson();
+        MedicalRecord record = medicalRecord(index, "Newcomer" + index, List.of());
+        stack.medicalRecordService.addOrUpdateMedicalRecord(record);
+        stack.medicalRecordService.deleteMedicalRecord(record.getFirstName(), record.getLastName());
+    }
+
+    @Benchmark
+    public boolean updateFireStation() {
+        int household = nextPerson() / BenchmarkData.HOUSEHOLD_SIZE;
+        String address = BenchmarkData.address(household);
+        String station = BenchmarkData.station(household);
+        boolean reassigned = stack.fireStationRepository.getFireStationsByAddress(address).stream()
+                .noneMatch(fireStation -> fireStation.getStation().equals(station));
+        return stack.fireStationService.updateFireStation(address,
+                reassigned ? station : String.valueOf(data.stationCount() + 1));
+    }
+
+    @Benchmark
+    public boolean addAndDeleteFireStation() {
+        String address = "Newcomer " + nextPerson() + " Benchmark St";
+        stack.fireStationService.addFireStation(new FireStation(address, "1"));
+        return stack.fireStationService.deleteFireStation(address);
+    }
+}
@@ -0,0 +1,44 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.safetynet.safetynet_alerts.metrics.LatencyHistogram;
+
+/**
+ * What was measured for one operation during the measured window.
+ * <p>
+ * Each request has three instants: when it was due by the arrival schedule, when it was
+ * actually sent, and when its response completed. The service time runs from sending to
+ * completion, which is what a closed-loop client would report; the response time runs from
+ * the due time, so it also counts any time the request waited because the driver fell
+ * behind. The dispatch lag, between the due time and the sending, tells the two apart.
+ */
+final class EndpointStats {
+
+    final Operation operation;
+    final LatencyHistogram serviceTime = new LatencyHistogram();
+    final LatencyHistogram responseTime = new LatencyHistogram();
+    final LatencyHistogram dispatchLag = new LatencyHistogram();
+    final LongAdder errors = new LongAdder();
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param dueNanos  When the request was due.
+     * @param sentNanos When it was sent.
+     * @param doneNanos When its response completed, or the request failed.
+     * @param status    The HTTP status, or -1 if no response was received.
+     */
+    void record(long dueNanos, long sentNanos, long doneNanos, int status) {
+        serviceTime.record(doneNanos - sentNanos);
+        responseTime.record(doneNanos - dueNanos);
+        dispatchLag.record(sentNanos - dueNanos);
+        if (status < 200 || status >= 500) {
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a {@link Workload} against a running application with an open arrival model:
+ * every request is due at a time drawn from its operation's rate, independently of when
+ * earlier requests complete, and is sent asynchronously so that a slow response does not
+ * hold back the next one.
+ * <p>
+ * A single dispatching thread walks the merged schedule of all operations. It only waits
+ * when the number of requests in flight reaches the workload's limit; requests are then
+ * sent late, which is the coordinated omission a closed-loop driver would hide. Latencies
+ * are therefore also measured from the due time, and the time spent behind schedule is
+ * reported alongside, see {@link EndpointStats}.
+ */
+final class LoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Workload workload;
+    private final Targets targets;
+    private final URI base;
+    private final HttpClient client;
+    private final Semaphore inFlight;
+    private final SplittableRandom arrivals;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder stalls = new LongAdder();
+
+    LoadDriver(Workload workload, Targets targets, URI base) {
+        this.workload = workload;
+        this.targets = targets;
+        this.base = base;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.inFlight = new Semaphore(workload.maxInFlight());
+        this.arrivals = new SplittableRandom(workload.seed());
+        for (Workload.Rate rate : workload.rates()) {
+            stats.put(rate.operation(), new EndpointStats(rate.operation()));
+        }
+    }
+
+    /**
+     * The next due time of one operation, relative to the start of the run.
+     */
+    private static final class Stream {
+
+        final Workload.Rate rate;
+        long due;
+
+        Stream(Workload.Rate rate) {
+            this.rate = rate;
+        }
+    }
+
+    /**
+     * Runs the warmup then the measured window, and waits for the requests still in flight.
+     *
+     * @return The report of the measured window.
+     * @throws InterruptedException If interrupted while waiting for the last responses.
+     */
+    LoadReport run() throws InterruptedException {
+        long measureFrom = workload.warmup().toNanos();
+        long end = measureFrom + workload.duration().toNanos();
+        PriorityQueue<Stream> schedule = new PriorityQueue<>((a, b) -> Long.compare(a.due, b.due));
+        for (Workload.Rate rate : workload.rates()) {
+            Stream stream = new Stream(rate);
+            stream.due = next(rate, 0);
+            schedule.add(stream);
+        }
+
+        long start = System.nanoTime();
+        while (!schedule.isEmpty()) {
+            Stream stream = schedule.poll();
+            if (stream.due >= end) {
+                continue;
+            }
+            waitUntil(start + stream.due);
+            send(stream.rate.operation(), start + stream.due, stream.due >= measureFrom);
+            stream.due = next(stream.rate, stream.due);
+            schedule.add(stream);
+        }
+
+        if (!inFlight.tryAcquire(workload.maxInFlight(), DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.err.println("Some requests were still in flight " + DRAIN_TIMEOUT.toSeconds() + " s after the end of the run");
+        }
+        return new LoadReport(workload, stats, stalls.sum());
+    }
+
+    /**
+     * Draws the due time of the request following one due at {@code previous}. An interval that
+     * crosses a change of rate is drawn again from the change, which the exponential distribution
+     * allows without biasing either side.
+     *
+     * @return The due time, or {@code Long.MAX_VALUE} if the operation has no rate left.
+     */
+    private long next(Workload.Rate rate, long previous) {
+        double perSecond = rate.at(previous);
+        long change = rate.nextChange(previous);
+        if (perSecond <= 0) {
+            return change == Long.MAX_VALUE ? Long.MAX_VALUE : next(rate, change);
+        }
+        double interval = workload.poisson()
+                ? -Math.log(1 - arrivals.nextDouble()) / perSecond
+                : 1 / perSecond;
+        long due = previous + (long) (interval * 1_000_000_000L);
+        return due > change ? next(rate, change) : due;
+    }
+
+    private static void waitUntil(long nanos) {
+        long remaining;
+        while ((remaining = nanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void send(Operation operation, long due, boolean measured) {
+        HttpRequest request = operation.request(base, targets);
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                stalls.increment();
+            }
+            inFlight.acquireUninterruptibly();
+        }
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long done = System.nanoTime();
+            inFlight.release();
+            if (measured) {
+                stats.get(operation).record(due, sent, done, response != null ? response.statusCode() : -1);
+            }
+        });
+    }
+}
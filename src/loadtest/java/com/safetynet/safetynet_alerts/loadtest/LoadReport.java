@@ -0,0 +1,86 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+import com.safetynet.safetynet_alerts.metrics.LatencySnapshot;
+
+/**
+ * Throughput and latency percentiles per route over the measured window, with the
+ * coordinated omission check.
+ * <p>
+ * A route is flagged when its requests were sent more than {@value #LAG_THRESHOLD_MICROS} µs
+ * behind schedule at the 99th percentile: its service times then understate the latency
+ * users would see, and its response times, measured from the due time, are the ones to read.
+ */
+final class LoadReport {
+
+    static final long LAG_THRESHOLD_MICROS = 1_000;
+
+    private final Workload workload;
+    private final Map<Operation, EndpointStats> stats;
+    private final long stalls;
+
+    LoadReport(Workload workload, Map<Operation, EndpointStats> stats, long stalls) {
+        this.workload = workload;
+        this.stats = stats;
+        this.stalls = stalls;
+    }
+
+    /**
+     * @return True if any route was sent behind schedule, or the in-flight limit was reached.
+     */
+    boolean coordinatedOmission() {
+        return stalls > 0 || stats.values().stream().anyMatch(LoadReport::behindSchedule);
+    }
+
+    private static boolean behindSchedule(EndpointStats endpoint) {
+        return endpoint.dispatchLag.snapshot().p99Nanos() > LAG_THRESHOLD_MICROS * 1_000;
+    }
+
+    void print(PrintStream out) {
+        double seconds = workload.duration().toNanos() / 1e9;
+        out.printf("%n%d persons, %d s measured after %d s of warmup, %s arrivals, at most %d requests in flight%n%n",
+                workload.persons(), workload.duration().toSeconds(), workload.warmup().toSeconds(),
+                workload.poisson() ? "poisson" : "uniform", workload.maxInFlight());
+        out.printf("%-24s %8s %8s %7s | %-35s | %-35s%n", "", "offered", "achieved", "",
+                "service time (ms)", "response time (ms)");
+        out.printf("%-24s %8s %8s %7s | %8s %8s %8s %8s | %8s %8s %8s %8s%n", "route", "req/s", "req/s", "errors",
+                "p50", "p99", "p99.9", "max", "p50", "p99", "p99.9", "max");
+
+        double offered = 0;
+        long completed = 0;
+        long errors = 0;
+        for (Workload.Rate rate : workload.rates()) {
+            EndpointStats endpoint = stats.get(rate.operation());
+            LatencySnapshot service = endpoint.serviceTime.snapshot();
+            LatencySnapshot response = endpoint.responseTime.snapshot();
+            offered += rate.mean();
+            completed += service.count();
+            errors += endpoint.errors.sum();
+            out.printf("%-24s %8.1f %8.1f %7d | %s | %s%s%n",
+                    rate.operation().route(), rate.mean(), service.count() / seconds, endpoint.errors.sum(),
+                    percentiles(service), percentiles(response), behindSchedule(endpoint) ? "  (!)" : "");
+        }
+        out.printf("%-24s %8.1f %8.1f %7d%n%n", "total", offered, completed / seconds, errors);
+
+        if (coordinatedOmission()) {
+            out.printf("(!) COORDINATED OMISSION: requests were sent behind schedule%s.%n",
+                    stalls > 0 ? ", " + stalls + " of them after waiting for the in-flight limit" : "");
+            out.println("    Service times of the flagged routes understate latency; read their response times,");
+            out.println("    measured from when each request was due. Raise max-in-flight or lower the rates.");
+        } else {
+            out.printf("No coordinated omission: every route was sent within %d µs of schedule at p99.%n",
+                    LAG_THRESHOLD_MICROS);
+        }
+    }
+
+    private static String percentiles(LatencySnapshot snapshot) {
+        return String.format("%8.2f %8.2f %8.2f %8.2f", millis(snapshot.p50Nanos()), millis(snapshot.p99Nanos()),
+                millis(snapshot.p999Nanos()), millis(snapshot.maxNanos()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,106 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.safetynet.safetynet_alerts.SafetynetAlertsApplication;
+import com.safetynet.safetynet_alerts.dataset.DatasetGenerator;
+
+/**
+ * Local HTTP load test of the application.
+ * <p>
+ * Generates the workload's dataset in a temporary directory, boots the application over it on
+ * a random port with its regular configuration, replays the workload with a {@link LoadDriver}
+ * and prints the {@link LoadReport}. Framework debug logging and log files are turned off, so
+ * that they do not weigh on the measurement.
+ * <p>
+ * The configuration can be overridden by the {@code app.*} properties of the workload, then by
+ * {@code --<property>=<value>} arguments, e.g. {@code --spring.threads.virtual.enabled=true} to
+ * compare a run on virtual threads with one on the platform thread pool.
+ * <p>
+ * The driver runs in the same JVM as the application. On a machine with few cores it competes
+ * with the application for CPU, which shows up as dispatch lag and is flagged as such.
+ * <p>
+ * Usage: {@code LoadTest [workload.properties] [--<property>=<value>...]}; without a workload
+ * file, the workload bundled on the classpath is used.
+ */
+public class LoadTest {
+
+    /**
+     * Runs the load test.
+     *
+     * @param args Optionally, the path of the workload file, then application properties.
+     * @throws Exception If the dataset cannot be written or the application fails to start.
+     */
+    public static void main(String[] args) throws Exception {
+        boolean hasWorkload = args.length > 0 && !args[0].startsWith("--");
+        Workload workload = hasWorkload ? Workload.load(Path.of(args[0])) : Workload.loadDefault();
+        Path directory = Files.createTempDirectory("safetynet-load");
+        try {
+            File data = directory.resolve("data.json").toFile();
+            System.out.printf("Generating %d persons...%n", workload.persons());
+            new DatasetGenerator(workload.seed(), workload.persons()).write(data, new JsonFactory());
+            Targets targets = Targets.sample(data, workload.persons(), workload.seed());
+
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("server.port", "0");
+            properties.put("data.file.path", data.getPath());
+            properties.put("modifiable.data.path", data.getPath());
+            properties.put("logging.config", "classpath:log4j2-test.xml");
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.org.springframework", "WARN");
+            properties.put("logging.level.org.springframework.http.converter", "WARN");
+            properties.put("spring.main.banner-mode", "off");
+            properties.putAll(workload.application());
+            for (int i = hasWorkload ? 1 : 0; i < args.length; i++) {
+                String[] property = argument(args[i]);
+                properties.put(property[0], property[1]);
+            }
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SafetynetAlertsApplication.class)
+                    .run(properties.entrySet().stream()
+                            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                            .toArray(String[]::new))) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                System.out.printf("Application listening on port %d; running %d s of warmup and %d s of load...%n",
+                        port, workload.warmup().toSeconds(), workload.duration().toSeconds());
+                LoadReport report = new LoadDriver(workload, targets, URI.create("http://localhost:" + port)).run();
+                report.print(System.out);
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * @param arg An application property, as {@code --<property>=<value>}.
+     * @return The name and the value of the property.
+     */
+    private static String[] argument(String arg) {
+        int equals = arg.indexOf('=');
+        if (!arg.startsWith("--") || equals < 0) {
+            throw new IllegalArgumentException("Application properties must be given as --<property>=<value>: " + arg);
+        }
+        return new String[] {arg.substring(2, equals), arg.substring(equals + 1)};
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
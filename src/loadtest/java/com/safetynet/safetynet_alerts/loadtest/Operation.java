@@ -0,0 +1,167 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * The requests a workload can send, one per {@code AlertController} route exercised,
+ * each building its request from the {@link Targets}.
+ */
+enum Operation {
+
+    FIRESTATION("firestation", "GET /firestation") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/firestation?stationNumber=" + targets.station());
+        }
+    },
+    FIRE("fire", "GET /fire") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/fire?address=" + encode(targets.address()));
+        }
+    },
+    CHILD_ALERT("childAlert", "GET /childAlert") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/childAlert?address=" + encode(targets.address()));
+        }
+    },
+    PHONE_ALERT("phoneAlert", "GET /phoneAlert") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/phoneAlert?firestation=" + targets.station());
+        }
+    },
+    PERSON_INFO("personInfo", "GET /personInfo") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/personInfo?lastName=" + encode(targets.lastName()));
+        }
+    },
+    COMMUNITY_EMAIL("communityEmail", "GET /communityEmail") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/communityEmail?city=" + encode(targets.city()));
+        }
+    },
+    FLOOD("flood", "GET /flood/stations") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return get(base, "/flood/stations?stations=" + targets.stationPair());
+        }
+    },
+    ADD_PERSON("addPerson", "POST /person") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return send(base, "POST", "/person", person(targets.newPerson(), "841-000-0000"));
+        }
+    },
+    UPDATE_PERSON("updatePerson", "PUT /person") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            Person person = targets.person();
+            return send(base, "PUT", "/person", person(person, "841-000-" + String.format("%04d", targets.nextInt(10_000))));
+        }
+    },
+    DELETE_PERSON("deletePerson", "DELETE /person") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            Person person = targets.addedPerson();
+            return HttpRequest.newBuilder(base.resolve("/person?firstName=" + encode(person.getFirstName())
+                    + "&lastName=" + encode(person.getLastName()))).DELETE().build();
+        }
+    },
+    UPDATE_FIRESTATION("updateFireStation", "PUT /firestation") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            return HttpRequest.newBuilder(base.resolve("/firestation?address=" + encode(targets.address())
+                    + "&station=" + targets.station())).PUT(HttpRequest.BodyPublishers.noBody()).build();
+        }
+    },
+    UPDATE_MEDICAL_RECORD("updateMedicalRecord", "PUT /medicalRecord") {
+        @Override
+        HttpRequest request(URI base, Targets targets) {
+            MedicalRecord record = targets.medicalRecord();
+            List<String> medications = targets.nextInt(2) == 0 ? List.of() : List.of("aznol:350mg");
+            return send(base, "PUT", "/medicalRecord", Map.of(
+                    "firstName", record.getFirstName(),
+                    "lastName", record.getLastName(),
+                    "birthdate", record.getBirthdate(),
+                    "medications", medications,
+                    "allergies", record.getAllergies()));
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String key;
+    private final String route;
+
+    Operation(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    /**
+     * @return The name of the operation in the workload file.
+     */
+    String key() {
+        return key;
+    }
+
+    /**
+     * @return The method and path the operation is reported under.
+     */
+    String route() {
+        return route;
+    }
+
+    /**
+     * Builds the next request of this operation.
+     *
+     * @param base    The base URI of the application.
+     * @param targets Where the persons, addresses and stations of the request are picked.
+     * @return The request to send.
+     */
+    abstract HttpRequest request(URI base, Targets targets);
+
+    private static HttpRequest get(URI base, String pathAndQuery) {
+        return HttpRequest.newBuilder(base.resolve(pathAndQuery)).GET().build();
+    }
+
+    private static HttpRequest send(URI base, String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(base.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the request body", e);
+        }
+    }
+
+    private static Map<String, String> person(Person person, String phone) {
+        return Map.of(
+                "firstName", person.getFirstName(),
+                "lastName", person.getLastName(),
+                "address", person.getAddress(),
+                "city", person.getCity(),
+                "zip", person.getZip(),
+                "phone", phone,
+                "email", person.getEmail());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
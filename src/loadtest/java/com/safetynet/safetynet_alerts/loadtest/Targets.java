@@ -0,0 +1,140 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.StreamingJsonLoader;
+
+/**
+ * What the requests are about: persons, medical records, addresses, last names, cities and
+ * stations sampled evenly from the dataset the application was booted with, picked at random
+ * from a seeded stream, plus the persons added by the run so that deletions find something.
+ * <p>
+ * The picking methods are only called by the dispatching thread, so the sequence of targets
+ * is the same on every run with the same seed.
+ */
+final class Targets {
+
+    static final int SAMPLE_SIZE = 4096;
+
+    private final SplittableRandom random;
+    private final List<Person> persons;
+    private final Map<String, MedicalRecord> medicalRecords;
+    private final List<Integer> stations;
+    private final ConcurrentLinkedQueue<Person> added = new ConcurrentLinkedQueue<>();
+    private long nextAdded;
+
+    private Targets(long seed, List<Person> persons, Map<String, MedicalRecord> medicalRecords, List<Integer> stations) {
+        this.random = new SplittableRandom(seed);
+        this.persons = persons;
+        this.medicalRecords = medicalRecords;
+        this.stations = stations;
+    }
+
+    /**
+     * Samples the targets from a data file.
+     *
+     * @param file    The data file the application loads.
+     * @param persons The number of persons in the file.
+     * @param seed    The seed of the picks.
+     * @return The targets.
+     * @throws IOException If the file cannot be read.
+     */
+    static Targets sample(File file, int persons, long seed) throws IOException {
+        int step = Math.max(1, persons / SAMPLE_SIZE);
+        List<Person> sampled = new ArrayList<>();
+        Map<String, MedicalRecord> records = new HashMap<>();
+        TreeSet<Integer> stations = new TreeSet<>();
+        int[] index = new int[2];
+        new StreamingJsonLoader(new ObjectMapper()).load(file,
+                person -> {
+                    if (index[0]++ % step == 0) {
+                        sampled.add(person);
+                    }
+                },
+                fireStation -> stations.add(Integer.valueOf(fireStation.getStation())),
+                record -> {
+                    if (index[1]++ % step == 0) {
+                        records.put(key(record.getFirstName(), record.getLastName()), record);
+                    }
+                });
+        if (sampled.isEmpty() || stations.isEmpty()) {
+            throw new IllegalStateException("The dataset has no person or no station: " + file);
+        }
+        return new Targets(seed, sampled, records, List.copyOf(stations));
+    }
+
+    private static String key(String firstName, String lastName) {
+        return firstName + " " + lastName;
+    }
+
+    Person person() {
+        return persons.get(random.nextInt(persons.size()));
+    }
+
+    String address() {
+        return person().getAddress();
+    }
+
+    String lastName() {
+        return person().getLastName();
+    }
+
+    String city() {
+        return person().getCity();
+    }
+
+    String station() {
+        return String.valueOf(stations.get(random.nextInt(stations.size())));
+    }
+
+    /**
+     * @return Two neighbouring stations, as a flood alert usually covers.
+     */
+    String stationPair() {
+        int first = random.nextInt(stations.size());
+        return stations.get(first) + "," + stations.get((first + 1) % stations.size());
+    }
+
+    /**
+     * @return The medical record of a sampled person, if it was sampled along with them.
+     */
+    MedicalRecord medicalRecord() {
+        Person person = person();
+        MedicalRecord record = medicalRecords.get(key(person.getFirstName(), person.getLastName()));
+        return record != null ? record : medicalRecords.values().iterator().next();
+    }
+
+    /**
+     * @return A person not in the dataset, living at a sampled address, remembered for {@link #addedPerson()}.
+     */
+    Person newPerson() {
+        Person template = person();
+        Person person = new Person("Load" + nextAdded++, template.getLastName(), template.getAddress(),
+                template.getCity(), template.getZip(), template.getPhone(), "load@email.com");
+        added.add(person);
+        return person;
+    }
+
+    /**
+     * @return A person added by {@link #newPerson()} and not deleted yet, or a person that does not exist.
+     */
+    Person addedPerson() {
+        Person person = added.poll();
+        return person != null ? person : new Person("Missing", "Person", "", "", "", "", "");
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+}
@@ -0,0 +1,177 @@
+package com.safetynet.safetynet_alerts.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * A load-test workload read from a properties file: the dataset to boot the application with,
+ * the warmup and measured durations, and one arrival rate per {@link Operation}.
+ * <p>
+ * Rates are given as {@code rate.<operation>=<requests per second>}. An operation may also burst,
+ * with {@code burst.<operation>=<rate>/<length>/<every>}: for {@code length} out of every
+ * {@code every}, the burst rate replaces the base rate. Durations take an {@code ms}, {@code s}
+ * or {@code m} suffix.
+ * <p>
+ * Properties named {@code app.<property>} are passed to the application as {@code --<property>},
+ * e.g. {@code app.spring.threads.virtual.enabled=true}.
+ *
+ * @param persons     Number of persons in the generated dataset.
+ * @param seed        Seed of the dataset and of the request targets.
+ * @param warmup      Time during which requests are sent but not reported.
+ * @param duration    Measured time, after the warmup.
+ * @param poisson     Whether inter-arrival times are exponential rather than fixed.
+ * @param maxInFlight Requests allowed in flight at once.
+ * @param rates       The arrival rate of each operation with a non-zero rate.
+ * @param application Spring properties the application is booted with, by name.
+ */
+record Workload(int persons, long seed, Duration warmup, Duration duration, boolean poisson, int maxInFlight,
+                List<Rate> rates, Map<String, String> application) {
+
+    private static final String APPLICATION_PREFIX = "app.";
+
+    /**
+     * The arrival rate of one operation.
+     *
+     * @param operation   The operation sent.
+     * @param perSecond   The base rate, in requests per second.
+     * @param burstRate   The rate during bursts, or 0 without bursts.
+     * @param burstLength How long each burst lasts.
+     * @param burstEvery  Time between the starts of two bursts.
+     */
+    record Rate(Operation operation, double perSecond, double burstRate, Duration burstLength, Duration burstEvery) {
+
+        /**
+         * @param elapsedNanos Time since the start of the run.
+         * @return The rate in force at that time, in requests per second.
+         */
+        double at(long elapsedNanos) {
+            if (burstRate > 0 && elapsedNanos % burstEvery.toNanos() < burstLength.toNanos()) {
+                return burstRate;
+            }
+            return perSecond;
+        }
+
+        /**
+         * @return The average rate over a whole burst period, in requests per second.
+         */
+        double mean() {
+            if (burstRate <= 0) {
+                return perSecond;
+            }
+            double burstShare = (double) burstLength.toNanos() / burstEvery.toNanos();
+            return burstRate * burstShare + perSecond * (1 - burstShare);
+        }
+
+        /**
+         * @param elapsedNanos Time since the start of the run.
+         * @return When the rate next changes, at the end of the current burst or the start of the next one,
+         *         or {@code Long.MAX_VALUE} without bursts.
+         */
+        long nextChange(long elapsedNanos) {
+            if (burstRate <= 0) {
+                return Long.MAX_VALUE;
+            }
+            long phase = elapsedNanos % burstEvery.toNanos();
+            long windowStart = elapsedNanos - phase;
+            return phase < burstLength.toNanos()
+                    ? windowStart + burstLength.toNanos()
+                    : windowStart + burstEvery.toNanos();
+        }
+    }
+
+    /**
+     * Reads a workload from a file.
+     *
+     * @param path The properties file.
+     * @return The workload.
+     * @throws IOException If the file cannot be read.
+     */
+    static Workload load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            return parse(properties);
+        }
+    }
+
+    /**
+     * Reads the default workload from the classpath.
+     *
+     * @return The workload.
+     * @throws IOException If the resource cannot be read.
+     */
+    static Workload loadDefault() throws IOException {
+        try (InputStream in = Workload.class.getResourceAsStream("/workload.properties")) {
+            if (in == null) {
+                throw new IOException("workload.properties not found on the classpath");
+            }
+            Properties properties = new Properties();
+            properties.load(in);
+            return parse(properties);
+        }
+    }
+
+    static Workload parse(Properties properties) {
+        List<Rate> rates = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            double perSecond = Double.parseDouble(properties.getProperty("rate." + operation.key(), "0"));
+            String burst = properties.getProperty("burst." + operation.key());
+            Rate rate;
+            if (burst != null) {
+                String[] parts = burst.split("/");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("burst." + operation.key() + " must be <rate>/<length>/<every>: " + burst);
+                }
+                rate = new Rate(operation, perSecond, Double.parseDouble(parts[0].trim()),
+                        duration(parts[1]), duration(parts[2]));
+            } else {
+                rate = new Rate(operation, perSecond, 0, Duration.ZERO, Duration.ZERO);
+            }
+            if (rate.perSecond() > 0 || rate.burstRate() > 0) {
+                rates.add(rate);
+            }
+        }
+        Map<String, String> application = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(APPLICATION_PREFIX)) {
+                application.put(name.substring(APPLICATION_PREFIX.length()), properties.getProperty(name).trim());
+            }
+        }
+        String arrival = properties.getProperty("arrival", "poisson").trim();
+        if (!arrival.equals("poisson") && !arrival.equals("uniform")) {
+            throw new IllegalArgumentException("arrival must be poisson or uniform: " + arrival);
+        }
+        return new Workload(
+                Integer.parseInt(properties.getProperty("dataset.persons", "100000").trim()),
+                Long.parseLong(properties.getProperty("dataset.seed", "42").trim()),
+                duration(properties.getProperty("warmup", "10s")),
+                duration(properties.getProperty("duration", "60s")),
+                arrival.equals("poisson"),
+                Integer.parseInt(properties.getProperty("max-in-flight", "512").trim()),
+                List.copyOf(rates),
+                Map.copyOf(application));
+    }
+
+    static Duration duration(String value) {
+        String text = value.trim();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        throw new IllegalArgumentException("Duration must end with ms, s or m: " + value);
+    }
+}
@@ -0,0 +1,466 @@
+package com.safetynet.safetynet_alerts.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.safetynet.safetynet_alerts.model.AgeCalculator;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.DataChangeListener;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+/**
+ * Bounded cache of the results of the read endpoints, keyed by endpoint and normalized parameter.
+ * <p>
+ * Each entry is tagged with the data it was computed from: a station, an address, a city or a
+ * last name. Repository changes, received as a {@link DataChangeListener}, only drop the entries
+ * carrying a tag of the changed data; for instance a person change drops the entries of their
+ * address, of the stations covering it, of their city and of their last name. Entries holding
+ * ages also expire when the date rolls over.
+ * <p>
+ * Hits and versions are read without locking: entries and tag versions live in concurrent maps,
+ * and only stores, evictions and invalidations take the cache's lock. Each entry remembers when it
+ * was last used on a logical clock advanced by every store, so a hit only writes to an entry the
+ * first time it is used after a store. Once the cache is over capacity, the least recently used
+ * tenth is evicted in one go, which makes the eviction order an approximate LRU.
+ * <p>
+ * A generation counter, bumped by every invalidation, keeps a result computed while a change
+ * was applied from being stored. It also gives every result a version, exposed as an entity tag
+ * by {@link #etag(Collection)}. A tag carried by a cached entry has its version pinned until it
+ * is invalidated. Once no entry references a tag, its version is only kept among the last
+ * {@code maxEntries} unreferenced tags; older ones are pruned into a single floor version, which
+ * keeps the tracked versions bounded while versions never go backwards.
+ * The cache is registered after the household and station views so that a result computed
+ * after an invalidation always sees them up to date.
+ */
+@Component
+@DependsOn({"householdRepository", "stationCoverageRepository"})
+public class ResponseCache implements DataChangeListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final FireStationRepository fireStationRepository;
+    private final PersonRepository personRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<String, Long> tagVersions = new ConcurrentHashMap<>();
+    private final Set<String> unreferencedTags = new LinkedHashSet<>();
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private volatile long floor;
+    private volatile long generation;
+    private volatile long clock;
+
+    /**
+     * Constructs the ResponseCache and subscribes to the changes of the shared data store.
+     *
+     * @param dataStore             The shared data store publishing repository changes.
+     * @param fireStationRepository Repository used to find the stations covering a changed address.
+     * @param personRepository      Repository used to find the person a changed medical record belongs to.
+     * @param enabled               Whether results are cached at all.
+     * @param maxEntries            Maximum number of cached results.
+     */
+    public ResponseCache(JsonDataStore dataStore,
+                         FireStationRepository fireStationRepository,
+                         PersonRepository personRepository,
+                         @Value("${response.cache.enabled:true}") boolean enabled,
+                         @Value("${response.cache.max-entries:10000}") int maxEntries) {
+        this.fireStationRepository = fireStationRepository;
+        this.personRepository = personRepository;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        dataStore.addChangeListener(this);
+    }
+
+    /**
+     * Returns the cached result of an endpoint call, computing and storing it on a miss.
+     * A hit takes no lock.
+     *
+     * @param endpoint  The endpoint path.
+     * @param parameter The normalized request parameter.
+     * @param tags      The tags of the data the result is computed from.
+     * @param loader    Computes the result on a miss.
+     * @param <T>       The type of the result.
+     * @return The cached or freshly computed result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, String parameter, Collection<String> tags, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = endpoint + "?" + parameter;
+        int today = AgeCalculator.today();
+        long expected = generation;
+        Entry entry = entries.get(key);
+        if (entry != null && entry.day == today) {
+            entry.touch(clock);
+            hits.increment();
+            return (T) entry.value;
+        }
+        misses.increment();
+        T value = loader.get();
+        if (value != null) {
+            store(key, new Entry(value, Set.copyOf(tags), today), expected);
+        }
+        return value;
+    }
+
+    /**
+     * Stores a freshly computed result, unless the data changed since its computation started,
+     * then evicts the least recently used entries if the cache is over capacity.
+     *
+     * @param key      The key of the result.
+     * @param entry    The result and its tags.
+     * @param expected The generation read before the result was computed.
+     */
+    private synchronized void store(String key, Entry entry, long expected) {
+        if (generation != expected) {
+            return;
+        }
+        entry.lastUsed = ++clock;
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            untag(key, previous);
+        }
+        for (String tag : entry.tags) {
+            keysByTag.computeIfAbsent(tag, t -> {
+                unreferencedTags.remove(t);
+                return new HashSet<>();
+            }).add(key);
+            tagVersions.putIfAbsent(tag, floor);
+        }
+        if (entries.size() > maxEntries) {
+            evictLeastRecentlyUsed(entries.size() - maxEntries + maxEntries / 10);
+        }
+        pruneUnreferencedTags();
+    }
+
+    /**
+     * Evicts the entries used the longest time ago.
+     *
+     * @param count The number of entries to evict.
+     */
+    private void evictLeastRecentlyUsed(int count) {
+        List<Map.Entry<String, Entry>> byLastUse = new ArrayList<>(entries.entrySet());
+        byLastUse.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+        for (Map.Entry<String, Entry> eldest : byLastUse.subList(0, Math.min(count, byLastUse.size()))) {
+            if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                untag(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Drops every entry carrying one of the given tags.
+     *
+     * @param tags The tags of the changed data.
+     */
+    public synchronized void invalidate(Collection<String> tags) {
+        generation++;
+        for (String tag : tags) {
+            tagVersions.put(tag, generation);
+            unreferencedTags.remove(tag);
+            unreferencedTags.add(tag);
+            Set<String> keys = keysByTag.remove(tag);
+            if (keys != null) {
+                for (String key : keys) {
+                    Entry entry = entries.remove(key);
+                    if (entry != null) {
+                        untag(key, entry);
+                    }
+                }
+            }
+        }
+        pruneUnreferencedTags();
+        LOGGER.debug("Invalidated cached responses tagged {}", tags);
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public synchronized void clear() {
+        generation++;
+        floor = generation;
+        tagVersions.clear();
+        unreferencedTags.clear();
+        entries.clear();
+        keysByTag.clear();
+    }
+
+    /**
+     * Returns the version of the data carrying the given tags: the highest pinned version of the
+     * tags, or the floor if one of them is not pinned. Versions only grow, and differ as soon as
+     * one of the tags has changed. This takes no lock: the floor is read after the tag versions
+     * and always raised before a version is pruned, so a concurrently pruned tag is accounted for.
+     *
+     * @param tags The tags of the data a result is computed from.
+     * @return The version of that data.
+     */
+    public long version(Collection<String> tags) {
+        long version = 0;
+        boolean unpinned = tags.isEmpty();
+        for (String tag : tags) {
+            Long pinned = tagVersions.get(tag);
+            if (pinned == null) {
+                unpinned = true;
+            } else {
+                version = Math.max(version, pinned);
+            }
+        }
+        return unpinned ? Math.max(version, floor) : version;
+    }
+
+    /**
+     * Returns a weak entity tag for a result computed from data carrying the given tags.
+     * It changes whenever one of the tags changes, when the date rolls over (results hold ages)
+     * and across restarts.
+     *
+     * @param tags The tags of the data a result is computed from.
+     * @return The entity tag, quoted.
+     */
+    public String etag(Collection<String> tags) {
+        return "W/\"" + instanceId + "-" + AgeCalculator.today() + "-" + version(tags) + "\"";
+    }
+
+    /**
+     * Removes a dropped entry from the keys of its tags, marking the tags no entry references
+     * any more.
+     *
+     * @param key   The key of the dropped entry.
+     * @param entry The dropped entry.
+     */
+    private void untag(String key, Entry entry) {
+        for (String tag : entry.tags) {
+            Set<String> keys = keysByTag.get(tag);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTag.remove(tag);
+                    unreferencedTags.add(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the versions of the oldest unreferenced tags beyond {@code maxEntries},
+     * raising the floor to each version before removing it.
+     */
+    private void pruneUnreferencedTags() {
+        Iterator<String> oldest = unreferencedTags.iterator();
+        while (unreferencedTags.size() > maxEntries) {
+            String tag = oldest.next();
+            oldest.remove();
+            Long pinned = tagVersions.get(tag);
+            if (pinned != null) {
+                floor = Math.max(floor, pinned);
+                tagVersions.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * @return The number of cached results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of tags whose version is tracked.
+     */
+    public int trackedTags() {
+        return tagVersions.size();
+    }
+
+    /**
+     * @return The number of calls answered from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of calls that had to compute their result.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Normalizes a request parameter or tag value: trimmed and lowercase.
+     *
+     * @param value The value, possibly null.
+     * @return The normalized value, or an empty string for null.
+     */
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    /**
+     * @param stationNumber A station number.
+     * @return The tag of the data covered by the station.
+     */
+    public static String stationTag(String stationNumber) {
+        return "station:" + normalize(stationNumber);
+    }
+
+    /**
+     * @param address An address.
+     * @return The tag of the data of the address.
+     */
+    public static String addressTag(String address) {
+        return "address:" + normalize(address);
+    }
+
+    /**
+     * @param city A city.
+     * @return The tag of the data of the city.
+     */
+    public static String cityTag(String city) {
+        return "city:" + normalize(city);
+    }
+
+    /**
+     * @param lastName A last name.
+     * @return The tag of the data of the persons with that last name.
+     */
+    public static String lastNameTag(String lastName) {
+        return "lastName:" + normalize(lastName);
+    }
+
+    @Override
+    public void onPersonChanged(Person previous, Person current) {
+        Set<String> tags = new HashSet<>();
+        for (Person person : new Person[] {previous, current}) {
+            if (person != null) {
+                addPersonTags(tags, person);
+                tags.add(cityTag(person.getCity()));
+            }
+        }
+        invalidate(tags);
+    }
+
+    @Override
+    public void onMedicalRecordChanged(MedicalRecord previous, MedicalRecord current) {
+        MedicalRecord changed = current != null ? current : previous;
+        Set<String> tags = new HashSet<>();
+        tags.add(lastNameTag(changed.getLastName()));
+        personRepository.getPersonByName(changed.getFirstName(), changed.getLastName())
+                .ifPresent(person -> addPersonTags(tags, person));
+        invalidate(tags);
+    }
+
+    @Override
+    public void onFireStationsChanged(String address, List<FireStation> previous, List<FireStation> current) {
+        Set<String> tags = new HashSet<>();
+        tags.add(addressTag(address));
+        previous.forEach(fireStation -> tags.add(stationTag(fireStation.getStation())));
+        current.forEach(fireStation -> tags.add(stationTag(fireStation.getStation())));
+        invalidate(tags);
+    }
+
+    @Override
+    public void onPersonsChanged(List<Person> previous, List<Person> current) {
+        Set<String> tags = new HashSet<>();
+        for (int i = 0; i < current.size(); i++) {
+            for (Person person : new Person[] {previous.get(i), current.get(i)}) {
+                if (person != null) {
+                    addPersonTags(tags, person);
+                    tags.add(cityTag(person.getCity()));
+                }
+            }
+        }
+        invalidate(tags);
+    }
+
+    @Override
+    public void onMedicalRecordsChanged(List<MedicalRecord> previous, List<MedicalRecord> current) {
+        Set<String> tags = new HashSet<>();
+        for (MedicalRecord changed : current) {
+            tags.add(lastNameTag(changed.getLastName()));
+            personRepository.getPersonByName(changed.getFirstName(), changed.getLastName())
+                    .ifPresent(person -> addPersonTags(tags, person));
+        }
+        invalidate(tags);
+    }
+
+    @Override
+    public void onFireStationsChanged(Map<String, List<FireStation>> previous, Map<String, List<FireStation>> current) {
+        Set<String> tags = new HashSet<>();
+        current.forEach((address, mappings) -> {
+            tags.add(addressTag(address));
+            previous.getOrDefault(address, List.of()).forEach(fireStation -> tags.add(stationTag(fireStation.getStation())));
+            mappings.forEach(fireStation -> tags.add(stationTag(fireStation.getStation())));
+        });
+        invalidate(tags);
+    }
+
+    @Override
+    public void onReload() {
+        clear();
+    }
+
+    /**
+     * Adds the tags of the alerts showing a person's details or medical data:
+     * their address, the stations covering it and their last name.
+     */
+    private void addPersonTags(Set<String> tags, Person person) {
+        tags.add(addressTag(person.getAddress()));
+        tags.add(lastNameTag(person.getLastName()));
+        for (FireStation fireStation : fireStationRepository.getFireStationsByAddress(person.getAddress())) {
+            tags.add(stationTag(fireStation.getStation()));
+        }
+    }
+
+    /**
+     * A cached result, the tags it depends on, the day its ages were computed and when it was last used.
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final Set<String> tags;
+        private final int day;
+        private volatile long lastUsed;
+
+        private Entry(Object value, Set<String> tags, int day) {
+            this.value = value;
+            this.tags = tags;
+            this.day = day;
+        }
+
+        /**
+         * Records a use of the entry, writing only if the clock moved since its last use.
+         *
+         * @param now The current value of the cache's clock.
+         */
+        private void touch(long now) {
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.safetynet.safetynet_alerts.controller;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,6 +20,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.safetynet.safetynet_alerts.cache.ResponseCache;
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
 import com.safetynet.safetynet_alerts.model.FireStation;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
@@ -28,6 +36,13 @@ import com.safetynet.safetynet_alerts.service.PersonService;
 /**
  * Main controller regrouping endpoints to manage persons, fire stations,
  * medical records, as well as specific requests (childAlert, phoneAlert, etc.).
+ * The results of the read endpoints are served through the {@link ResponseCache}.
+ * Requests are recorded by the access log filter; the handlers themselves only log at DEBUG.
+ * <p>
+ * When {@code response.streaming.enabled} is set, the potentially large /firestation and
+ * /flood/stations responses are instead written to the client while they are computed,
+ * as a {@link StreamedJson}, so that their size no longer bounds the memory a request needs.
+ * Streamed responses bypass the cache, so streaming is off by default.
  */
 @RestController
 public class AlertController {
@@ -37,6 +52,8 @@ public class AlertController {
     private final PersonService personService;
     private final FireStationService fireStationService;
     private final MedicalRecordService medicalRecordService;
+    private final ResponseCache responseCache;
+    private final boolean streamingEnabled;
 
     /**
      * Constructs the AlertController with all required services.
@@ -44,15 +61,21 @@ public class AlertController {
      * @param personService         The service handling Person operations.
      * @param fireStationService    The service handling FireStation operations.
      * @param medicalRecordService  The service handling MedicalRecord operations.
+     * @param responseCache         The cache of the read endpoint results.
+     * @param streamingEnabled      Whether large responses are streamed instead of built and cached.
      */
     public AlertController(
             PersonService personService,
             FireStationService fireStationService,
-            MedicalRecordService medicalRecordService
+            MedicalRecordService medicalRecordService,
+            ResponseCache responseCache,
+            @Value("${response.streaming.enabled:false}") boolean streamingEnabled
     ) {
         this.personService = personService;
         this.fireStationService = fireStationService;
         this.medicalRecordService = medicalRecordService;
+        this.responseCache = responseCache;
+        this.streamingEnabled = streamingEnabled;
     }
 
     /**
@@ -60,12 +83,17 @@ public class AlertController {
      * Endpoint: GET /firestation?stationNumber=...
      *
      * @param stationNumber The station number used to filter covered persons.
-     * @return A map containing persons' details and the count of adults/children.
+     * @return The persons' details and the count of adults/children, streamed if streaming is enabled.
      */
     @GetMapping("/firestation")
-    public ResponseEntity<Map<String, Object>> getFireStationInfo(@RequestParam String stationNumber) {
-        LOGGER.info("GET /firestation?stationNumber={}", stationNumber);
-        Map<String, Object> response = fireStationService.getPeopleCoveredByFireStation(stationNumber);
+    public ResponseEntity<?> getFireStationInfo(@RequestParam String stationNumber) {
+        LOGGER.debug("GET /firestation?stationNumber={}", stationNumber);
+        if (streamingEnabled) {
+            return ResponseEntity.ok(StreamedJson.of(generator -> fireStationService.writePeopleCoveredByFireStation(stationNumber, generator)));
+        }
+        FireStationCoverageDTO response = responseCache.get("/firestation", stationNumber,
+                List.of(ResponseCache.stationTag(stationNumber)),
+                () -> fireStationService.getPeopleCoveredByFireStation(stationNumber));
         return ResponseEntity.ok(response);
     }
 
@@ -74,12 +102,14 @@ public class AlertController {
      * Endpoint: GET /childAlert?address=...
      *
      * @param address The address used to filter the children.
-     * @return A list of string data about the children at the given address.
+     * @return The children at the given address, with their age and the other members of their household.
      */
     @GetMapping("/childAlert")
-    public ResponseEntity<List<String>> getChildrenByAddress(@RequestParam String address) {
-        LOGGER.info("GET /childAlert?address={}", address);
-        List<String> childrenInfo = personService.getChildrenByAddress(address);
+    public ResponseEntity<List<ChildAlertDTO>> getChildrenByAddress(@RequestParam String address) {
+        LOGGER.debug("GET /childAlert?address={}", address);
+        List<ChildAlertDTO> childrenInfo = responseCache.get("/childAlert", ResponseCache.normalize(address),
+                List.of(ResponseCache.addressTag(address)),
+                () -> personService.getChildrenByAddress(address));
         return ResponseEntity.ok(childrenInfo);
     }
 
@@ -92,8 +122,10 @@ public class AlertController {
      */
     @GetMapping("/phoneAlert")
     public ResponseEntity<List<String>> getPhoneNumbersByFireStation(@RequestParam("firestation") String firestation) {
-        LOGGER.info("GET /phoneAlert?firestation={}", firestation);
-        List<String> phones = personService.getPhoneNumbersByStation(firestation);
+        LOGGER.debug("GET /phoneAlert?firestation={}", firestation);
+        List<String> phones = responseCache.get("/phoneAlert", firestation,
+                List.of(ResponseCache.stationTag(firestation)),
+                () -> personService.getPhoneNumbersByStation(firestation));
         return ResponseEntity.ok(phones);
     }
 
@@ -106,9 +138,11 @@ public class AlertController {
      * @return A map with persons' details and station info.
      */
     @GetMapping("/fire")
-    public ResponseEntity<Map<String, Object>> getPersonsByAddressWithMedicalRecord(@RequestParam("address") String address) {
-        LOGGER.info("GET /fire?address={}", address);
-        Map<String, Object> result = personService.getPersonsByAddress(address);
+    public ResponseEntity<FireAlertDTO> getPersonsByAddressWithMedicalRecord(@RequestParam("address") String address) {
+        LOGGER.debug("GET /fire?address={}", address);
+        FireAlertDTO result = responseCache.get("/fire", ResponseCache.normalize(address),
+                List.of(ResponseCache.addressTag(address)),
+                () -> personService.getPersonsByAddress(address));
         return ResponseEntity.ok(result);
     }
 
@@ -117,12 +151,19 @@ public class AlertController {
      * Endpoint: GET /flood/stations?stations=...
      *
      * @param stations A list of station numbers.
-     * @return A map associating each address with a list of persons' data.
+     * @return A map associating each address with a list of persons' data, streamed if streaming is enabled.
      */
     @GetMapping("/flood/stations")
-    public ResponseEntity<Map<String, List<Map<String, Object>>>> getFloodStationsInfo(@RequestParam List<Integer> stations) {
-        LOGGER.info("GET /flood/stations?stations={}", stations);
-        Map<String, List<Map<String, Object>>> result = fireStationService.getFloodStationsInfo(stations);
+    public ResponseEntity<?> getFloodStationsInfo(@RequestParam List<Integer> stations) {
+        LOGGER.debug("GET /flood/stations?stations={}", stations);
+        if (streamingEnabled) {
+            return ResponseEntity.ok(StreamedJson.of(generator -> fireStationService.writeFloodStationsInfo(stations, generator)));
+        }
+        List<Integer> distinctStations = stations.stream().distinct().sorted().toList();
+        Map<String, List<ResidentDTO>> result = responseCache.get("/flood/stations",
+                distinctStations.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                distinctStations.stream().map(station -> ResponseCache.stationTag(String.valueOf(station))).toList(),
+                () -> fireStationService.getFloodStationsInfo(stations));
         return ResponseEntity.ok(result);
     }
 
@@ -134,9 +175,11 @@ public class AlertController {
      * @return A list of detailed info (age, email, medical data) for matching persons.
      */
     @GetMapping("/personInfo")
-    public ResponseEntity<List<Map<String, Object>>> getPersonsByLastName(@RequestParam("lastName") String lastName) {
-        LOGGER.info("GET /personInfo?lastName={}", lastName);
-        List<Map<String, Object>> info = personService.getPersonInfoByLastName(lastName);
+    public ResponseEntity<List<PersonInfoDTO>> getPersonsByLastName(@RequestParam("lastName") String lastName) {
+        LOGGER.debug("GET /personInfo?lastName={}", lastName);
+        List<PersonInfoDTO> info = responseCache.get("/personInfo", ResponseCache.normalize(lastName),
+                List.of(ResponseCache.lastNameTag(lastName)),
+                () -> personService.getPersonInfoByLastName(lastName));
         return ResponseEntity.ok(info);
     }
 
@@ -149,8 +192,10 @@ public class AlertController {
      */
     @GetMapping("/communityEmail")
     public ResponseEntity<List<String>> getEmailsByCity(@RequestParam String city) {
-        LOGGER.info("GET /communityEmail?city={}", city);
-        List<String> emails = personService.getEmailsByCity(city);
+        LOGGER.debug("GET /communityEmail?city={}", city);
+        List<String> emails = responseCache.get("/communityEmail", ResponseCache.normalize(city),
+                List.of(ResponseCache.cityTag(city)),
+                () -> personService.getEmailsByCity(city));
         return ResponseEntity.ok(emails);
     }
 
@@ -163,7 +208,7 @@ public class AlertController {
      */
     @PostMapping("/person")
     public ResponseEntity<String> addPerson(@RequestBody Person person) {
-        LOGGER.info("POST /person -> Adding person: {}", person);
+        LOGGER.debug("POST /person -> Adding person: {}", person);
         personService.addPerson(person);
         return ResponseEntity.status(HttpStatus.CREATED).body("Person added successfully.");
     }
@@ -177,7 +222,7 @@ public class AlertController {
      */
     @PutMapping("/person")
     public ResponseEntity<String> updatePerson(@RequestBody Person person) {
-        LOGGER.info("PUT /person -> Updating person: {}", person);
+        LOGGER.debug("PUT /person -> Updating person: {}", person);
         Optional<Person> updatedPerson = personService.updatePerson(person);
         if (updatedPerson.isPresent()) {
             return ResponseEntity.ok("Person updated successfully.");
@@ -199,7 +244,7 @@ public class AlertController {
             @RequestParam String firstName,
             @RequestParam String lastName
     ) {
-        LOGGER.info("DELETE /person -> Deleting person: {} {}", firstName, lastName);
+        LOGGER.debug("DELETE /person -> Deleting person: {} {}", firstName, lastName);
         boolean isDeleted = personService.deletePerson(firstName, lastName);
         if (isDeleted) {
             return ResponseEntity.ok("Person deleted successfully.");
@@ -213,11 +258,14 @@ public class AlertController {
      * Endpoint: POST /firestation
      *
      * @param fs The FireStation object containing address and station number.
-     * @return A ResponseEntity with a success message and HTTP status 201.
+     * @return A ResponseEntity with a success message and HTTP status 201, or 400 if the address is missing.
      */
     @PostMapping("/firestation")
     public ResponseEntity<String> addFireStation(@RequestBody FireStation fs) {
-        LOGGER.info("POST /firestation -> Adding fire station: {}", fs);
+        LOGGER.debug("POST /firestation -> Adding fire station: {}", fs);
+        if (fs.getAddress() == null || fs.getAddress().isBlank()) {
+            return ResponseEntity.badRequest().body("FireStation address is required.");
+        }
         fireStationService.addFireStation(fs);
         return ResponseEntity.status(HttpStatus.CREATED).body("FireStation added successfully.");
     }
@@ -235,7 +283,7 @@ public class AlertController {
             @RequestParam String address,
             @RequestParam String station
     ) {
-        LOGGER.info("PUT /firestation -> Updating fire station for address={} to station={}", address, station);
+        LOGGER.debug("PUT /firestation -> Updating fire station for address={} to station={}", address, station);
         boolean updated = fireStationService.updateFireStation(address, station);
         if (updated) {
             return ResponseEntity.ok("FireStation updated successfully.");
@@ -253,7 +301,7 @@ public class AlertController {
      */
     @DeleteMapping("/firestation")
     public ResponseEntity<String> deleteFireStation(@RequestParam String address) {
-        LOGGER.info("DELETE /firestation -> Deleting fire station for address={}", address);
+        LOGGER.debug("DELETE /firestation -> Deleting fire station for address={}", address);
         boolean removed = fireStationService.deleteFireStation(address);
         if (removed) {
             return ResponseEntity.ok("FireStation deleted successfully.");
@@ -271,7 +319,7 @@ public class AlertController {
      */
     @PostMapping("/medicalRecord")
     public ResponseEntity<String> addMedicalRecord(@RequestBody MedicalRecord mr) {
-        LOGGER.info("POST /medicalRecord -> Adding MedicalRecord: {}", mr);
+        LOGGER.debug("POST /medicalRecord -> Adding MedicalRecord: {}", mr);
         medicalRecordService.addOrUpdateMedicalRecord(mr);
         return ResponseEntity.status(HttpStatus.CREATED).body("MedicalRecord added successfully.");
     }
@@ -285,7 +333,7 @@ public class AlertController {
      */
     @PutMapping("/medicalRecord")
     public ResponseEntity<String> updateMedicalRecord(@RequestBody MedicalRecord mr) {
-        LOGGER.info("PUT /medicalRecord -> Updating MedicalRecord: {}", mr);
+        LOGGER.debug("PUT /medicalRecord -> Updating MedicalRecord: {}", mr);
         medicalRecordService.addOrUpdateMedicalRecord(mr);
         return ResponseEntity.ok("MedicalRecord updated successfully.");
     }
@@ -303,7 +351,7 @@ public class AlertController {
             @RequestParam String firstName,
             @RequestParam String lastName
     ) {
-        LOGGER.info("DELETE /medicalRecord -> Deleting MedicalRecord: {} {}", firstName, lastName);
+        LOGGER.debug("DELETE /medicalRecord -> Deleting MedicalRecord: {} {}", firstName, lastName);
         medicalRecordService.deleteMedicalRecord(firstName, lastName);
         return ResponseEntity.ok("MedicalRecord deleted successfully.");
     }
@@ -0,0 +1,141 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.service.FireStationService;
+import com.safetynet.safetynet_alerts.service.MedicalRecordService;
+import com.safetynet.safetynet_alerts.service.PersonService;
+
+/**
+ * Bulk import endpoints, to load many persons, fire station mappings or medical records in one request.
+ * <p>
+ * The body is either a JSON array ({@code application/json}) or one JSON object per line
+ * ({@code application/x-ndjson}); it is parsed as a stream, item by item. A body that is not
+ * valid JSON is rejected as a whole with 400 and nothing is applied. Otherwise every item is
+ * validated, the valid ones are applied in a single batch, with one journal write and one
+ * change notification, and the response lists the outcome of every item.
+ */
+@RestController
+public class BulkImportController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkImportController.class);
+
+    private final PersonService personService;
+    private final FireStationService fireStationService;
+    private final MedicalRecordService medicalRecordService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the BulkImportController with the services applying the imports.
+     *
+     * @param personService        The service handling Person operations.
+     * @param fireStationService   The service handling FireStation operations.
+     * @param medicalRecordService The service handling MedicalRecord operations.
+     * @param objectMapper         The ObjectMapper used to read the request bodies.
+     */
+    public BulkImportController(
+            PersonService personService,
+            FireStationService fireStationService,
+            MedicalRecordService medicalRecordService,
+            ObjectMapper objectMapper
+    ) {
+        this.personService = personService;
+        this.fireStationService = fireStationService;
+        this.medicalRecordService = medicalRecordService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds or updates a batch of persons.
+     * Endpoint: POST /person/bulk
+     *
+     * @param body The request body: a JSON array or NDJSON stream of persons.
+     * @return The outcome of every person.
+     * @throws IOException If the body cannot be read or is not valid JSON.
+     */
+    @PostMapping(value = "/person/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResultDTO> importPersons(InputStream body) throws IOException {
+        List<Person> persons = readItems(body, Person.class);
+        LOGGER.debug("POST /person/bulk -> Importing {} persons", persons.size());
+        return ResponseEntity.ok(personService.importPersons(persons));
+    }
+
+    /**
+     * Adds or updates a batch of FireStation mappings.
+     * Endpoint: POST /firestation/bulk
+     *
+     * @param body The request body: a JSON array or NDJSON stream of fire station mappings.
+     * @return The outcome of every mapping.
+     * @throws IOException If the body cannot be read or is not valid JSON.
+     */
+    @PostMapping(value = "/firestation/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResultDTO> importFireStations(InputStream body) throws IOException {
+        List<FireStation> fireStations = readItems(body, FireStation.class);
+        LOGGER.debug("POST /firestation/bulk -> Importing {} fire station mappings", fireStations.size());
+        return ResponseEntity.ok(fireStationService.importFireStations(fireStations));
+    }
+
+    /**
+     * Adds or updates a batch of MedicalRecords.
+     * Endpoint: POST /medicalRecord/bulk
+     *
+     * @param body The request body: a JSON array or NDJSON stream of medical records.
+     * @return The outcome of every record.
+     * @throws IOException If the body cannot be read or is not valid JSON.
+     */
+    @PostMapping(value = "/medicalRecord/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResultDTO> importMedicalRecords(InputStream body) throws IOException {
+        List<MedicalRecord> records = readItems(body, MedicalRecord.class);
+        LOGGER.debug("POST /medicalRecord/bulk -> Importing {} medical records", records.size());
+        return ResponseEntity.ok(medicalRecordService.importMedicalRecords(records));
+    }
+
+    /**
+     * Reads the items of a request body. A root-level array is unwrapped; otherwise the body is
+     * read as a sequence of root-level values, which covers one object per line.
+     *
+     * @param body The request body.
+     * @param type The type of the items.
+     * @param <T>  The type of the items.
+     * @return The items, in order.
+     * @throws IOException If the body cannot be read or is not valid JSON.
+     */
+    private <T> List<T> readItems(InputStream body, Class<T> type) throws IOException {
+        List<T> items = new ArrayList<>();
+        try (MappingIterator<T> iterator = objectMapper.readerFor(type).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                items.add(iterator.nextValue());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Handles bodies that are not valid JSON, or whose items are not objects of the expected type.
+     *
+     * @param ex The exception thrown while parsing the body.
+     * @return A 400 BAD_REQUEST response with an error message.
+     */
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<String> handleJsonProcessingException(JsonProcessingException ex) {
+        return ResponseEntity.badRequest().body("Invalid JSON payload: " + ex.getOriginalMessage());
+    }
+}
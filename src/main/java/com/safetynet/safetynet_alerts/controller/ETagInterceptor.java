@@ -0,0 +1,138 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.safetynet.safetynet_alerts.cache.ResponseCache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conditional GET support for the read endpoints of {@link AlertController}.
+ * <p>
+ * Before the handler runs, the entity tag of the requested result is derived from the
+ * versions the {@link ResponseCache} keeps for the stations, addresses, cities and last
+ * names it depends on. When the client's {@code If-None-Match} still matches, the request
+ * is answered with 304 Not Modified and the handler is skipped, so the result is neither
+ * computed nor serialized. Otherwise the tag is sent along with the response.
+ */
+@Component
+public class ETagInterceptor implements HandlerInterceptor {
+
+    private final ResponseCache responseCache;
+
+    /**
+     * Constructs the ETagInterceptor.
+     *
+     * @param responseCache The cache holding the data versions.
+     */
+    public ETagInterceptor(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        List<String> tags = tagsOf(request);
+        if (tags == null) {
+            return true;
+        }
+        String etag = responseCache.etag(tags);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Maps a read request to the tags of the data its result is computed from.
+     *
+     * @param request The request.
+     * @return The tags, or null if the request is not a read endpoint or lacks its parameter.
+     */
+    private List<String> tagsOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        switch (path) {
+            case "/firestation" -> {
+                String station = request.getParameter("stationNumber");
+                return station == null ? null : List.of(ResponseCache.stationTag(station));
+            }
+            case "/phoneAlert" -> {
+                String station = request.getParameter("firestation");
+                return station == null ? null : List.of(ResponseCache.stationTag(station));
+            }
+            case "/childAlert", "/fire" -> {
+                String address = request.getParameter("address");
+                return address == null ? null : List.of(ResponseCache.addressTag(address));
+            }
+            case "/personInfo" -> {
+                String lastName = request.getParameter("lastName");
+                return lastName == null ? null : List.of(ResponseCache.lastNameTag(lastName));
+            }
+            case "/communityEmail" -> {
+                String city = request.getParameter("city");
+                return city == null ? null : List.of(ResponseCache.cityTag(city));
+            }
+            case "/flood/stations" -> {
+                return floodTags(request.getParameterValues("stations"));
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @param values The {@code stations} parameter values, repeated or comma-separated.
+     * @return One tag per station, or null if a value is not a number and the request will be rejected.
+     */
+    private List<String> floodTags(String[] values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> tags = new ArrayList<>();
+        for (String value : values) {
+            for (String station : value.split(",")) {
+                try {
+                    tags.add(ResponseCache.stationTag(String.valueOf(Integer.parseInt(station.trim()))));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * @param ifNoneMatch The {@code If-None-Match} header, possibly null or listing several tags.
+     * @param etag        The current entity tag.
+     * @return True if the header matches the current tag, using the weak comparison.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,47 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.safetynet.safetynet_alerts.metrics.LatencyMetrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times every request to a mapped endpoint, under the name {@code "<method> <path pattern>"},
+ * e.g. {@code "GET /firestation"}. The time runs until the response has been written, so it
+ * includes serialization, and requests answered by a later interceptor, such as 304s, count too.
+ */
+@Component
+public class EndpointLatencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = EndpointLatencyInterceptor.class.getName() + ".start";
+
+    private final LatencyMetrics latencyMetrics;
+
+    /**
+     * Constructs the EndpointLatencyInterceptor.
+     *
+     * @param latencyMetrics The registry the latencies are recorded in.
+     */
+    public EndpointLatencyInterceptor(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (start instanceof Long startNanos && pattern != null) {
+            latencyMetrics.recordSince(request.getMethod() + " " + pattern, startNanos);
+        }
+    }
+}
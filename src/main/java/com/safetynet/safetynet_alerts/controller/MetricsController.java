@@ -0,0 +1,81 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safetynet.safetynet_alerts.metrics.LatencyMetrics;
+import com.safetynet.safetynet_alerts.metrics.LatencySnapshot;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Exposes the latency histograms of the endpoints, service methods and repository loads and saves.
+ * Unless {@code metrics.latency.local-only} is false, only requests from the local host are answered.
+ */
+@RestController
+public class MetricsController {
+
+    private final LatencyMetrics latencyMetrics;
+    private final boolean localOnly;
+
+    /**
+     * Constructs the MetricsController.
+     *
+     * @param latencyMetrics The registry of the histograms.
+     * @param localOnly      Whether requests from other hosts are refused.
+     */
+    public MetricsController(LatencyMetrics latencyMetrics, @Value("${metrics.latency.local-only:true}") boolean localOnly) {
+        this.latencyMetrics = latencyMetrics;
+        this.localOnly = localOnly;
+    }
+
+    /**
+     * Retrieves the count, mean, p50, p99, p999 and max latency, in microseconds, of every timed operation.
+     * Endpoint: GET /metrics/latency
+     *
+     * @param request The request, used to check where it comes from.
+     * @return The summaries keyed by operation name, or 403 if the request is not local.
+     */
+    @GetMapping("/metrics/latency")
+    public ResponseEntity<Map<String, LatencySnapshot>> getLatency(HttpServletRequest request) {
+        if (!isAllowed(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(latencyMetrics.snapshot());
+    }
+
+    /**
+     * Clears every histogram, e.g. before a load test.
+     * Endpoint: DELETE /metrics/latency
+     *
+     * @param request The request, used to check where it comes from.
+     * @return 204, or 403 if the request is not local.
+     */
+    @DeleteMapping("/metrics/latency")
+    public ResponseEntity<Void> resetLatency(HttpServletRequest request) {
+        if (!isAllowed(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        latencyMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isAllowed(HttpServletRequest request) {
+        if (!localOnly) {
+            return true;
+        }
+        try {
+            return InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
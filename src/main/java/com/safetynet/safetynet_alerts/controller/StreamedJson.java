@@ -0,0 +1,49 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A response body that is not built up front but written by a callback, element by element,
+ * to the generator Jackson serializes the response with. The message converter creates that
+ * generator directly on the response stream, so the body is sent to the client while it is
+ * being computed and the memory it needs does not depend on its size.
+ */
+public final class StreamedJson implements JsonSerializable {
+
+    /**
+     * Writes a whole JSON document to a generator.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    private final Writer writer;
+
+    private StreamedJson(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * @param writer Writes the document when the response is serialized.
+     * @return The streamed body.
+     */
+    public static StreamedJson of(Writer writer) {
+        return new StreamedJson(writer);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        writer.write(generator);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(generator, serializers);
+    }
+}
@@ -0,0 +1,61 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reports which threads the embedded server runs requests on.
+ * <p>
+ * Virtual threads are opt-in through {@code spring.threads.virtual.enabled}: Spring Boot then
+ * gives Tomcat a virtual thread per request instead of its bounded worker pool, so requests
+ * blocked on file I/O no longer hold a pool thread that reads could use. Spring Boot only
+ * honors the property on Java 21 or later and silently ignores it otherwise; this class makes
+ * that fallback visible at startup. Build with the {@code virtual-threads} Maven profile to
+ * target Java 21.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * First Java feature release with virtual threads.
+     */
+    public static final int MIN_JAVA_VERSION = 21;
+
+    private final boolean active;
+
+    /**
+     * Constructs the VirtualThreadConfig and logs the request threading mode.
+     *
+     * @param requested Whether virtual threads were requested.
+     */
+    public VirtualThreadConfig(@Value("${spring.threads.virtual.enabled:false}") boolean requested) {
+        this.active = requested && isSupported(Runtime.version().feature());
+        if (active) {
+            LOGGER.info("Serving requests on virtual threads");
+        } else if (requested) {
+            LOGGER.warn("spring.threads.virtual.enabled is set but the runtime is Java {}; virtual threads need Java {}, "
+                    + "requests are served on the platform thread pool", Runtime.version().feature(), MIN_JAVA_VERSION);
+        } else {
+            LOGGER.info("Serving requests on the platform thread pool");
+        }
+    }
+
+    /**
+     * @param javaVersion A Java feature release number.
+     * @return True if that release has virtual threads.
+     */
+    public static boolean isSupported(int javaVersion) {
+        return javaVersion >= MIN_JAVA_VERSION;
+    }
+
+    /**
+     * @return True if requests are served on virtual threads.
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
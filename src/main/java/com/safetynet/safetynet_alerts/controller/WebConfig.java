@@ -0,0 +1,41 @@
+package com.safetynet.safetynet_alerts.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link EndpointLatencyInterceptor} on every endpoint, then the {@link ETagInterceptor}
+ * on the read endpoints, unless {@code http.etag.enabled} is false.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EndpointLatencyInterceptor latencyInterceptor;
+    private final ETagInterceptor etagInterceptor;
+    private final boolean etagEnabled;
+
+    /**
+     * Constructs the WebConfig.
+     *
+     * @param latencyInterceptor The endpoint timing interceptor.
+     * @param etagInterceptor    The conditional GET interceptor.
+     * @param etagEnabled        Whether entity tags are emitted and checked.
+     */
+    public WebConfig(EndpointLatencyInterceptor latencyInterceptor, ETagInterceptor etagInterceptor,
+                     @Value("${http.etag.enabled:true}") boolean etagEnabled) {
+        this.latencyInterceptor = latencyInterceptor;
+        this.etagInterceptor = etagInterceptor;
+        this.etagEnabled = etagEnabled;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(latencyInterceptor);
+        if (etagEnabled) {
+            registry.addInterceptor(etagInterceptor).addPathPatterns(
+                    "/firestation", "/childAlert", "/phoneAlert", "/fire", "/flood/stations", "/personInfo", "/communityEmail");
+        }
+    }
+}
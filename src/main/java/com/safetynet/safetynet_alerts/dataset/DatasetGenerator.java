@@ -0,0 +1,427 @@
+package com.safetynet.safetynet_alerts.dataset;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+
+/**
+ * Generates synthetic, county-scale data files in the layout of {@code data.json}, so that
+ * heap sizing, startup and query costs can be measured on millions of persons.
+ * <p>
+ * Persons live in households of one to {@value #MAX_HOUSEHOLD_SIZE}, sized after a typical census
+ * distribution: singles, couples, and parents with children, all sharing the household's address,
+ * last name and landline. Neighbouring households share a last name, streets, cities and fire
+ * stations are laid out in contiguous blocks, and about one address in a hundred is also covered
+ * by the previous station, as in the bundled file. Medications and allergies are drawn from shared
+ * vocabularies, with medications growing more common with age.
+ * <p>
+ * The output depends only on the seed, the number of persons and the reference date the ages are
+ * computed from: every household is derived from its own random stream, so the three sections are
+ * written one after the other by regenerating the households instead of keeping them, and the file
+ * is streamed whatever its size.
+ */
+public class DatasetGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    public static final int MAX_HOUSEHOLD_SIZE = 6;
+
+    static final int MAX_AGE = 95;
+    static final int HOUSEHOLDS_PER_SURNAME = 8;
+    static final int HOUSEHOLDS_PER_STREET = 40;
+    static final int HOUSEHOLDS_PER_STATION = 2_000;
+    static final int HOUSEHOLDS_PER_CITY = 20_000;
+    static final int SHARED_COVERAGE_PER_THOUSAND = 10;
+
+    /** Share of households of 1 to 6 persons, in percent. */
+    private static final int[] HOUSEHOLD_SIZE_WEIGHTS = {28, 35, 15, 13, 6, 3};
+
+    private static final String[] FIRST_NAMES = {
+            "Allison", "Amelia", "Andrew", "Anna", "Arthur", "Ava", "Benjamin", "Brian", "Caleb", "Camila",
+            "Charlotte", "Chloe", "Clive", "Daniel", "David", "Dylan", "Eleanor", "Elena", "Eli", "Elijah",
+            "Ella", "Emily", "Emma", "Eric", "Ethan", "Evelyn", "Felicia", "Foster", "Gabriel", "Grace",
+            "Hannah", "Harper", "Henry", "Isaac", "Isabella", "Jack", "Jacob", "James", "Jamie", "Jayden",
+            "John", "Jonanathan", "Joseph", "Julia", "Kendrik", "Layla", "Leah", "Leo", "Levi", "Liam",
+            "Lily", "Logan", "Lucas", "Lucy", "Luke", "Madison", "Mason", "Mateo", "Maya", "Mia",
+            "Michael", "Mila", "Nathan", "Noah", "Nora", "Oliver", "Olivia", "Owen", "Peter", "Reginold",
+            "Riley", "Roger", "Ron", "Ruby", "Samuel", "Sarah", "Scarlett", "Sebastian", "Shawna", "Sofia",
+            "Sophia", "Stella", "Tenley", "Tessa", "Theo", "Thomas", "Tony", "Victoria", "Violet", "Warren",
+            "William", "Wyatt", "Zach", "Zoe"
+    };
+
+    /** Three-letter syllables, so that concatenations of them never collide. */
+    private static final String[] SYLLABLES = {
+            "bel", "bor", "cal", "cul", "dar", "dun", "fal", "fen", "gar", "gil", "hal", "har", "kel", "kin",
+            "lan", "lor", "mar", "mel", "nor", "nel", "pem", "por", "ral", "ren", "sal", "sen", "tal", "ton",
+            "val", "ver", "wal", "win"
+    };
+
+    private static final String[] STREET_TYPES = {"St", "Ave", "Rd", "Ln", "Dr", "Way", "Ct", "Pl"};
+
+    static final List<String> MEDICATIONS = List.of(
+            "aznol:60mg", "aznol:200mg", "aznol:350mg", "dodoxadin:30mg", "hydrapermazol:100mg",
+            "hydrapermazol:300mg", "hydrapermazol:400mg", "hydrapermazol:900mg", "ibupurin:200mg",
+            "noxidian:100mg", "noznazol:250mg", "pharmacol:2500mg", "pharmacol:5000mg", "terazine:10mg",
+            "terazine:500mg", "tetracyclaz:650mg", "thradox:700mg", "tradoxidine:400mg");
+
+    static final List<String> ALLERGIES = List.of(
+            "aznol", "illisoxian", "nillacilan", "peanut", "shellfish", "xilliathal", "pollen", "latex");
+
+    private static final DateTimeFormatter BIRTHDATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int HOUSEHOLD_STREAM = 1;
+    private static final int SURNAME_STREAM = 2;
+
+    private final long seed;
+    private final int persons;
+    private final LocalDate referenceDate;
+
+    /**
+     * Constructs a generator computing ages from today.
+     *
+     * @param seed    The seed the whole file is derived from.
+     * @param persons The number of persons to generate.
+     */
+    public DatasetGenerator(long seed, int persons) {
+        this(seed, persons, LocalDate.now());
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed          The seed the whole file is derived from.
+     * @param persons       The number of persons to generate.
+     * @param referenceDate The date ages are computed from; fix it to reproduce a file on another day.
+     */
+    public DatasetGenerator(long seed, int persons, LocalDate referenceDate) {
+        if (persons < 0) {
+            throw new IllegalArgumentException("persons must not be negative: " + persons);
+        }
+        this.seed = seed;
+        this.persons = persons;
+        this.referenceDate = referenceDate;
+    }
+
+    /**
+     * Writes the dataset to a file.
+     *
+     * @param file        The file to create or replace.
+     * @param jsonFactory The factory of the JSON generator, usually the application's ObjectMapper.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(File file, JsonFactory jsonFactory) throws IOException {
+        long start = System.nanoTime();
+        try (JsonGenerator generator = jsonFactory.createGenerator(file, JsonEncoding.UTF8)) {
+            write(generator);
+        }
+        LOGGER.info("Generated {} persons in {} in {} ms", persons, file.getPath(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Writes the dataset to a stream, which is left open.
+     *
+     * @param out         The stream to write to.
+     * @param jsonFactory The factory of the JSON generator, usually the application's ObjectMapper.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out, JsonFactory jsonFactory) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(generator);
+        }
+    }
+
+    /**
+     * Writes the {@code persons}, {@code firestations} and {@code medicalrecords} sections
+     * of a {@link JsonWrapper}, one household at a time.
+     */
+    private void write(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart("persons");
+        for (Households households = new Households(); households.hasNext(); ) {
+            Household household = households.next();
+            for (Member member : household.members()) {
+                generator.writeStartObject();
+                generator.writeStringField("firstName", member.firstName());
+                generator.writeStringField("lastName", household.lastName());
+                generator.writeStringField("address", household.address());
+                generator.writeStringField("city", household.city());
+                generator.writeStringField("zip", household.zip());
+                generator.writeStringField("phone", member.phone());
+                generator.writeStringField("email", member.email());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("firestations");
+        for (Households households = new Households(); households.hasNext(); ) {
+            Household household = households.next();
+            writeFireStation(generator, household.address(), household.station());
+            if (household.sharedStation() != null) {
+                writeFireStation(generator, household.address(), household.sharedStation());
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("medicalrecords");
+        for (Households households = new Households(); households.hasNext(); ) {
+            Household household = households.next();
+            for (Member member : household.members()) {
+                generator.writeStartObject();
+                generator.writeStringField("firstName", member.firstName());
+                generator.writeStringField("lastName", household.lastName());
+                generator.writeStringField("birthdate", member.birthdate());
+                writeStrings(generator, "medications", member.medications());
+                writeStrings(generator, "allergies", member.allergies());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void writeFireStation(JsonGenerator generator, String address, String station) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("address", address);
+        generator.writeStringField("station", station);
+        generator.writeEndObject();
+    }
+
+    private static void writeStrings(JsonGenerator generator, String field, List<String> values) throws IOException {
+        generator.writeArrayFieldStart(field);
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Walks the households in order until the requested number of persons is reached.
+     * Each household draws from its own random stream; only the first names, which must
+     * be unique among the households sharing a last name, carry state from one to the next.
+     */
+    private final class Households {
+
+        private int index;
+        private int remaining = persons;
+        private int[] firstNames;
+        private int nextFirstName;
+
+        boolean hasNext() {
+            return remaining > 0;
+        }
+
+        Household next() {
+            int household = index++;
+            SplittableRandom random = random(household, HOUSEHOLD_STREAM);
+            int size = Math.min(remaining, householdSize(random));
+            remaining -= size;
+
+            int surname = household / HOUSEHOLDS_PER_SURNAME;
+            if (household % HOUSEHOLDS_PER_SURNAME == 0) {
+                firstNames = shuffledFirstNames(random(surname, SURNAME_STREAM));
+                nextFirstName = 0;
+            }
+            String lastName = capitalize(syllableName(surname));
+
+            int street = household / HOUSEHOLDS_PER_STREET;
+            String address = (1000 + 2 * (household % HOUSEHOLDS_PER_STREET)) + " "
+                    + capitalize(syllableName(street / STREET_TYPES.length)) + " " + STREET_TYPES[street % STREET_TYPES.length];
+            int city = household / HOUSEHOLDS_PER_CITY;
+            int station = household / HOUSEHOLDS_PER_STATION + 1;
+            boolean shared = station > 1 && random.nextInt(1000) < SHARED_COVERAGE_PER_THOUSAND;
+            String landline = String.format("841-%03d-%04d", 100 + household / 10_000 % 900, household % 10_000);
+
+            List<Member> members = new ArrayList<>(size);
+            int[] ages = ages(size, random);
+            for (int i = 0; i < size; i++) {
+                String firstName = FIRST_NAMES[firstNames[nextFirstName++]];
+                boolean adult = ages[i] >= 18;
+                String phone = adult && random.nextInt(2) == 0 ? mobile(random) : landline;
+                members.add(new Member(
+                        firstName,
+                        phone,
+                        (firstName + "." + lastName).toLowerCase() + "@email.com",
+                        birthdate(ages[i], random),
+                        medications(ages[i], random),
+                        allergies(random)));
+            }
+            return new Household(lastName, address, capitalize(syllableName(city)) + "ville", String.valueOf(97451 + city),
+                    String.valueOf(station), shared ? String.valueOf(station - 1) : null, members);
+        }
+    }
+
+    private record Household(String lastName, String address, String city, String zip,
+                             String station, String sharedStation, List<Member> members) {
+    }
+
+    private record Member(String firstName, String phone, String email, String birthdate,
+                          List<String> medications, List<String> allergies) {
+    }
+
+    /**
+     * @return A random stream for one household or surname, independent of all the others.
+     */
+    private SplittableRandom random(int index, int stream) {
+        return new SplittableRandom(seed ^ (index * GOLDEN_GAMMA) ^ ((long) stream << 56));
+    }
+
+    private static int householdSize(SplittableRandom random) {
+        int draw = random.nextInt(100);
+        for (int size = 1; size <= HOUSEHOLD_SIZE_WEIGHTS.length; size++) {
+            draw -= HOUSEHOLD_SIZE_WEIGHTS[size - 1];
+            if (draw < 0) {
+                return size;
+            }
+        }
+        return MAX_HOUSEHOLD_SIZE;
+    }
+
+    /**
+     * Ages of the members of a household: a single adult, a couple, or two parents
+     * followed by children born after the younger parent turned eighteen.
+     */
+    private static int[] ages(int size, SplittableRandom random) {
+        int[] ages = new int[size];
+        if (size <= 2) {
+            ages[0] = adultAge(random);
+            if (size == 2) {
+                ages[1] = Math.min(MAX_AGE, Math.max(18, ages[0] + random.nextInt(-6, 7)));
+            }
+            return ages;
+        }
+        ages[0] = random.nextInt(25, 56);
+        ages[1] = Math.max(20, ages[0] + random.nextInt(-5, 6));
+        int oldestChild = Math.min(17, Math.min(ages[0], ages[1]) - 18);
+        for (int i = 2; i < size; i++) {
+            ages[i] = random.nextInt(0, oldestChild + 1);
+        }
+        return ages;
+    }
+
+    /**
+     * @return An adult age, roughly flat up to 65 then thinning out up to 95.
+     */
+    private static int adultAge(SplittableRandom random) {
+        int age = random.nextInt(18, MAX_AGE + 1);
+        return age > 65 && random.nextInt(3) > 0 ? random.nextInt(18, 66) : age;
+    }
+
+    private String birthdate(int age, SplittableRandom random) {
+        return referenceDate.minusYears(age).minusDays(random.nextInt(365)).format(BIRTHDATE_FORMAT);
+    }
+
+    private static String mobile(SplittableRandom random) {
+        return String.format("841-%03d-%04d", random.nextInt(100, 1000), random.nextInt(10_000));
+    }
+
+    /**
+     * @return Up to four distinct medications, each more likely with age.
+     */
+    private static List<String> medications(int age, SplittableRandom random) {
+        int percent = Math.min(80, 5 + age);
+        int count = 0;
+        for (int i = 0; i < 4; i++) {
+            if (random.nextInt(100) < percent / 2) {
+                count++;
+            }
+        }
+        return pick(MEDICATIONS, count, random);
+    }
+
+    /**
+     * @return No allergy for two persons in three, otherwise one or two.
+     */
+    private static List<String> allergies(SplittableRandom random) {
+        int draw = random.nextInt(100);
+        return pick(ALLERGIES, draw < 67 ? 0 : draw < 90 ? 1 : 2, random);
+    }
+
+    private static List<String> pick(List<String> vocabulary, int count, SplittableRandom random) {
+        if (count == 0) {
+            return List.of();
+        }
+        List<String> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            String value = vocabulary.get(random.nextInt(vocabulary.size()));
+            if (!picked.contains(value)) {
+                picked.add(value);
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * @return The indexes of all first names in random order, enough for every member of
+     *         the households sharing a last name to get a different one.
+     */
+    private static int[] shuffledFirstNames(SplittableRandom random) {
+        int[] order = new int[FIRST_NAMES.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Builds a distinct name of at least two syllables for every index, by writing the
+     * index in bijective base {@code SYLLABLES.length}.
+     */
+    static String syllableName(int index) {
+        StringBuilder name = new StringBuilder();
+        long value = (long) index + SYLLABLES.length + 1;
+        while (value > 0) {
+            value--;
+            name.insert(0, SYLLABLES[(int) (value % SYLLABLES.length)]);
+            value /= SYLLABLES.length;
+        }
+        return name.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Writes a dataset from the command line.
+     * <p>
+     * Usage: {@code DatasetGenerator <output-file> <persons> [seed] [reference-date yyyy-MM-dd]}, e.g.
+     * {@code mvn exec:java -Dexec.mainClass=com.safetynet.safetynet_alerts.dataset.DatasetGenerator
+     * -Dexec.args="target/county.json 1000000 42"}.
+     *
+     * @param args The output file, the number of persons, and optionally the seed and the reference date.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DatasetGenerator <output-file> <persons> [seed] [reference-date yyyy-MM-dd]");
+            System.exit(2);
+        }
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        LocalDate referenceDate = args.length > 3 ? LocalDate.parse(args[3]) : LocalDate.now();
+        new DatasetGenerator(seed, Integer.parseInt(args[1]), referenceDate).write(new File(args[0]), new JsonFactory());
+    }
+}
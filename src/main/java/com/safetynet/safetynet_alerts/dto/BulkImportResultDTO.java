@@ -0,0 +1,57 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Response of the bulk import endpoints: how many items were received, created, updated and
+ * rejected, and the outcome of every item, in the order they were received.
+ *
+ * @param received The number of items in the request.
+ * @param created  The number of items that did not exist before.
+ * @param updated  The number of items that replaced an existing one.
+ * @param rejected The number of items that failed validation and were not applied.
+ * @param results  The outcome of every item.
+ */
+@JsonPropertyOrder({"received", "created", "updated", "rejected", "results"})
+public record BulkImportResultDTO(int received, int created, int updated, int rejected, List<ItemResult> results) {
+
+    /**
+     * Outcome of one item.
+     */
+    public enum Status {
+        CREATED, UPDATED, REJECTED
+    }
+
+    /**
+     * The outcome of one item of a bulk import.
+     *
+     * @param index  The position of the item in the request, starting at 0.
+     * @param status What was done with the item.
+     * @param error  Why the item was rejected; absent otherwise.
+     */
+    @JsonPropertyOrder({"index", "status", "error"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ItemResult(int index, Status status, String error) {
+    }
+
+    /**
+     * @param results The outcome of every item, in request order.
+     * @return The DTO, with the counts taken from the results.
+     */
+    public static BulkImportResultDTO of(List<ItemResult> results) {
+        int created = 0;
+        int updated = 0;
+        for (ItemResult result : results) {
+            if (result.status() == Status.CREATED) {
+                created++;
+            } else if (result.status() == Status.UPDATED) {
+                updated++;
+            }
+        }
+        return new BulkImportResultDTO(results.size(), created, updated, results.size() - created - updated,
+                List.copyOf(results));
+    }
+}
@@ -0,0 +1,34 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * A child living at an address and the other members of the household, as listed by the /childAlert endpoint.
+ * <p>
+ * The endpoint has always answered with one sentence per child, so the DTO is serialized as that
+ * sentence: {@code "Child: Tenley Boyd, Age: 12, Other members: John Boyd, Jacob Boyd"}.
+ *
+ * @param fullName     The child's first and last name.
+ * @param age          The child's age.
+ * @param otherMembers The first and last names of the other members of the household.
+ */
+public record ChildAlertDTO(String fullName, int age, List<String> otherMembers) {
+
+    /**
+     * Copies the list of members, so that the response is immutable.
+     */
+    public ChildAlertDTO {
+        otherMembers = List.copyOf(otherMembers);
+    }
+
+    /**
+     * @return The sentence describing the child, which is the JSON form of this DTO.
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        return "Child: " + fullName + ", Age: " + age + ", Other members: " + String.join(", ", otherMembers);
+    }
+}
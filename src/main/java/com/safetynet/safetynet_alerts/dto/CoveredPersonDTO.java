@@ -0,0 +1,24 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * A person covered by a fire station, as listed by the /firestation endpoint.
+ *
+ * @param firstName The person's first name.
+ * @param lastName  The person's last name.
+ * @param address   The person's postal address.
+ * @param phone     The person's phone number.
+ */
+@JsonPropertyOrder({"firstName", "lastName", "address", "phone"})
+public record CoveredPersonDTO(String firstName, String lastName, String address, String phone) {
+
+    /**
+     * @param person The covered person.
+     * @return The DTO of the person.
+     */
+    public static CoveredPersonDTO of(Person person) {
+        return new CoveredPersonDTO(person.getFirstName(), person.getLastName(), person.getAddress(), person.getPhone());
+    }
+}
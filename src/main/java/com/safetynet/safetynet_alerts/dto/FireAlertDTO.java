@@ -0,0 +1,22 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Response of the /fire endpoint: the station covering an address and the residents of that address.
+ *
+ * @param firestationNumber The number of the station covering the address, or "N/A".
+ * @param residents         The residents of the address.
+ */
+@JsonPropertyOrder({"firestationNumber", "residents"})
+public record FireAlertDTO(String firestationNumber, List<ResidentDTO> residents) {
+
+    /**
+     * Copies the list of residents, so that the response is immutable.
+     */
+    public FireAlertDTO {
+        residents = List.copyOf(residents);
+    }
+}
@@ -0,0 +1,24 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Response of the /firestation endpoint: the persons covered by a station and how many
+ * of them are adults and children.
+ *
+ * @param persons    The covered persons.
+ * @param adultCount The number of covered persons older than 18.
+ * @param childCount The number of covered persons aged 18 or less.
+ */
+@JsonPropertyOrder({"persons", "adultCount", "childCount"})
+public record FireStationCoverageDTO(List<CoveredPersonDTO> persons, int adultCount, int childCount) {
+
+    /**
+     * Copies the list of persons, so that the response is immutable.
+     */
+    public FireStationCoverageDTO {
+        persons = List.copyOf(persons);
+    }
+}
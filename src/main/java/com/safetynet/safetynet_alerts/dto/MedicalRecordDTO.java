@@ -1,11 +1,9 @@
 package com.safetynet.safetynet_alerts.dto;
 
-import java.time.LocalDate;
-import java.time.Period;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 
+import com.safetynet.safetynet_alerts.model.AgeCalculator;
+
 /**
  * Data Transfer Object (DTO) representing a person's medical information,
  * typically used in API responses.
@@ -30,6 +28,11 @@ public class MedicalRecordDTO {
      */
     private List<String> allergies;
 
+    /**
+     * The birthdate parsed once by {@link AgeCalculator}.
+     */
+    private int birthdateKey;
+
     /**
      * Constructs a new MedicalRecordDTO with the specified details.
      *
@@ -38,7 +41,7 @@ public class MedicalRecordDTO {
      * @param allergies   A list of known allergies.
      */
     public MedicalRecordDTO(String birthdate, List<String> medications, List<String> allergies) {
-        this.birthdate = birthdate;
+        setBirthdate(birthdate);
         this.medications = medications;
         this.allergies = allergies;
     }
@@ -57,6 +60,7 @@ public class MedicalRecordDTO {
      */
     public void setBirthdate(String birthdate) {
         this.birthdate = birthdate;
+        this.birthdateKey = AgeCalculator.parseBirthdate(birthdate);
     }
 
     /**
@@ -97,12 +101,6 @@ public class MedicalRecordDTO {
      * @return The person's age in years, or -1 if the birthdate is invalid.
      */
     public int calculateAge() {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-            LocalDate birthDate = LocalDate.parse(this.birthdate, formatter);
-            return Period.between(birthDate, LocalDate.now()).getYears();
-        } catch (DateTimeParseException | NullPointerException e) {
-            return -1;
-        }
+        return AgeCalculator.age(birthdateKey);
     }
 }
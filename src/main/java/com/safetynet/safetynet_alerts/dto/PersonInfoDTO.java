@@ -0,0 +1,37 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * A person's contact and medical data, as listed by the /personInfo endpoint.
+ *
+ * @param firstName   The person's first name.
+ * @param lastName    The person's last name.
+ * @param address     The person's postal address.
+ * @param email       The person's email address.
+ * @param age         The person's age, or null if they have no medical record.
+ * @param medications The person's medications, empty if they have no medical record.
+ * @param allergies   The person's allergies, empty if they have no medical record.
+ */
+@JsonPropertyOrder({"firstName", "lastName", "address", "email", "age", "medications", "allergies"})
+public record PersonInfoDTO(String firstName, String lastName, String address, String email, Integer age,
+                            List<String> medications, List<String> allergies) {
+
+    /**
+     * @param person        The person.
+     * @param medicalRecord The person's medical record, or null if none is known.
+     * @return The DTO of the person.
+     */
+    public static PersonInfoDTO of(Person person, MedicalRecord medicalRecord) {
+        if (medicalRecord == null) {
+            return new PersonInfoDTO(person.getFirstName(), person.getLastName(), person.getAddress(), person.getEmail(),
+                    null, List.of(), List.of());
+        }
+        return new PersonInfoDTO(person.getFirstName(), person.getLastName(), person.getAddress(), person.getEmail(),
+                medicalRecord.getAge(), medicalRecord.getMedications(), medicalRecord.getAllergies());
+    }
+}
@@ -0,0 +1,35 @@
+package com.safetynet.safetynet_alerts.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * A resident together with their medical data, as listed by the /fire and /flood/stations endpoints.
+ *
+ * @param firstName   The resident's first name.
+ * @param lastName    The resident's last name.
+ * @param phone       The resident's phone number.
+ * @param age         The resident's age, or null if they have no medical record.
+ * @param medications The resident's medications, empty if they have no medical record.
+ * @param allergies   The resident's allergies, empty if they have no medical record.
+ */
+@JsonPropertyOrder({"firstName", "lastName", "phone", "age", "medications", "allergies"})
+public record ResidentDTO(String firstName, String lastName, String phone, Integer age,
+                          List<String> medications, List<String> allergies) {
+
+    /**
+     * @param person        The resident.
+     * @param medicalRecord The resident's medical record, or null if none is known.
+     * @return The DTO of the resident.
+     */
+    public static ResidentDTO of(Person person, MedicalRecord medicalRecord) {
+        if (medicalRecord == null) {
+            return new ResidentDTO(person.getFirstName(), person.getLastName(), person.getPhone(), null, List.of(), List.of());
+        }
+        return new ResidentDTO(person.getFirstName(), person.getLastName(), person.getPhone(),
+                medicalRecord.getAge(), medicalRecord.getMedications(), medicalRecord.getAllergies());
+    }
+}
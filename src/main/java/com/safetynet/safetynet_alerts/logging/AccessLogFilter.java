@@ -0,0 +1,69 @@
+package com.safetynet.safetynet_alerts.logging;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes one structured line per request to the {@code access} logger:
+ * {@code method=GET path=/firestation query="stationNumber=3" status=200 micros=412 rate=0.1}.
+ * <p>
+ * Requests are sampled per endpoint by the {@link AccessLogSampler}; the rate is part of the
+ * line so that counts can be scaled back. The line is passed as a parameterized message, and the
+ * {@code access} logger is asynchronous (see {@code log4j2.xml}): the request thread only fills a
+ * ring buffer slot, while formatting and the file write happen on the logging thread.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("access");
+
+    private final boolean enabled;
+    private final AccessLogSampler sampler;
+
+    /**
+     * Constructs the AccessLogFilter.
+     *
+     * @param enabled       Whether requests are logged at all.
+     * @param defaultRate   The sampling rate of the endpoints without a specific rate.
+     * @param endpointRates Comma-separated {@code path=rate} pairs.
+     */
+    public AccessLogFilter(@Value("${access-log.enabled:true}") boolean enabled,
+                           @Value("${access-log.sample-rate:1.0}") double defaultRate,
+                           @Value("${access-log.endpoint-sample-rates:}") String endpointRates) {
+        this.enabled = enabled;
+        this.sampler = new AccessLogSampler(defaultRate, endpointRates);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled || !ACCESS.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            if (sampler.shouldLog(path, status)) {
+                long micros = (System.nanoTime() - start) / 1_000;
+                String query = request.getQueryString();
+                ACCESS.info("method={} path={} query=\"{}\" status={} micros={} rate={}",
+                        request.getMethod(), path, query == null ? "" : query, status, micros, sampler.rateFor(path));
+            }
+        }
+    }
+}
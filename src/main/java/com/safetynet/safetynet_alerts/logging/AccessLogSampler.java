@@ -0,0 +1,78 @@
+package com.safetynet.safetynet_alerts.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which requests are written to the access log.
+ * <p>
+ * Each endpoint path has a sampling rate between 0 (never logged) and 1 (always logged),
+ * falling back to a default rate. Failed requests (status 400 and above) are always logged.
+ */
+public class AccessLogSampler {
+
+    private final double defaultRate;
+    private final Map<String, Double> rates;
+
+    /**
+     * Constructs the sampler.
+     *
+     * @param defaultRate   The rate of the endpoints without a specific rate.
+     * @param endpointRates Comma-separated {@code path=rate} pairs, e.g. {@code /phoneAlert=0.1,/fire=0.5}; may be empty.
+     * @throws IllegalArgumentException If a pair is malformed or a rate is outside [0, 1].
+     */
+    public AccessLogSampler(double defaultRate, String endpointRates) {
+        this.defaultRate = checkRate(defaultRate);
+        this.rates = parse(endpointRates);
+    }
+
+    private static Map<String, Double> parse(String endpointRates) {
+        Map<String, Double> rates = new HashMap<>();
+        if (endpointRates == null || endpointRates.isBlank()) {
+            return rates;
+        }
+        for (String pair : endpointRates.split(",")) {
+            int separator = pair.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid access log sample rate: " + pair.trim());
+            }
+            rates.put(pair.substring(0, separator).trim(), checkRate(Double.parseDouble(pair.substring(separator + 1).trim())));
+        }
+        return rates;
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Access log sample rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+
+    /**
+     * @param path The request path.
+     * @return The sampling rate of the path.
+     */
+    public double rateFor(String path) {
+        return rates.getOrDefault(path, defaultRate);
+    }
+
+    /**
+     * @param path   The request path.
+     * @param status The response status.
+     * @return True if the request should be logged, drawing at random for sampled paths.
+     */
+    public boolean shouldLog(String path, int status) {
+        return shouldLog(path, status, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param path   The request path.
+     * @param status The response status.
+     * @param draw   A value in [0, 1) drawn uniformly at random.
+     * @return True if the request should be logged.
+     */
+    public boolean shouldLog(String path, int status, double draw) {
+        return status >= 400 || draw < rateFor(path);
+    }
+}
@@ -0,0 +1,57 @@
+package com.safetynet.safetynet_alerts.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link LatencyHistogram}s: one per endpoint, service method, repository load or save.
+ * <p>
+ * The registry is a bean injected into the {@code JsonDataStore}, which exists before every
+ * repository, so that the loads done at startup are recorded too. Histograms are never removed,
+ * so that callers may keep the histogram they record into.
+ */
+public class LatencyMetrics {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * @param name The name of the timed operation.
+     * @return Its histogram, created on first use.
+     */
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} for an operation.
+     *
+     * @param name       The name of the timed operation.
+     * @param startNanos The {@link System#nanoTime()} at which the operation started.
+     */
+    public void recordSince(String name, long startNanos) {
+        histogram(name).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return A summary of every histogram that recorded a latency since the last reset, sorted by name.
+     */
+    public Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> snapshot = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            LatencySnapshot summary = histogram.snapshot();
+            if (summary.count() > 0) {
+                snapshot.put(name, summary);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * Empties every histogram, keeping it registered.
+     */
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
@@ -0,0 +1,49 @@
+package com.safetynet.safetynet_alerts.metrics;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Summary of a {@link LatencyHistogram}, in nanoseconds. It is served in microseconds.
+ *
+ * @param count     The number of recorded latencies.
+ * @param meanNanos The mean latency.
+ * @param p50Nanos  The median latency.
+ * @param p99Nanos  The 99th percentile.
+ * @param p999Nanos The 99.9th percentile.
+ * @param maxNanos  The highest latency.
+ */
+@JsonIgnoreProperties({"meanNanos", "p50Nanos", "p99Nanos", "p999Nanos", "maxNanos"})
+@JsonPropertyOrder({"count", "meanMicros", "p50Micros", "p99Micros", "p999Micros", "maxMicros"})
+public record LatencySnapshot(long count, long meanNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+
+    @JsonProperty("meanMicros")
+    double meanMicros() {
+        return micros(meanNanos);
+    }
+
+    @JsonProperty("p50Micros")
+    double p50Micros() {
+        return micros(p50Nanos);
+    }
+
+    @JsonProperty("p99Micros")
+    double p99Micros() {
+        return micros(p99Nanos);
+    }
+
+    @JsonProperty("p999Micros")
+    double p999Micros() {
+        return micros(p999Nanos);
+    }
+
+    @JsonProperty("maxMicros")
+    double maxMicros() {
+        return micros(maxNanos);
+    }
+
+    private static double micros(long nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.safetynet.safetynet_alerts.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the {@link LatencyMetrics} shared by the data store, the repositories, the services
+ * and the endpoints.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @return The latency registry.
+     */
+    @Bean
+    public LatencyMetrics latencyMetrics() {
+        return new LatencyMetrics();
+    }
+}
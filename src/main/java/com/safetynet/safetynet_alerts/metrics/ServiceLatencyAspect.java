@@ -0,0 +1,53 @@
+package com.safetynet.safetynet_alerts.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the services, e.g. {@code PersonService.getChildrenByAddress}.
+ * The histogram of each method is looked up once, by join point, rather than by name on each call.
+ */
+@Aspect
+@Component
+public class ServiceLatencyAspect {
+
+    private final LatencyMetrics latencyMetrics;
+    private final Map<JoinPoint.StaticPart, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the ServiceLatencyAspect.
+     *
+     * @param latencyMetrics The registry the latencies are recorded in.
+     */
+    public ServiceLatencyAspect(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    /**
+     * Records the duration of a service call, including when it throws.
+     *
+     * @param joinPoint The service call.
+     * @return The result of the call.
+     * @throws Throwable Whatever the call throws.
+     */
+    @Around("execution(public * com.safetynet.safetynet_alerts.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            histograms.computeIfAbsent(joinPoint.getStaticPart(), this::histogramOf).record(System.nanoTime() - start);
+        }
+    }
+
+    private LatencyHistogram histogramOf(JoinPoint.StaticPart staticPart) {
+        return latencyMetrics.histogram(staticPart.getSignature().getDeclaringType().getSimpleName()
+                + "." + staticPart.getSignature().getName());
+    }
+}
@@ -0,0 +1,93 @@
+package com.safetynet.safetynet_alerts.model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Computes ages from birth dates parsed once into a packed {@code yyyyMMdd} int.
+ * <p>
+ * With both dates packed that way, the number of full years between them is simply
+ * {@code (today - birth) / 10000}, so an age costs one subtraction and one division.
+ * Today's packed date is cached and only recomputed once the clock passes midnight.
+ */
+public final class AgeCalculator {
+
+    /**
+     * Packed value of a missing or unparseable birth date.
+     */
+    public static final int INVALID_DATE = -1;
+
+    private static final DateTimeFormatter BIRTHDATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private static volatile Today today = Today.of(LocalDate.now());
+
+    private AgeCalculator() {
+    }
+
+    /**
+     * Parses a birth date in MM/dd/yyyy format.
+     *
+     * @param birthdate The birth date, possibly null.
+     * @return The packed {@code yyyyMMdd} date, or {@link #INVALID_DATE} if it cannot be parsed.
+     */
+    public static int parseBirthdate(String birthdate) {
+        if (birthdate == null) {
+            return INVALID_DATE;
+        }
+        try {
+            return pack(LocalDate.parse(birthdate, BIRTHDATE_FORMAT));
+        } catch (DateTimeParseException e) {
+            return INVALID_DATE;
+        }
+    }
+
+    /**
+     * @param birthdateKey A packed birth date returned by {@link #parseBirthdate(String)}.
+     * @return The age in full years today, or -1 if the birth date is invalid.
+     */
+    public static int age(int birthdateKey) {
+        return ageAt(birthdateKey, today());
+    }
+
+    /**
+     * @return Today's date packed as {@code yyyyMMdd}; views holding ages compare it to know when they expire.
+     */
+    public static int today() {
+        Today current = today;
+        if (System.currentTimeMillis() >= current.nextMidnightMillis) {
+            current = Today.of(LocalDate.now());
+            today = current;
+        }
+        return current.key;
+    }
+
+    /**
+     * @param birthdateKey A packed birth date returned by {@link #parseBirthdate(String)}.
+     * @param date         The date at which the age is computed.
+     * @return The age in full years on the given date, or -1 if the birth date is invalid.
+     */
+    public static int ageOn(int birthdateKey, LocalDate date) {
+        return ageAt(birthdateKey, pack(date));
+    }
+
+    private static int ageAt(int birthdateKey, int dateKey) {
+        return birthdateKey == INVALID_DATE ? -1 : (dateKey - birthdateKey) / 10000;
+    }
+
+    private static int pack(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Today's packed date and the instant it stops being valid.
+     */
+    private record Today(int key, long nextMidnightMillis) {
+
+        static Today of(LocalDate date) {
+            long nextMidnight = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return new Today(pack(date), nextMidnight);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.safetynet.safetynet_alerts.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable view of the persons living at one address, each joined to their medical record.
+ * <p>
+ * Households are rebuilt member by member as persons and medical records change, so that
+ * address-based alerts read one household instead of joining persons to records per request.
+ */
+public class Household {
+
+    private final String address;
+    private final List<Member> members;
+
+    /**
+     * Constructs a Household.
+     *
+     * @param address The address shared by the members.
+     * @param members The persons living at the address.
+     */
+    public Household(String address, List<Member> members) {
+        this.address = address;
+        this.members = List.copyOf(members);
+    }
+
+    /**
+     * @param address The address.
+     * @return A household without members.
+     */
+    public static Household empty(String address) {
+        return new Household(address, List.of());
+    }
+
+    /**
+     * @return The address shared by the members.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * @return An unmodifiable list of the persons living at the address.
+     */
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    /**
+     * @return True if nobody lives at the address.
+     */
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * Returns a copy of this household in which the member with the same name is replaced, or the member added.
+     *
+     * @param member The member to store.
+     * @return The updated household.
+     */
+    public Household with(Member member) {
+        List<Member> updated = new ArrayList<>(members.size() + 1);
+        boolean replaced = false;
+        for (Member existing : members) {
+            if (existing.key.equals(member.key)) {
+                updated.add(member);
+                replaced = true;
+            } else {
+                updated.add(existing);
+            }
+        }
+        if (!replaced) {
+            updated.add(member);
+        }
+        return new Household(address, updated);
+    }
+
+    /**
+     * Returns a copy of this household without the member of the given name.
+     *
+     * @param firstName The member's first name.
+     * @param lastName  The member's last name.
+     * @return The updated household.
+     */
+    public Household without(String firstName, String lastName) {
+        String key = Member.key(firstName, lastName);
+        List<Member> updated = new ArrayList<>(members.size());
+        for (Member existing : members) {
+            if (!existing.key.equals(key)) {
+                updated.add(existing);
+            }
+        }
+        return new Household(address, updated);
+    }
+
+    /**
+     * A person of the household together with their medical record, if any.
+     */
+    public static class Member {
+
+        private final String key;
+        private final String fullName;
+        private final Person person;
+        private final MedicalRecord medicalRecord;
+
+        /**
+         * Constructs a Member.
+         *
+         * @param person        The person.
+         * @param medicalRecord The person's medical record, or null if none is known.
+         */
+        public Member(Person person, MedicalRecord medicalRecord) {
+            this.key = key(person.getFirstName(), person.getLastName());
+            this.fullName = person.getFirstName() + " " + person.getLastName();
+            this.person = person;
+            this.medicalRecord = medicalRecord;
+        }
+
+        private static String key(String firstName, String lastName) {
+            return firstName.trim().toLowerCase() + "_" + lastName.trim().toLowerCase();
+        }
+
+        /**
+         * @return The person.
+         */
+        public Person getPerson() {
+            return person;
+        }
+
+        /**
+         * @return The person's medical record, or null if none is known.
+         */
+        public MedicalRecord getMedicalRecord() {
+            return medicalRecord;
+        }
+
+        /**
+         * @return "firstName lastName".
+         */
+        public String getFullName() {
+            return fullName;
+        }
+
+        /**
+         * @return The age from the medical record, or -1 if there is none or its birth date is invalid.
+         */
+        public int getAge() {
+            return medicalRecord == null ? -1 : medicalRecord.getAge();
+        }
+
+        /**
+         * @return True if the member has a known age of 18 or less.
+         */
+        public boolean isChild() {
+            int age = getAge();
+            return age >= 0 && age <= 18;
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package com.safetynet.safetynet_alerts.model;
 
-import java.time.LocalDate;
-import java.time.Period;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -19,6 +15,7 @@ public class MedicalRecord {
     private String birthdate;
     private List<String> medications;
     private List<String> allergies;
+    private int birthdateKey = AgeCalculator.INVALID_DATE;
 
     /**
      * Default constructor required for serialization/deserialization.
@@ -43,7 +40,7 @@ public class MedicalRecord {
     ) {
         this.firstName = firstName;
         this.lastName = lastName;
-        this.birthdate = birthdate;
+        setBirthdate(birthdate);
         this.medications = medications;
         this.allergies = allergies;
     }
@@ -88,12 +85,13 @@ public class MedicalRecord {
     }
 
     /**
-     * Sets the person's birth date.
+     * Sets the person's birth date and parses it once for {@link #getAge()}.
      *
      * @param birthdate The birth date to set (MM/dd/yyyy).
      */
     public void setBirthdate(String birthdate) {
         this.birthdate = birthdate;
+        this.birthdateKey = AgeCalculator.parseBirthdate(birthdate);
     }
 
     /**
@@ -129,18 +127,12 @@ public class MedicalRecord {
     }
 
     /**
-     * Calculates the person's age based on the birth date.
+     * Calculates the person's age from the birth date parsed when it was set.
      *
      * @return The person's age, or -1 if the date is invalid.
      */
     public int getAge() {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-            LocalDate birthDate = LocalDate.parse(birthdate, formatter);
-            return Period.between(birthDate, LocalDate.now()).getYears();
-        } catch (DateTimeParseException | NullPointerException e) {
-            return -1;
-        }
+        return AgeCalculator.age(birthdateKey);
     }
 
     /**
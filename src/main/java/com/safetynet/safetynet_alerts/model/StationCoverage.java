@@ -0,0 +1,111 @@
+package com.safetynet.safetynet_alerts.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable aggregate of the persons covered by one fire station: the residents of every
+ * covered address, their distinct phone numbers and how many of them are adults or children.
+ * <p>
+ * Ages depend on the current date, so an aggregate records the day it was computed on and
+ * is only valid until midnight.
+ */
+public class StationCoverage {
+
+    private final String stationNumber;
+    private final List<Person> residents;
+    private final List<String> phones;
+    private final int adultCount;
+    private final int childCount;
+    private final int day;
+
+    private StationCoverage(String stationNumber, List<Person> residents, List<String> phones,
+                            int adultCount, int childCount, int day) {
+        this.stationNumber = stationNumber;
+        this.residents = residents;
+        this.phones = phones;
+        this.adultCount = adultCount;
+        this.childCount = childCount;
+        this.day = day;
+    }
+
+    /**
+     * Aggregates the households covered by a station.
+     * Members without a known age are listed but counted neither as adults nor as children.
+     *
+     * @param stationNumber The station number.
+     * @param households    The households of the addresses covered by the station.
+     * @return The aggregate, valid for today.
+     */
+    public static StationCoverage of(String stationNumber, List<Household> households) {
+        int day = AgeCalculator.today();
+        List<Person> residents = new ArrayList<>();
+        Set<String> phones = new LinkedHashSet<>();
+        int adultCount = 0;
+        int childCount = 0;
+        for (Household household : households) {
+            for (Household.Member member : household.getMembers()) {
+                residents.add(member.getPerson());
+                if (member.getPerson().getPhone() != null) {
+                    phones.add(member.getPerson().getPhone());
+                }
+                if (member.isChild()) {
+                    childCount++;
+                } else if (member.getAge() > 18) {
+                    adultCount++;
+                }
+            }
+        }
+        return new StationCoverage(stationNumber, List.copyOf(residents), List.copyOf(phones), adultCount, childCount, day);
+    }
+
+    /**
+     * @return The station number.
+     */
+    public String getStationNumber() {
+        return stationNumber;
+    }
+
+    /**
+     * @return An unmodifiable list of the persons living at the covered addresses.
+     */
+    public List<Person> getResidents() {
+        return residents;
+    }
+
+    /**
+     * @return An unmodifiable list of the distinct phone numbers of the residents.
+     */
+    public List<String> getPhones() {
+        return phones;
+    }
+
+    /**
+     * @return The number of residents older than 18.
+     */
+    public int getAdultCount() {
+        return adultCount;
+    }
+
+    /**
+     * @return The number of residents aged 18 or less.
+     */
+    public int getChildCount() {
+        return childCount;
+    }
+
+    /**
+     * @return True if the ages were computed today, false once the date has rolled over.
+     */
+    public boolean isCurrent() {
+        return day == AgeCalculator.today();
+    }
+
+    @Override
+    public String toString() {
+        return "StationCoverage{station=" + stationNumber + ", residents=" + residents.size()
+                + ", adults=" + adultCount + ", children=" + childCount + "}";
+    }
+}
@@ -0,0 +1,260 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * Compact binary copy of the JSON data file, read by memory-mapping it instead of parsing JSON.
+ * <p>
+ * Layout (big-endian): a header with a magic number, the format version and the size and
+ * modification time of the JSON file it was built from; a table of distinct strings, each
+ * written once as a length-prefixed UTF-8 run; then the persons, fire stations and medical
+ * records, each field being an index into that table ({@code -1} for null). Repeated values
+ * such as cities, addresses or medications therefore share one String instance once loaded.
+ * <p>
+ * The copy is stale as soon as the JSON file's size or modification time differs from the
+ * header, in which case {@link #read(File)} returns empty and the caller parses the JSON.
+ */
+public class BinarySnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinarySnapshot.class);
+
+    private static final int MAGIC = 0x534E4231; // "SNB1"
+    private static final int VERSION = 1;
+    private static final int NULL_INDEX = -1;
+
+    private final Path snapshotPath;
+
+    /**
+     * Constructs the BinarySnapshot.
+     *
+     * @param snapshotPath The binary file, usually the JSON data file path with a {@code .bin} suffix.
+     */
+    public BinarySnapshot(Path snapshotPath) {
+        this.snapshotPath = snapshotPath.toAbsolutePath();
+    }
+
+    /**
+     * Maps the binary file and decodes it, provided it matches the given JSON file.
+     *
+     * @param jsonFile The JSON data file the snapshot must have been built from.
+     * @return The decoded data, or empty if the binary file is missing, stale or unreadable.
+     */
+    public Optional<JsonWrapper> read(File jsonFile) {
+        if (!Files.exists(snapshotPath) || !jsonFile.exists()) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LOGGER.warn("Ignoring binary snapshot {}: unknown format.", snapshotPath);
+                return Optional.empty();
+            }
+            if (buffer.getLong() != jsonFile.length() || buffer.getLong() != jsonFile.lastModified()) {
+                LOGGER.info("Binary snapshot {} is stale, falling back to JSON.", snapshotPath);
+                return Optional.empty();
+            }
+            return Optional.of(decode(buffer));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring unreadable binary snapshot {}", snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static JsonWrapper decode(MappedByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int personCount = buffer.getInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new Person(
+                    string(strings, buffer), string(strings, buffer), string(strings, buffer), string(strings, buffer),
+                    string(strings, buffer), string(strings, buffer), string(strings, buffer)));
+        }
+
+        int fireStationCount = buffer.getInt();
+        List<FireStation> fireStations = new ArrayList<>(fireStationCount);
+        for (int i = 0; i < fireStationCount; i++) {
+            fireStations.add(new FireStation(string(strings, buffer), string(strings, buffer)));
+        }
+
+        int medicalRecordCount = buffer.getInt();
+        List<MedicalRecord> medicalRecords = new ArrayList<>(medicalRecordCount);
+        for (int i = 0; i < medicalRecordCount; i++) {
+            String firstName = string(strings, buffer);
+            String lastName = string(strings, buffer);
+            String birthdate = string(strings, buffer);
+            List<String> medications = stringList(strings, buffer);
+            List<String> allergies = stringList(strings, buffer);
+            medicalRecords.add(new MedicalRecord(firstName, lastName, birthdate, medications, allergies));
+        }
+
+        JsonWrapper wrapper = new JsonWrapper();
+        wrapper.setPersons(persons);
+        wrapper.setFirestations(fireStations);
+        wrapper.setMedicalrecords(medicalRecords);
+        return wrapper;
+    }
+
+    private static String string(String[] strings, MappedByteBuffer buffer) {
+        int index = buffer.getInt();
+        return index == NULL_INDEX ? null : strings[index];
+    }
+
+    private static List<String> stringList(String[] strings, MappedByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count == NULL_INDEX) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(string(strings, buffer));
+        }
+        return values;
+    }
+
+    /**
+     * Writes the binary copy of data that has just been saved to, or loaded from, the JSON file.
+     * The file is replaced atomically; failures are logged and leave the JSON path as the only source.
+     *
+     * @param data     The persons, fire stations and medical records held by the JSON file.
+     * @param jsonFile The JSON file, whose current size and modification time are recorded.
+     */
+    public void write(JsonWrapper data, File jsonFile) {
+        try {
+            Path tempPath = Files.createTempFile(snapshotPath.getParent(), snapshotPath.getFileName() + ".", ".tmp");
+            try {
+                try (FileOutputStream fileOut = new FileOutputStream(tempPath.toFile());
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 64 * 1024))) {
+                    encode(data, jsonFile, out);
+                    out.flush();
+                    fileOut.getChannel().force(true);
+                }
+                try {
+                    Files.move(tempPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to write binary snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private static void encode(JsonWrapper data, File jsonFile, DataOutputStream out) throws IOException {
+        StringTable table = new StringTable();
+        int[][] persons = new int[data.getPersons().size()][];
+        for (int i = 0; i < persons.length; i++) {
+            Person p = data.getPersons().get(i);
+            persons[i] = new int[] {
+                    table.index(p.getFirstName()), table.index(p.getLastName()), table.index(p.getAddress()),
+                    table.index(p.getCity()), table.index(p.getZip()), table.index(p.getPhone()), table.index(p.getEmail())
+            };
+        }
+        int[][] fireStations = new int[data.getFirestations().size()][];
+        for (int i = 0; i < fireStations.length; i++) {
+            FireStation fs = data.getFirestations().get(i);
+            fireStations[i] = new int[] {table.index(fs.getAddress()), table.index(fs.getStation())};
+        }
+        int[][] medicalRecords = new int[data.getMedicalrecords().size()][];
+        for (int i = 0; i < medicalRecords.length; i++) {
+            MedicalRecord mr = data.getMedicalrecords().get(i);
+            List<String> medications = mr.getMedications();
+            List<String> allergies = mr.getAllergies();
+            int[] record = new int[5 + size(medications) + size(allergies)];
+            int pos = 0;
+            record[pos++] = table.index(mr.getFirstName());
+            record[pos++] = table.index(mr.getLastName());
+            record[pos++] = table.index(mr.getBirthdate());
+            record[pos++] = medications == null ? NULL_INDEX : medications.size();
+            for (int j = 0; j < size(medications); j++) {
+                record[pos++] = table.index(medications.get(j));
+            }
+            record[pos++] = allergies == null ? NULL_INDEX : allergies.size();
+            for (int j = 0; j < size(allergies); j++) {
+                record[pos++] = table.index(allergies.get(j));
+            }
+            medicalRecords[i] = record;
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(jsonFile.length());
+        out.writeLong(jsonFile.lastModified());
+        out.writeInt(table.strings.size());
+        for (String s : table.strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        for (int[][] section : new int[][][] {persons, fireStations, medicalRecords}) {
+            out.writeInt(section.length);
+            for (int[] record : section) {
+                for (int value : record) {
+                    out.writeInt(value);
+                }
+            }
+        }
+    }
+
+    private static int size(List<String> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * @return The binary file.
+     */
+    public Path getPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Assigns each distinct string a stable index, in order of first appearance.
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int index(String value) {
+            if (value == null) {
+                return NULL_INDEX;
+            }
+            return indexes.computeIfAbsent(value, v -> {
+                strings.add(v);
+                return strings.size() - 1;
+            });
+        }
+    }
+}
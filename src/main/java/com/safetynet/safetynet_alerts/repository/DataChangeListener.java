@@ -0,0 +1,91 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * Receives the changes made through the repositories, so that derived views can be
+ * maintained incrementally instead of being recomputed on every read.
+ * <p>
+ * Callbacks run on the mutating thread while the repository still holds the lock of the
+ * change, right after the change is visible. They must be quick and must not call back
+ * into repository mutation methods.
+ * <p>
+ * Bulk imports report all their changes in one batch callback. By default it replays the
+ * batch through the single-change callback; listeners override it when they can apply the
+ * whole batch at once, under one lock acquisition or with one invalidation.
+ */
+public interface DataChangeListener {
+
+    /**
+     * A person was added, updated or deleted.
+     *
+     * @param previous The person before the change, or null if it was added.
+     * @param current  The person after the change, or null if it was deleted.
+     */
+    default void onPersonChanged(Person previous, Person current) {
+    }
+
+    /**
+     * A medical record was added, updated or deleted.
+     *
+     * @param previous The record before the change, or null if it was added.
+     * @param current  The record after the change, or null if it was deleted.
+     */
+    default void onMedicalRecordChanged(MedicalRecord previous, MedicalRecord current) {
+    }
+
+    /**
+     * The fire station mappings of an address changed.
+     *
+     * @param address  The normalized (trimmed, lowercase) address.
+     * @param previous The mappings before the change, possibly empty.
+     * @param current  The mappings after the change, empty if the address was removed.
+     */
+    default void onFireStationsChanged(String address, List<FireStation> previous, List<FireStation> current) {
+    }
+
+    /**
+     * A batch of persons was added or updated.
+     *
+     * @param previous The persons before the changes, null where a person was added.
+     * @param current  The persons after the changes, in the same order.
+     */
+    default void onPersonsChanged(List<Person> previous, List<Person> current) {
+        for (int i = 0; i < current.size(); i++) {
+            onPersonChanged(previous.get(i), current.get(i));
+        }
+    }
+
+    /**
+     * A batch of medical records was added or updated.
+     *
+     * @param previous The records before the changes, null where a record was added.
+     * @param current  The records after the changes, in the same order.
+     */
+    default void onMedicalRecordsChanged(List<MedicalRecord> previous, List<MedicalRecord> current) {
+        for (int i = 0; i < current.size(); i++) {
+            onMedicalRecordChanged(previous.get(i), current.get(i));
+        }
+    }
+
+    /**
+     * The fire station mappings of several addresses changed.
+     *
+     * @param previous The mappings before the changes, keyed by normalized address, possibly empty.
+     * @param current  The mappings after the changes, for the same addresses.
+     */
+    default void onFireStationsChanged(Map<String, List<FireStation>> previous, Map<String, List<FireStation>> current) {
+        current.forEach((address, mappings) -> onFireStationsChanged(address, previous.get(address), mappings));
+    }
+
+    /**
+     * A repository re-read its data from the store; derived views should be rebuilt.
+     */
+    default void onReload() {
+    }
+}
@@ -1,143 +1,249 @@
 package com.safetynet.safetynet_alerts.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safetynet.safetynet_alerts.model.FireStation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Repository responsible for loading, managing, and persisting
- * {@link FireStation} data from a JSON file.
+ * {@link FireStation} data from the shared {@link JsonDataStore}.
+ * <p>
+ * Mappings are indexed in both directions: address to mappings and
+ * station number to covered addresses, so lookups never scan every mapping.
  */
 @Repository
 public class FireStationRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FireStationRepository.class);
 
-    private final ObjectMapper objectMapper;
-    private final String sourceJsonFilePath;
-    private final String targetJsonFilePath;
-    private List<FireStation> fireStations;
+    private final JsonDataStore dataStore;
+    private final Map<String, List<FireStation>> addressIndex = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> stationIndex = new ConcurrentHashMap<>();
 
     /**
-     * Constructs a FireStationRepository with the required dependencies,
-     * ensures the target JSON file exists, then loads the FireStation data.
+     * Guards the mutations, which are journaled while it is held; see {@link JsonDataStore#recordMutation(JournalEntry)}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructs a FireStationRepository on top of the shared data store, loads the
+     * FireStation data and registers it as the fire stations section to persist.
      *
-     * @param objectMapper        The ObjectMapper for JSON parsing.
-     * @param sourceJsonFilePath  The non-modifiable source JSON file path.
-     * @param targetJsonFilePath  The modifiable target JSON file path.
-     */
-    public FireStationRepository(
-            ObjectMapper objectMapper,
-            @Value("${data.file.path:data.json}") String sourceJsonFilePath,
-            @Value("${modifiable.data.path:target/classes/data.json}") String targetJsonFilePath
-    ) {
-        this.objectMapper = objectMapper;
-        this.sourceJsonFilePath = sourceJsonFilePath;
-        this.targetJsonFilePath = targetJsonFilePath;
-        ensureTargetFile();
-        this.fireStations = new CopyOnWriteArrayList<>(loadData());
+     * @param dataStore The shared in-memory copy of the JSON data file.
+     */
+    public FireStationRepository(JsonDataStore dataStore) {
+        this.dataStore = dataStore;
+        loadData();
+        dataStore.registerFireStations(this::getAllFireStations);
     }
 
     /**
-     * Ensures the target JSON file exists by copying the source file
-     * if it does not already exist. Logs errors if the source file cannot
-     * be found or copied.
-     */
-    private void ensureTargetFile() {
-        File targetFile = new File(targetJsonFilePath);
-        if (!targetFile.exists()) {
-            LOGGER.info("Target JSON file not found. Creating a copy from source.");
-            try {
-                File sourceFile = new File(sourceJsonFilePath);
-                if (sourceFile.exists()) {
-                    targetFile.getParentFile().mkdirs();
-                    Files.copy(sourceFile.toPath(), targetFile.toPath());
-                    LOGGER.info("Copied source JSON to target location: {}", targetFile.getAbsolutePath());
-                } else {
-                    LOGGER.error("Source JSON file not found. Cannot create target file.");
-                }
-            } catch (IOException e) {
-                LOGGER.error("Failed to copy source JSON to target location.", e);
-            }
+     * Loads FireStation data from the shared data store into the address and station indexes.
+     */
+    private void loadData() {
+        long start = System.nanoTime();
+        List<FireStation> fireStations = dataStore.getFireStations();
+        lock.lock();
+        try {
+            fireStations.forEach(this::putFireStation);
+        } finally {
+            lock.unlock();
         }
+        dataStore.getLatencyMetrics().recordSince("FireStationRepository.loadData", start);
+        LOGGER.info("FireStationRepository: loaded {} fire station mappings.", fireStations.size());
     }
 
     /**
-     * Loads FireStation data from the target JSON file.
-     * If an error occurs, returns an empty list instead.
+     * Normalizes an address so that lookups in the indexes are case-insensitive.
      *
-     * @return A list of loaded {@link FireStation} objects.
+     * @param address The address to normalize.
+     * @return The trimmed, lowercase address, or null if the address is null.
      */
-    private List<FireStation> loadData() {
-        File file = new File(targetJsonFilePath);
-        try {
-            LOGGER.info("Loading data from JSON file: {}", file.getAbsolutePath());
-            Map<String, List<FireStation>> data =
-                    objectMapper.readValue(file, new TypeReference<>() {});
-            return data.getOrDefault("firestations", Collections.emptyList());
-        } catch (IOException e) {
-            LOGGER.error("Error loading FireStation JSON data: ", e);
-            return Collections.emptyList();
+    private String normalizeAddress(String address) {
+        return address == null ? null : address.trim().toLowerCase();
+    }
+
+    /**
+     * Appends a mapping to the mappings of its address and indexes it under its station.
+     * The caller holds the lock.
+     *
+     * @param fireStation The FireStation mapping to store.
+     */
+    private void putFireStation(FireStation fireStation) {
+        String key = normalizeAddress(fireStation.getAddress());
+        if (key == null) {
+            LOGGER.warn("Ignoring FireStation without address: {}", fireStation);
+            return;
         }
+        List<FireStation> mappings = new ArrayList<>(addressIndex.getOrDefault(key, List.of()));
+        mappings.add(fireStation);
+        replaceMappings(key, mappings);
     }
 
     /**
-     * Saves the current FireStation list back to the target JSON file.
-     * Logs an error if an I/O exception occurs.
+     * Replaces the mappings of a normalized address and brings the station index in line:
+     * the address is removed from every station it no longer belongs to and added to the others.
+     *
+     * @param key      The normalized address.
+     * @param mappings The new mappings for this address (may be empty).
      */
-    private void saveData() {
-        File file = new File(targetJsonFilePath);
-        try {
-            Map<String, List<FireStation>> dataToSave = new HashMap<>();
-            dataToSave.put("firestations", new ArrayList<>(fireStations));
-            objectMapper.writeValue(file, dataToSave);
-            LOGGER.info("FireStationRepository: Data saved successfully to {}", file.getAbsolutePath());
-        } catch (IOException e) {
-            LOGGER.error("Error saving FireStation data: ", e);
+    private void replaceMappings(String key, List<FireStation> mappings) {
+        List<FireStation> previous = addressIndex.getOrDefault(key, List.of());
+        if (mappings.isEmpty()) {
+            addressIndex.remove(key);
+        } else {
+            addressIndex.put(key, List.copyOf(mappings));
+        }
+
+        for (FireStation old : previous) {
+            if (mappings.stream().noneMatch(fs -> Objects.equals(fs.getStation(), old.getStation()))) {
+                stationIndex.computeIfPresent(String.valueOf(old.getStation()), (station, addresses) -> {
+                    addresses.remove(key);
+                    return addresses.isEmpty() ? null : addresses;
+                });
+            }
+        }
+        for (FireStation fs : mappings) {
+            stationIndex.computeIfAbsent(String.valueOf(fs.getStation()), station -> new ConcurrentHashMap<>())
+                    .put(key, fs.getAddress());
         }
     }
 
+    /**
+     * Records the current mappings of a normalized address in the data store journal
+     * and notifies the data store listeners of the change.
+     *
+     * @param key      The normalized address that changed.
+     * @param previous The mappings of the address before the change.
+     */
+    private void recordMappings(String key, List<FireStation> previous) {
+        List<FireStation> current = addressIndex.getOrDefault(key, List.of());
+        dataStore.recordMutation(JournalEntry.setFireStations(key, current));
+        dataStore.fireStationsChanged(key, previous, current);
+    }
+
     /**
      * Retrieves an unmodifiable list of all FireStations.
      *
      * @return A list of all FireStation objects.
      */
     public List<FireStation> getAllFireStations() {
-        return Collections.unmodifiableList(fireStations);
+        List<FireStation> all = new ArrayList<>();
+        addressIndex.values().forEach(all::addAll);
+        return Collections.unmodifiableList(all);
     }
 
     /**
-     * Finds a FireStation by its address.
+     * Finds a FireStation by its address (case-insensitive).
+     * When an address is covered by several stations, the first mapping is returned.
      *
      * @param address The address to look up.
      * @return An Optional containing the FireStation if found, otherwise empty.
      */
     public Optional<FireStation> getFireStationByAddress(String address) {
-        return fireStations.stream()
-                .filter(fs -> fs.getAddress() != null && fs.getAddress().equalsIgnoreCase(address))
-                .findFirst();
+        List<FireStation> mappings = address == null ? null : addressIndex.get(normalizeAddress(address));
+        return mappings == null ? Optional.empty() : Optional.of(mappings.get(0));
+    }
+
+    /**
+     * Retrieves every mapping of an address (case-insensitive), in insertion order.
+     *
+     * @param address The address to look up.
+     * @return An unmodifiable list of mappings, empty if the address is not covered.
+     */
+    public List<FireStation> getFireStationsByAddress(String address) {
+        List<FireStation> mappings = address == null ? null : addressIndex.get(normalizeAddress(address));
+        return mappings == null ? List.of() : mappings;
+    }
+
+    /**
+     * Retrieves the distinct addresses covered by the given station number.
+     *
+     * @param stationNumber The station number to look up.
+     * @return An unmodifiable set of addresses, empty if the station covers none.
+     */
+    public Set<String> getAddressesByStation(String stationNumber) {
+        Map<String, String> addresses = stationNumber == null ? null : stationIndex.get(stationNumber);
+        return addresses == null ? Set.of() : Set.copyOf(addresses.values());
     }
 
     /**
      * Adds a new FireStation or updates an existing one if the address already exists.
+     * A FireStation without address is ignored.
      *
      * @param fireStation The FireStation object to add or update.
      */
     public void addFireStation(FireStation fireStation) {
-        Optional<FireStation> existing = getFireStationByAddress(fireStation.getAddress());
-        existing.ifPresent(fireStations::remove);
-        fireStations.add(fireStation);
-        saveData();
+        String key = normalizeAddress(fireStation.getAddress());
+        if (key == null) {
+            LOGGER.warn("Ignoring FireStation without address: {}", fireStation);
+            return;
+        }
+        lock.lock();
+        try {
+            List<FireStation> previous = addressIndex.getOrDefault(key, List.of());
+            List<FireStation> mappings = new ArrayList<>(previous);
+            if (!mappings.isEmpty()) {
+                mappings.remove(0);
+                replaceMappings(key, mappings);
+            }
+            putFireStation(fireStation);
+            recordMappings(key, previous);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or updates a batch of FireStations in one pass, each one as {@link #addFireStation(FireStation)}
+     * would: the mappings are replaced under a single lock acquisition, the final mappings of every
+     * touched address are journaled in one write and the listeners are notified once.
+     *
+     * @param fireStations The FireStations to add or update, applied in order.
+     * @return For each FireStation, in the same order, the mapping it replaced, or null if its address was not
+     *         covered. Mappings without an address are skipped, with null.
+     */
+    public List<FireStation> addFireStations(List<FireStation> fireStations) {
+        List<FireStation> replaced = new ArrayList<>(fireStations.size());
+        lock.lock();
+        try {
+            Map<String, List<FireStation>> previous = new LinkedHashMap<>();
+            for (FireStation fireStation : fireStations) {
+                String key = normalizeAddress(fireStation.getAddress());
+                if (key == null) {
+                    LOGGER.warn("Ignoring FireStation without address: {}", fireStation);
+                    replaced.add(null);
+                    continue;
+                }
+                List<FireStation> mappings = new ArrayList<>(addressIndex.getOrDefault(key, List.of()));
+                previous.putIfAbsent(key, List.copyOf(mappings));
+                if (mappings.isEmpty()) {
+                    replaced.add(null);
+                } else {
+                    replaced.add(mappings.remove(0));
+                    replaceMappings(key, mappings);
+                }
+                putFireStation(fireStation);
+            }
+            Map<String, List<FireStation>> current = new LinkedHashMap<>();
+            List<JournalEntry> entries = new ArrayList<>(previous.size());
+            for (String key : previous.keySet()) {
+                List<FireStation> mappings = addressIndex.getOrDefault(key, List.of());
+                current.put(key, mappings);
+                entries.add(JournalEntry.setFireStations(key, mappings));
+            }
+            dataStore.recordMutations(entries);
+            dataStore.fireStationsChanged(previous, current);
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("{} fire station mappings added/updated in bulk.", fireStations.size());
+        return replaced;
     }
 
     /**
@@ -147,10 +253,18 @@ public class FireStationRepository {
      * @return True if a FireStation was deleted, false otherwise.
      */
     public boolean deleteFireStation(String address) {
-        boolean removed = fireStations.removeIf(fs ->
-                fs.getAddress() != null && fs.getAddress().equalsIgnoreCase(address));
-        if (removed) {
-            saveData();
+        boolean removed;
+        lock.lock();
+        try {
+            String key = normalizeAddress(address);
+            removed = key != null && addressIndex.containsKey(key);
+            if (removed) {
+                List<FireStation> previous = addressIndex.get(key);
+                replaceMappings(key, List.of());
+                recordMappings(key, previous);
+            }
+        } finally {
+            lock.unlock();
         }
         return removed;
     }
@@ -163,12 +277,24 @@ public class FireStationRepository {
      * @return True if the station was updated, false otherwise.
      */
     public boolean updateFireStation(String address, String newStationNumber) {
-        Optional<FireStation> existing = getFireStationByAddress(address);
-        if (existing.isPresent()) {
-            FireStation fireStation = existing.get();
-            fireStation.setStation(newStationNumber);
-            saveData();
-            LOGGER.info("FireStation updated successfully: {}", fireStation);
+        FireStation updated = null;
+        lock.lock();
+        try {
+            Optional<FireStation> existing = getFireStationByAddress(address);
+            if (existing.isPresent()) {
+                String key = normalizeAddress(existing.get().getAddress());
+                List<FireStation> previous = addressIndex.get(key);
+                List<FireStation> mappings = new ArrayList<>(previous);
+                updated = new FireStation(existing.get().getAddress(), newStationNumber);
+                mappings.set(0, updated);
+                replaceMappings(key, mappings);
+                recordMappings(key, previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (updated != null) {
+            LOGGER.info("FireStation updated successfully: {}", updated);
             return true;
         } else {
             LOGGER.warn("No FireStation found for address: {}", address);
@@ -178,9 +304,19 @@ public class FireStationRepository {
 
     /**
      * Reloads the FireStation data from the JSON file, replacing the current in-memory list.
+     * The other sections of the data store, and their pending writes, are left alone.
      */
     public void reloadData() {
-        this.fireStations = new CopyOnWriteArrayList<>(loadData());
+        List<FireStation> loaded = dataStore.reloadFireStations();
+        lock.lock();
+        try {
+            addressIndex.clear();
+            stationIndex.clear();
+            loaded.forEach(this::putFireStation);
+        } finally {
+            lock.unlock();
+        }
+        dataStore.reloaded();
         LOGGER.info("FireStationRepository: Data reloaded successfully.");
     }
 }
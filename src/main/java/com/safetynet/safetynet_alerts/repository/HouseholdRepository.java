@@ -0,0 +1,132 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import com.safetynet.safetynet_alerts.model.Household;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized view of the {@link Household}s of every address, each member already joined
+ * to their medical record.
+ * <p>
+ * The view is built once from the person and medical record repositories, then kept up to
+ * date through {@link DataChangeListener} callbacks: a change only rebuilds the household(s)
+ * of the affected address, so reads never join persons to medical records.
+ * Households are immutable and swapped as a whole, so readers never see a partial update.
+ */
+@Repository
+public class HouseholdRepository implements DataChangeListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HouseholdRepository.class);
+
+    private final PersonRepository personRepository;
+    private final MedicalRecordRepository medicalRecordRepository;
+    private final Map<String, Household> households = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the HouseholdRepository, builds the households of all persons and
+     * subscribes to the changes of the shared data store.
+     *
+     * @param dataStore               The shared data store publishing repository changes.
+     * @param personRepository        Repository for person data.
+     * @param medicalRecordRepository Repository for medical record data.
+     */
+    public HouseholdRepository(JsonDataStore dataStore,
+                               PersonRepository personRepository,
+                               MedicalRecordRepository medicalRecordRepository) {
+        this.personRepository = personRepository;
+        this.medicalRecordRepository = medicalRecordRepository;
+        rebuild();
+        dataStore.addChangeListener(this);
+    }
+
+    /**
+     * Rebuilds every household from the current persons and medical records.
+     */
+    private synchronized void rebuild() {
+        households.clear();
+        personRepository.getAllPersons().forEach(this::add);
+        LOGGER.info("HouseholdRepository: built {} households.", households.size());
+    }
+
+    /**
+     * Normalizes an address so that lookups are case-insensitive.
+     *
+     * @param address The address to normalize.
+     * @return The trimmed, lowercase address, or null if the address is null.
+     */
+    private String normalizeAddress(String address) {
+        return address == null ? null : address.trim().toLowerCase();
+    }
+
+    /**
+     * Adds a person, or replaces them, in the household of their address.
+     *
+     * @param person The person to add.
+     */
+    private void add(Person person) {
+        String key = normalizeAddress(person.getAddress());
+        if (key == null) {
+            return;
+        }
+        MedicalRecord record = medicalRecordRepository
+                .getMedicalRecordByName(person.getFirstName(), person.getLastName())
+                .orElse(null);
+        Household.Member member = new Household.Member(person, record);
+        households.compute(key, (k, household) ->
+                (household == null ? Household.empty(person.getAddress()) : household).with(member));
+    }
+
+    /**
+     * Removes a person from the household of their address, dropping the household once empty.
+     *
+     * @param person The person to remove.
+     */
+    private void remove(Person person) {
+        String key = normalizeAddress(person.getAddress());
+        if (key == null) {
+            return;
+        }
+        households.computeIfPresent(key, (k, household) -> {
+            Household updated = household.without(person.getFirstName(), person.getLastName());
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    /**
+     * Retrieves the household living at an address (case-insensitive).
+     *
+     * @param address The address to look up.
+     * @return The household, empty if nobody lives at the address.
+     */
+    public Household findByAddress(String address) {
+        Household household = address == null ? null : households.get(normalizeAddress(address));
+        return household == null ? Household.empty(address) : household;
+    }
+
+    @Override
+    public synchronized void onPersonChanged(Person previous, Person current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        if (current != null) {
+            add(current);
+        }
+    }
+
+    @Override
+    public synchronized void onMedicalRecordChanged(MedicalRecord previous, MedicalRecord current) {
+        MedicalRecord changed = current != null ? current : previous;
+        personRepository.getPersonByName(changed.getFirstName(), changed.getLastName()).ifPresent(this::add);
+    }
+
+    @Override
+    public void onReload() {
+        rebuild();
+    }
+}
@@ -0,0 +1,203 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * One line of the {@link MutationJournal}: a single add, update or delete made by a repository.
+ * <p>
+ * Every entry carries the resulting state rather than the operation that produced it
+ * (the whole person, the whole record, all mappings of an address), so replaying an
+ * entry that is already part of the snapshot changes nothing.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JournalEntry {
+
+    /**
+     * The kind of change recorded by an entry.
+     */
+    public enum Operation {
+        PUT_PERSON,
+        DELETE_PERSON,
+        PUT_MEDICAL_RECORD,
+        DELETE_MEDICAL_RECORD,
+        SET_FIRE_STATIONS
+    }
+
+    private Operation op;
+    private Person person;
+    private MedicalRecord medicalRecord;
+    private String firstName;
+    private String lastName;
+    private String address;
+    private List<FireStation> fireStations;
+
+    /**
+     * Default constructor required for serialization/deserialization.
+     */
+    public JournalEntry() {
+    }
+
+    /**
+     * @param person The person added or updated.
+     * @return An entry storing the person under its name.
+     */
+    public static JournalEntry putPerson(Person person) {
+        JournalEntry entry = new JournalEntry();
+        entry.op = Operation.PUT_PERSON;
+        entry.person = person;
+        return entry;
+    }
+
+    /**
+     * @param firstName The deleted person's first name.
+     * @param lastName  The deleted person's last name.
+     * @return An entry removing the person with that name.
+     */
+    public static JournalEntry deletePerson(String firstName, String lastName) {
+        JournalEntry entry = new JournalEntry();
+        entry.op = Operation.DELETE_PERSON;
+        entry.firstName = firstName;
+        entry.lastName = lastName;
+        return entry;
+    }
+
+    /**
+     * @param medicalRecord The medical record added or updated.
+     * @return An entry storing the record under its name.
+     */
+    public static JournalEntry putMedicalRecord(MedicalRecord medicalRecord) {
+        JournalEntry entry = new JournalEntry();
+        entry.op = Operation.PUT_MEDICAL_RECORD;
+        entry.medicalRecord = medicalRecord;
+        return entry;
+    }
+
+    /**
+     * @param firstName The first name on the deleted record.
+     * @param lastName  The last name on the deleted record.
+     * @return An entry removing the medical record with that name.
+     */
+    public static JournalEntry deleteMedicalRecord(String firstName, String lastName) {
+        JournalEntry entry = new JournalEntry();
+        entry.op = Operation.DELETE_MEDICAL_RECORD;
+        entry.firstName = firstName;
+        entry.lastName = lastName;
+        return entry;
+    }
+
+    /**
+     * @param address      The address whose mappings changed.
+     * @param fireStations All mappings of the address after the change; empty when it was deleted.
+     * @return An entry replacing the mappings of the address.
+     */
+    public static JournalEntry setFireStations(String address, List<FireStation> fireStations) {
+        JournalEntry entry = new JournalEntry();
+        entry.op = Operation.SET_FIRE_STATIONS;
+        entry.address = address;
+        entry.fireStations = List.copyOf(fireStations);
+        return entry;
+    }
+
+    /**
+     * @return The kind of change.
+     */
+    public Operation getOp() {
+        return op;
+    }
+
+    /**
+     * @param op The kind of change.
+     */
+    public void setOp(Operation op) {
+        this.op = op;
+    }
+
+    /**
+     * @return The person stored by a {@link Operation#PUT_PERSON} entry.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * @param person The person stored by a {@link Operation#PUT_PERSON} entry.
+     */
+    public void setPerson(Person person) {
+        this.person = person;
+    }
+
+    /**
+     * @return The record stored by a {@link Operation#PUT_MEDICAL_RECORD} entry.
+     */
+    public MedicalRecord getMedicalRecord() {
+        return medicalRecord;
+    }
+
+    /**
+     * @param medicalRecord The record stored by a {@link Operation#PUT_MEDICAL_RECORD} entry.
+     */
+    public void setMedicalRecord(MedicalRecord medicalRecord) {
+        this.medicalRecord = medicalRecord;
+    }
+
+    /**
+     * @return The first name of a deleted person or medical record.
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * @param firstName The first name of a deleted person or medical record.
+     */
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    /**
+     * @return The last name of a deleted person or medical record.
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * @param lastName The last name of a deleted person or medical record.
+     */
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    /**
+     * @return The address of a {@link Operation#SET_FIRE_STATIONS} entry.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * @param address The address of a {@link Operation#SET_FIRE_STATIONS} entry.
+     */
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    /**
+     * @return The mappings of the address after a {@link Operation#SET_FIRE_STATIONS} change.
+     */
+    public List<FireStation> getFireStations() {
+        return fireStations;
+    }
+
+    /**
+     * @param fireStations The mappings of the address after a {@link Operation#SET_FIRE_STATIONS} change.
+     */
+    public void setFireStations(List<FireStation> fireStations) {
+        this.fireStations = fireStations;
+    }
+}
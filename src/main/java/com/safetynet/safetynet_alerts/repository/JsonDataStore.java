@@ -0,0 +1,657 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.metrics.LatencyMetrics;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Single in-memory copy of the JSON data file, shared by all repositories.
+ * <p>
+ * The file is streamed once into a {@link JsonWrapper} by a {@link StreamingJsonLoader}; each repository builds its
+ * indexes from the section it owns and registers a supplier of its current
+ * content, so that a save always writes the persons, fire stations and
+ * medical records together. Once a section's repository has registered, the store drops its
+ * loaded copy of that section, so that replaced objects do not stay reachable until a reload.
+ * <p>
+ * Repository mutations do not write the file themselves: they call {@link #recordMutation(JournalEntry)}
+ * and a {@link WriteBehindPersister} folds them into periodic writes. When the journal is enabled,
+ * each mutation is also appended to a {@link MutationJournal} next to the data file, which is
+ * replayed on startup; the periodic write then acts as the compaction of that journal.
+ * When the binary snapshot is enabled, every write also refreshes a {@link BinarySnapshot}
+ * that is mapped at startup instead of parsing the JSON, as long as it is not stale.
+ * <p>
+ * Repositories also publish their changes here, so that {@link DataChangeListener}s can keep
+ * derived views, such as households, up to date without rescanning the data.
+ */
+@Component
+public class JsonDataStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonDataStore.class);
+
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+    static final int DEFAULT_MAX_DIRTY_COUNT = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final String sourceJsonFilePath;
+    private final String targetJsonFilePath;
+    private final StreamingJsonLoader loader;
+    private final SnapshotWriter snapshotWriter;
+    private final WriteBehindPersister persister;
+    private final MutationJournal journal;
+    private final BinarySnapshot binarySnapshot;
+
+    private File testFile;
+    private volatile JsonWrapper data = emptyData();
+
+    private volatile Supplier<List<Person>> personsSupplier;
+    private volatile Supplier<List<FireStation>> fireStationsSupplier;
+    private volatile Supplier<List<MedicalRecord>> medicalRecordsSupplier;
+
+    private final List<DataChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LatencyMetrics latencyMetrics;
+
+    /**
+     * Constructs the JsonDataStore with the default write-behind settings and no journal.
+     *
+     * @param objectMapper       The ObjectMapper used for JSON parsing and writing.
+     * @param sourceJsonFilePath The path to the original source JSON file (file system or classpath).
+     * @param targetJsonFilePath The path to the modifiable (target) JSON file.
+     */
+    public JsonDataStore(ObjectMapper objectMapper, String sourceJsonFilePath, String targetJsonFilePath) {
+        this(objectMapper, sourceJsonFilePath, targetJsonFilePath, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_MAX_DIRTY_COUNT,
+                false, 0, false, false);
+    }
+
+    /**
+     * Constructs the JsonDataStore with its own latency registry.
+     *
+     * @param objectMapper          The ObjectMapper used for JSON parsing and writing.
+     * @param sourceJsonFilePath    The path to the original source JSON file (file system or classpath).
+     * @param targetJsonFilePath    The path to the modifiable (target) JSON file.
+     * @param flushIntervalMillis   Maximum delay before a mutation is written; 0 writes on every mutation.
+     * @param maxDirtyCount         Number of pending mutations that triggers an immediate write.
+     * @param journalEnabled        Whether mutations are appended to a journal next to the data file.
+     * @param compactIntervalMillis With the journal enabled, maximum delay before the journal is folded into the data file.
+     * @param journalSync           Whether every journal append is forced to disk before the request returns.
+     * @param binarySnapshotEnabled Whether a memory-mapped binary copy of the data file is kept to speed up startup.
+     */
+    public JsonDataStore(ObjectMapper objectMapper, String sourceJsonFilePath, String targetJsonFilePath,
+                         long flushIntervalMillis, int maxDirtyCount, boolean journalEnabled,
+                         long compactIntervalMillis, boolean journalSync, boolean binarySnapshotEnabled) {
+        this(objectMapper, sourceJsonFilePath, targetJsonFilePath, flushIntervalMillis, maxDirtyCount,
+                journalEnabled, compactIntervalMillis, journalSync, binarySnapshotEnabled, new LatencyMetrics());
+    }
+
+    /**
+     * Constructs the JsonDataStore, ensures the target JSON file exists, then loads it once.
+     *
+     * @param objectMapper          The ObjectMapper used for JSON parsing and writing.
+     * @param sourceJsonFilePath    The path to the original source JSON file (file system or classpath).
+     * @param targetJsonFilePath    The path to the modifiable (target) JSON file.
+     * @param flushIntervalMillis   Maximum delay before a mutation is written; 0 writes on every mutation.
+     * @param maxDirtyCount         Number of pending mutations that triggers an immediate write.
+     * @param journalEnabled        Whether mutations are appended to a journal next to the data file.
+     * @param compactIntervalMillis With the journal enabled, maximum delay before the journal is folded into the data file.
+     * @param journalSync           Whether every journal append is forced to disk before the request returns.
+     * @param binarySnapshotEnabled Whether a memory-mapped binary copy of the data file is kept to speed up startup.
+     * @param latencyMetrics        The registry the loads and saves are timed in.
+     */
+    @Autowired
+    public JsonDataStore(
+            ObjectMapper objectMapper,
+            @Value("${data.file.path:data.json}") String sourceJsonFilePath,
+            @Value("${modifiable.data.path:target/classes/data.json}") String targetJsonFilePath,
+            @Value("${data.persistence.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${data.persistence.max-dirty-count:1000}") int maxDirtyCount,
+            @Value("${data.journal.enabled:true}") boolean journalEnabled,
+            @Value("${data.journal.compact-interval-ms:60000}") long compactIntervalMillis,
+            @Value("${data.journal.sync:false}") boolean journalSync,
+            @Value("${data.binary-snapshot.enabled:false}") boolean binarySnapshotEnabled,
+            LatencyMetrics latencyMetrics
+    ) {
+        this.latencyMetrics = latencyMetrics;
+        this.objectMapper = objectMapper;
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.sourceJsonFilePath = sourceJsonFilePath;
+        this.targetJsonFilePath = targetJsonFilePath;
+        this.loader = new StreamingJsonLoader(objectMapper);
+        this.snapshotWriter = new SnapshotWriter(objectMapper);
+        this.journal = journalEnabled
+                ? new MutationJournal(objectMapper, Path.of(targetJsonFilePath + ".journal"), journalSync)
+                : null;
+        this.binarySnapshot = binarySnapshotEnabled
+                ? new BinarySnapshot(Path.of(targetJsonFilePath + ".bin"))
+                : null;
+        this.persister = new WriteBehindPersister(this::save,
+                journalEnabled ? compactIntervalMillis : flushIntervalMillis, maxDirtyCount);
+        try {
+            ensureTargetFile();
+            load();
+        } catch (Exception e) {
+            LOGGER.error("Failed to initialize JSON data from file: {}", targetJsonFilePath, e);
+            this.data = emptyData();
+        }
+    }
+
+    /**
+     * Ensures the target JSON file exists by copying the source file if necessary.
+     * The source is looked up on the file system first, then on the classpath.
+     */
+    private void ensureTargetFile() {
+        File targetFile = new File(targetJsonFilePath);
+        if (!targetFile.exists()) {
+            LOGGER.info("Target JSON file not found. Creating a copy from source.");
+            try {
+                File sourceFile = locateSourceFile();
+                if (sourceFile != null) {
+                    if (targetFile.getParentFile() != null) {
+                        targetFile.getParentFile().mkdirs();
+                    }
+                    Files.copy(sourceFile.toPath(), targetFile.toPath());
+                    LOGGER.info("Copied source JSON to target location: {}", targetFile.getAbsolutePath());
+                } else {
+                    LOGGER.error("Source JSON file not found. Cannot create target file.");
+                }
+            } catch (IOException e) {
+                LOGGER.error("Failed to copy source JSON to target location.", e);
+            }
+        }
+    }
+
+    /**
+     * Locates the source JSON file on the file system or, failing that, on the classpath.
+     *
+     * @return The source file, or null if it cannot be found.
+     */
+    private File locateSourceFile() {
+        File sourceFile = new File(sourceJsonFilePath);
+        if (sourceFile.exists()) {
+            return sourceFile;
+        }
+        try {
+            ClassPathResource resource = new ClassPathResource(sourceJsonFilePath);
+            return resource.exists() ? resource.getFile() : null;
+        } catch (IOException e) {
+            LOGGER.error("Failed to locate file: {}", sourceJsonFilePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the whole data file into memory, replacing the current data,
+     * except for the sections whose repository has registered.
+     *
+     * @throws IOException If the file cannot be read or is not valid JSON.
+     */
+    private void load() throws IOException {
+        this.data = withoutRegisteredSections(read());
+    }
+
+    /**
+     * Reads the whole data file, or its binary snapshot, and replays the journal on top of it.
+     *
+     * @return The persons, fire stations and medical records of the file; empty if it does not exist.
+     * @throws IOException If the file cannot be read or is not valid JSON.
+     */
+    private JsonWrapper read() throws IOException {
+        File file = getTargetFile();
+        if (!file.exists()) {
+            LOGGER.error("Target JSON file not found at: {}", file.getAbsolutePath());
+            return emptyData();
+        }
+
+        long start = System.nanoTime();
+        Optional<JsonWrapper> mapped = binarySnapshot != null ? binarySnapshot.read(file) : Optional.empty();
+        JsonWrapper wrapper;
+        if (mapped.isPresent()) {
+            wrapper = mapped.get();
+            LOGGER.info("Mapped binary snapshot {} in {} ms", binarySnapshot.getPath(), (System.nanoTime() - start) / 1_000_000);
+        } else {
+            wrapper = parse(file);
+            LOGGER.info("Parsed {} in {} ms", file.getName(), (System.nanoTime() - start) / 1_000_000);
+            if (binarySnapshot != null) {
+                binarySnapshot.write(wrapper, file);
+            }
+        }
+        if (journal != null) {
+            List<JournalEntry> entries = journal.readAll();
+            if (!entries.isEmpty()) {
+                LOGGER.info("Replaying {} journal entries from {}", entries.size(), journal.getPath());
+                wrapper = MutationJournal.replay(wrapper, entries);
+                persister.markDirty();
+            }
+        }
+        latencyMetrics.recordSince("JsonDataStore.load", start);
+        LOGGER.info("Data successfully loaded. Persons: {}, FireStations: {}, MedicalRecords: {}",
+                wrapper.getPersons().size(), wrapper.getFirestations().size(), wrapper.getMedicalrecords().size());
+        return wrapper;
+    }
+
+    /**
+     * @param loaded Data read from the file.
+     * @return The same data, with the sections whose repository has registered left empty.
+     */
+    private JsonWrapper withoutRegisteredSections(JsonWrapper loaded) {
+        JsonWrapper kept = new JsonWrapper();
+        kept.setPersons(personsSupplier != null ? List.of() : loaded.getPersons());
+        kept.setFirestations(fireStationsSupplier != null ? List.of() : loaded.getFirestations());
+        kept.setMedicalrecords(medicalRecordsSupplier != null ? List.of() : loaded.getMedicalrecords());
+        return kept;
+    }
+
+    /**
+     * Streams the JSON data file into a new wrapper.
+     *
+     * @param file The JSON data file.
+     * @return The persons, fire stations and medical records of the file.
+     * @throws IOException If the file cannot be read or is not valid JSON.
+     */
+    private JsonWrapper parse(File file) throws IOException {
+        LOGGER.info("Loading data from JSON file: {}", file.getAbsolutePath());
+        List<Person> persons = new ArrayList<>();
+        List<FireStation> fireStations = new ArrayList<>();
+        List<MedicalRecord> medicalRecords = new ArrayList<>();
+        loader.load(file, persons::add, fireStations::add, medicalRecords::add);
+        JsonWrapper wrapper = new JsonWrapper();
+        wrapper.setPersons(persons);
+        wrapper.setFirestations(fireStations);
+        wrapper.setMedicalrecords(medicalRecords);
+        return wrapper;
+    }
+
+    /**
+     * Re-reads the data file, and replays the journal if enabled. Without a journal, the mutations
+     * of every repository not yet written are dropped. On failure the store is left with empty data.
+     * Repositories reload their own section with {@link #reloadPersons()}, {@link #reloadFireStations()}
+     * or {@link #reloadMedicalRecords()} instead, which leave the other sections alone.
+     *
+     * @return True if the file was read successfully, false otherwise.
+     */
+    public boolean reload() {
+        persister.discard();
+        lock.lock();
+        try {
+            load();
+            return true;
+        } catch (Exception e) {
+            LOGGER.error("Error reading JSON file: {}", testFile != null ? testFile : targetJsonFilePath, e);
+            this.data = emptyData();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-reads the persons of the data file, with the journal replayed if enabled. The other sections,
+     * and the pending writes of their repositories, are left alone.
+     *
+     * @return The persons of the file, empty if it cannot be read.
+     */
+    public List<Person> reloadPersons() {
+        return reloadSection(JsonWrapper::getPersons);
+    }
+
+    /**
+     * Re-reads the fire stations of the data file, with the journal replayed if enabled. The other
+     * sections, and the pending writes of their repositories, are left alone.
+     *
+     * @return The fire stations of the file, empty if it cannot be read.
+     */
+    public List<FireStation> reloadFireStations() {
+        return reloadSection(JsonWrapper::getFirestations);
+    }
+
+    /**
+     * Re-reads the medical records of the data file, with the journal replayed if enabled. The other
+     * sections, and the pending writes of their repositories, are left alone.
+     *
+     * @return The medical records of the file, empty if it cannot be read.
+     */
+    public List<MedicalRecord> reloadMedicalRecords() {
+        return reloadSection(JsonWrapper::getMedicalrecords);
+    }
+
+    /**
+     * @param section Extracts one section from the data read.
+     * @return That section of the data file, empty if the file cannot be read.
+     */
+    private <T> List<T> reloadSection(Function<JsonWrapper, List<T>> section) {
+        lock.lock();
+        try {
+            return section.apply(read());
+        } catch (Exception e) {
+            LOGGER.error("Error reading JSON file: {}", getTargetFile(), e);
+            return List.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the current content of all repositories back to the target JSON file,
+     * replacing it atomically through the {@link SnapshotWriter}.
+     * Sections whose repository has not registered fall back to the loaded data.
+     * With the journal enabled, this is the compaction: the entries appended before the
+     * snapshot was taken are dropped once it is written.
+     */
+    public void save() {
+        lock.lock();
+        long start = System.nanoTime();
+        try {
+            File file = getTargetFile();
+            if (!file.exists() || !file.canWrite()) {
+                LOGGER.error("Cannot write to file: {}", file.getAbsolutePath());
+                return;
+            }
+            JsonWrapper snapshot;
+            if (journal == null) {
+                snapshot = snapshot();
+                snapshotWriter.write(file, snapshot);
+            } else {
+                snapshot = journal.rotate(this::snapshot);
+                snapshotWriter.write(file, snapshot);
+                journal.deleteRotated();
+            }
+            if (binarySnapshot != null) {
+                binarySnapshot.write(snapshot, file);
+            }
+            LOGGER.info("JsonDataStore: data saved successfully to {}", file.getAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.error("Error saving JSON data: ", e);
+        } finally {
+            latencyMetrics.recordSince("JsonDataStore.save", start);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The latency histograms of the data store, the repositories and, through the
+     *         application, of the services and endpoints.
+     */
+    public LatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    /**
+     * Records a repository mutation: appends it to the journal, if enabled, and schedules
+     * the next write-behind flush. Repositories call this while still holding the lock
+     * of the change, so that the journal order matches the in-memory order.
+     * <p>
+     * The append, and with a zero flush interval the whole save, blocks on file I/O while that
+     * lock is held. Every lock on this path is therefore a {@link ReentrantLock} rather than a
+     * monitor: a virtual thread blocked in a {@code synchronized} block would pin its carrier
+     * thread, and a few concurrent writes would stall the requests sharing those carriers.
+     *
+     * @param entry The resulting state of the mutation.
+     */
+    public void recordMutation(JournalEntry entry) {
+        if (journal != null) {
+            try {
+                journal.append(entry);
+            } catch (IOException e) {
+                LOGGER.error("Failed to append to journal {}; the change will only be kept by the next snapshot.",
+                        journal.getPath(), e);
+            }
+        }
+        persister.markDirty();
+    }
+
+    /**
+     * Records a batch of repository mutations at once: the entries are appended to the journal,
+     * if enabled, in a single write, and the write-behind flush is scheduled once for the batch.
+     *
+     * @param entries The resulting states of the mutations, in the order they were applied.
+     */
+    public void recordMutations(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (journal != null) {
+            try {
+                journal.appendAll(entries);
+            } catch (IOException e) {
+                LOGGER.error("Failed to append {} entries to journal {}; the changes will only be kept by the next snapshot.",
+                        entries.size(), journal.getPath(), e);
+            }
+        }
+        persister.markDirty();
+    }
+
+    /**
+     * Registers a listener notified of every change made through the repositories.
+     *
+     * @param listener The listener to add.
+     */
+    public void addChangeListener(DataChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Notifies the listeners that a person was added, updated or deleted.
+     *
+     * @param previous The person before the change, or null if it was added.
+     * @param current  The person after the change, or null if it was deleted.
+     */
+    public void personChanged(Person previous, Person current) {
+        listeners.forEach(listener -> listener.onPersonChanged(previous, current));
+    }
+
+    /**
+     * Notifies the listeners that a medical record was added, updated or deleted.
+     *
+     * @param previous The record before the change, or null if it was added.
+     * @param current  The record after the change, or null if it was deleted.
+     */
+    public void medicalRecordChanged(MedicalRecord previous, MedicalRecord current) {
+        listeners.forEach(listener -> listener.onMedicalRecordChanged(previous, current));
+    }
+
+    /**
+     * Notifies the listeners that the fire station mappings of an address changed.
+     *
+     * @param address  The normalized address.
+     * @param previous The mappings before the change.
+     * @param current  The mappings after the change.
+     */
+    public void fireStationsChanged(String address, List<FireStation> previous, List<FireStation> current) {
+        listeners.forEach(listener -> listener.onFireStationsChanged(address, previous, current));
+    }
+
+    /**
+     * Notifies the listeners, once per listener, of a batch of added or updated persons.
+     *
+     * @param previous The persons before the changes, null where a person was added.
+     * @param current  The persons after the changes, in the same order.
+     */
+    public void personsChanged(List<Person> previous, List<Person> current) {
+        listeners.forEach(listener -> listener.onPersonsChanged(previous, current));
+    }
+
+    /**
+     * Notifies the listeners, once per listener, of a batch of added or updated medical records.
+     *
+     * @param previous The records before the changes, null where a record was added.
+     * @param current  The records after the changes, in the same order.
+     */
+    public void medicalRecordsChanged(List<MedicalRecord> previous, List<MedicalRecord> current) {
+        listeners.forEach(listener -> listener.onMedicalRecordsChanged(previous, current));
+    }
+
+    /**
+     * Notifies the listeners, once per listener, that the fire station mappings of several addresses changed.
+     *
+     * @param previous The mappings before the changes, keyed by normalized address.
+     * @param current  The mappings after the changes, for the same addresses.
+     */
+    public void fireStationsChanged(Map<String, List<FireStation>> previous, Map<String, List<FireStation>> current) {
+        listeners.forEach(listener -> listener.onFireStationsChanged(previous, current));
+    }
+
+    /**
+     * Notifies the listeners that a repository has reloaded its data.
+     */
+    public void reloaded() {
+        listeners.forEach(DataChangeListener::onReload);
+    }
+
+    /**
+     * Writes pending mutations now, if any. Blocks until the write completes.
+     */
+    public void flush() {
+        persister.flush();
+    }
+
+    /**
+     * Writes pending mutations and stops the write-behind thread when the application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        persister.close();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Builds the document to persist from the registered repository suppliers.
+     *
+     * @return A {@link JsonWrapper} holding the current persons, fire stations and medical records.
+     */
+    private JsonWrapper snapshot() {
+        JsonWrapper current = data;
+        JsonWrapper wrapper = new JsonWrapper();
+        wrapper.setPersons(personsSupplier != null ? personsSupplier.get() : current.getPersons());
+        wrapper.setFirestations(fireStationsSupplier != null ? fireStationsSupplier.get() : current.getFirestations());
+        wrapper.setMedicalrecords(medicalRecordsSupplier != null ? medicalRecordsSupplier.get() : current.getMedicalrecords());
+        return wrapper;
+    }
+
+    /**
+     * Registers the supplier of the persons to persist, and drops the loaded persons.
+     *
+     * @param supplier Supplies the current list of persons.
+     */
+    public void registerPersons(Supplier<List<Person>> supplier) {
+        lock.lock();
+        try {
+            this.personsSupplier = supplier;
+            this.data = withoutRegisteredSections(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers the supplier of the fire stations to persist, and drops the loaded fire stations.
+     *
+     * @param supplier Supplies the current list of fire stations.
+     */
+    public void registerFireStations(Supplier<List<FireStation>> supplier) {
+        lock.lock();
+        try {
+            this.fireStationsSupplier = supplier;
+            this.data = withoutRegisteredSections(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers the supplier of the medical records to persist, and drops the loaded medical records.
+     *
+     * @param supplier Supplies the current list of medical records.
+     */
+    public void registerMedicalRecords(Supplier<List<MedicalRecord>> supplier) {
+        lock.lock();
+        try {
+            this.medicalRecordsSupplier = supplier;
+            this.data = withoutRegisteredSections(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return An unmodifiable list of the persons read from the data file or, once their
+     *         repository has registered, of its current persons.
+     */
+    public List<Person> getPersons() {
+        Supplier<List<Person>> supplier = personsSupplier;
+        return Collections.unmodifiableList(supplier != null ? supplier.get() : data.getPersons());
+    }
+
+    /**
+     * @return An unmodifiable list of the fire stations read from the data file or, once their
+     *         repository has registered, of its current fire stations.
+     */
+    public List<FireStation> getFireStations() {
+        Supplier<List<FireStation>> supplier = fireStationsSupplier;
+        return Collections.unmodifiableList(supplier != null ? supplier.get() : data.getFirestations());
+    }
+
+    /**
+     * @return An unmodifiable list of the medical records read from the data file or, once their
+     *         repository has registered, of its current medical records.
+     */
+    public List<MedicalRecord> getMedicalRecords() {
+        Supplier<List<MedicalRecord>> supplier = medicalRecordsSupplier;
+        return Collections.unmodifiableList(supplier != null ? supplier.get() : data.getMedicalrecords());
+    }
+
+    /**
+     * @return The file the data is read from and written to.
+     */
+    public File getTargetFile() {
+        return (testFile != null) ? testFile : new File(targetJsonFilePath);
+    }
+
+    /**
+     * @return A wrapper with three empty lists.
+     */
+    private static JsonWrapper emptyData() {
+        JsonWrapper empty = new JsonWrapper();
+        empty.setPersons(List.of());
+        empty.setFirestations(List.of());
+        empty.setMedicalrecords(List.of());
+        return empty;
+    }
+
+    /**
+     * Sets a file to be used instead of the default target JSON file.
+     * This method is primarily for testing purposes.
+     *
+     * @param testFile The file to use for loading and saving data.
+     */
+    public void setFileForTest(File testFile) {
+        this.testFile = testFile;
+    }
+}
@@ -1,117 +1,112 @@
 package com.safetynet.safetynet_alerts.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Repository handling {@link MedicalRecord} data, loaded from a JSON file
- * and stored in memory for quick access.
+ * Repository handling {@link MedicalRecord} data, loaded from the shared {@link JsonDataStore}
+ * and stored in memory, keyed by normalized first and last name, for quick access.
+ * Records are also grouped by normalized last name, so a whole family is resolved in one lookup.
  */
 @Repository
 public class MedicalRecordRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MedicalRecordRepository.class);
 
-    private final ObjectMapper objectMapper;
-    private final String sourceJsonFilePath;
-    private final String targetJsonFilePath;
-    private List<MedicalRecord> medicalRecords;
+    private final JsonDataStore dataStore;
+    private final Map<String, MedicalRecord> medicalRecordsMap = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, MedicalRecord>> lastNameIndex = new ConcurrentHashMap<>();
 
     /**
-     * Constructs the MedicalRecordRepository, ensuring the target JSON file
-     * exists, then loading all medical record data into memory.
+     * Guards the mutations, which are journaled while it is held; see {@link JsonDataStore#recordMutation(JournalEntry)}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructs the MedicalRecordRepository, loading all medical records of the shared
+     * data store into memory and registering them as the medical records section to persist.
      *
-     * @param objectMapper       The ObjectMapper used for JSON parsing.
-     * @param sourceJsonFilePath The path to the original source JSON file.
-     * @param targetJsonFilePath The path to the modifiable (target) JSON file.
+     * @param dataStore The shared in-memory copy of the JSON data file.
      */
-    public MedicalRecordRepository(
-            ObjectMapper objectMapper,
-            @Value("${data.file.path:data.json}") String sourceJsonFilePath,
-            @Value("${modifiable.data.path:target/data/data.json}") String targetJsonFilePath
-    ) {
-        this.objectMapper = objectMapper;
-        this.sourceJsonFilePath = sourceJsonFilePath;
-        this.targetJsonFilePath = targetJsonFilePath;
-        ensureTargetFile();
-        this.medicalRecords = new CopyOnWriteArrayList<>(loadData());
+    public MedicalRecordRepository(JsonDataStore dataStore) {
+        this.dataStore = dataStore;
+        loadData();
+        dataStore.registerMedicalRecords(this::getAllMedicalRecords);
     }
 
     /**
-     * Ensures the target JSON file exists, copying it from the source if necessary.
-     * Logs an error if the source file is not found or cannot be copied.
+     * Loads medical record data from the shared data store into the name and last name indexes.
      */
-    private void ensureTargetFile() {
-        File targetFile = new File(targetJsonFilePath);
-        if (!targetFile.exists()) {
-            LOGGER.info("Target JSON file not found. Creating a copy from source.");
-            try {
-                File sourceFile = new File(sourceJsonFilePath);
-                if (sourceFile.exists()) {
-                    targetFile.getParentFile().mkdirs();
-                    Files.copy(sourceFile.toPath(), targetFile.toPath());
-                    LOGGER.info("Copied source JSON to target location: {}", targetFile.getAbsolutePath());
-                } else {
-                    LOGGER.error("Source JSON file not found. Cannot create target file.");
-                }
-            } catch (IOException e) {
-                LOGGER.error("Failed to copy source JSON to target location.", e);
-            }
+    private void loadData() {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            dataStore.getMedicalRecords().forEach(this::putMedicalRecord);
+        } finally {
+            lock.unlock();
         }
+        dataStore.getLatencyMetrics().recordSince("MedicalRecordRepository.loadData", start);
+        LOGGER.info("MedicalRecordRepository: loaded {} medical records.", medicalRecordsMap.size());
     }
 
     /**
-     * Loads medical record data from the target JSON file.
-     * Returns an empty list if the file is not found or cannot be read.
-     *
-     * @return A list of {@link MedicalRecord} objects.
+     * Saves the current medical records, along with the other sections of the data store,
+     * back to the target JSON file. Logs an error if the file cannot be written.
      */
-    private List<MedicalRecord> loadData() {
-        File file = new File(targetJsonFilePath);
-        if (!file.exists()) {
-            LOGGER.error("Target JSON file not found at: {}", targetJsonFilePath);
-            return Collections.emptyList();
-        }
+    public void saveData() {
+        long start = System.nanoTime();
+        dataStore.save();
+        dataStore.getLatencyMetrics().recordSince("MedicalRecordRepository.saveData", start);
+    }
 
-        try {
-            LOGGER.info("Loading MedicalRecord data from file: {}", file.getAbsolutePath());
-            Map<String, List<MedicalRecord>> data = objectMapper.readValue(file, new TypeReference<>() {});
-            return data.getOrDefault("medicalrecords", Collections.emptyList());
-        } catch (IOException e) {
-            LOGGER.error("Error loading MedicalRecord JSON data: ", e);
-            return Collections.emptyList();
-        }
+    /**
+     * Generates a unique key based on a person's first and last name,
+     * using the same normalization as {@link PersonRepository}.
+     *
+     * @param firstName The person's first name.
+     * @param lastName  The person's last name.
+     * @return A string key in the format "firstname_lastname" (lowercase, trimmed).
+     */
+    private String generateKey(String firstName, String lastName) {
+        return (firstName.trim().toLowerCase() + "_" + lastName.trim().toLowerCase());
     }
 
     /**
-     * Saves the current list of medical records back to the target JSON file.
-     * Logs an error if the file cannot be written.
+     * Stores a medical record under its normalized name key, replacing any previous record,
+     * and in the group of its last name. The caller holds the lock.
+     *
+     * @param mr The {@link MedicalRecord} to store.
+     * @return The record previously stored under the same name, or null.
      */
-    public void saveData() {
-        File file = new File(targetJsonFilePath);
-        try {
-            if (!file.exists() || !file.canWrite()) {
-                LOGGER.error("Cannot write to file: {}", file.getAbsolutePath());
-                return;
-            }
+    private MedicalRecord putMedicalRecord(MedicalRecord mr) {
+        lastNameIndex.computeIfAbsent(mr.getLastName().trim().toLowerCase(), l -> new ConcurrentHashMap<>())
+                .put(mr.getFirstName().trim().toLowerCase(), mr);
+        return medicalRecordsMap.put(generateKey(mr.getFirstName(), mr.getLastName()), mr);
+    }
 
-            Map<String, List<MedicalRecord>> dataToSave = Map.of("medicalrecords", medicalRecords);
-            objectMapper.writeValue(file, dataToSave);
-            LOGGER.info("MedicalRecordRepository: data saved successfully to {}", file.getAbsolutePath());
-        } catch (IOException e) {
-            LOGGER.error("Error saving MedicalRecord JSON data: ", e);
+    /**
+     * Removes a medical record by name from the main map and from the group of its last name.
+     * The caller holds the lock.
+     *
+     * @param firstName The person's first name.
+     * @param lastName  The person's last name.
+     * @return The removed record, or null if there was none.
+     */
+    private MedicalRecord removeMedicalRecord(String firstName, String lastName) {
+        MedicalRecord removed = medicalRecordsMap.remove(generateKey(firstName, lastName));
+        if (removed != null) {
+            lastNameIndex.computeIfPresent(lastName.trim().toLowerCase(), (l, family) -> {
+                family.remove(firstName.trim().toLowerCase());
+                return family.isEmpty() ? null : family;
+            });
         }
+        return removed;
     }
 
     /**
@@ -120,7 +115,7 @@ public class MedicalRecordRepository {
      * @return A list of all {@link MedicalRecord} objects.
      */
     public List<MedicalRecord> getAllMedicalRecords() {
-        return new ArrayList<>(medicalRecords);
+        return new ArrayList<>(medicalRecordsMap.values());
     }
 
     /**
@@ -131,23 +126,60 @@ public class MedicalRecordRepository {
      * @return An {@link Optional} containing the matching record if found, otherwise empty.
      */
     public Optional<MedicalRecord> getMedicalRecordByName(String firstName, String lastName) {
-        return medicalRecords.stream()
-                .filter(mr -> mr.getFirstName().equalsIgnoreCase(firstName)
-                           && mr.getLastName().equalsIgnoreCase(lastName))
-                .findFirst();
+        return Optional.ofNullable(medicalRecordsMap.get(generateKey(firstName, lastName)));
+    }
+
+    /**
+     * Retrieves, in one lookup, the medical records of everyone with the given last name (case-insensitive).
+     *
+     * @param lastName The last name.
+     * @return An unmodifiable map of the records keyed by trimmed, lowercase first name; empty if none.
+     */
+    public Map<String, MedicalRecord> getMedicalRecordsByLastName(String lastName) {
+        Map<String, MedicalRecord> family = lastName == null ? null : lastNameIndex.get(lastName.trim().toLowerCase());
+        return family == null ? Map.of() : Collections.unmodifiableMap(family);
     }
 
     /**
      * Adds or updates a medical record. If a record with the same first and last name
-     * exists, it is removed before adding the new one.
+     * exists, it is replaced by the new one.
      *
      * @param mr The {@link MedicalRecord} to add or update.
      */
     public void addOrUpdateMedicalRecord(MedicalRecord mr) {
-        medicalRecords.removeIf(m -> m.getFirstName().equalsIgnoreCase(mr.getFirstName())
-                && m.getLastName().equalsIgnoreCase(mr.getLastName()));
-        medicalRecords.add(mr);
-        saveData();
+        lock.lock();
+        try {
+            MedicalRecord previous = putMedicalRecord(mr);
+            dataStore.recordMutation(JournalEntry.putMedicalRecord(mr));
+            dataStore.medicalRecordChanged(previous, mr);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or updates a batch of medical records in one pass: every record is stored under a single
+     * lock acquisition, the batch is journaled in one write and the listeners are notified once.
+     *
+     * @param records The {@link MedicalRecord}s to add or update, applied in order.
+     * @return The records previously stored under the same names, in the same order, null where a record was added.
+     */
+    public List<MedicalRecord> addOrUpdateMedicalRecords(List<MedicalRecord> records) {
+        List<MedicalRecord> previous = new ArrayList<>(records.size());
+        List<JournalEntry> entries = new ArrayList<>(records.size());
+        lock.lock();
+        try {
+            for (MedicalRecord mr : records) {
+                previous.add(putMedicalRecord(mr));
+                entries.add(JournalEntry.putMedicalRecord(mr));
+            }
+            dataStore.recordMutations(entries);
+            dataStore.medicalRecordsChanged(previous, records);
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("{} medical records added/updated in bulk.", records.size());
+        return previous;
     }
 
     /**
@@ -159,11 +191,19 @@ public class MedicalRecordRepository {
      */
     public boolean deleteMedicalRecord(String firstName, String lastName) {
         LOGGER.info("Attempting to delete medical record: {} {}", firstName, lastName);
-        boolean removed = medicalRecords.removeIf(m ->
-                m.getFirstName().equalsIgnoreCase(firstName)
-             && m.getLastName().equalsIgnoreCase(lastName));
+        boolean removed;
+        lock.lock();
+        try {
+            MedicalRecord previous = removeMedicalRecord(firstName, lastName);
+            removed = previous != null;
+            if (removed) {
+                dataStore.recordMutation(JournalEntry.deleteMedicalRecord(firstName, lastName));
+                dataStore.medicalRecordChanged(previous, null);
+            }
+        } finally {
+            lock.unlock();
+        }
         if (removed) {
-            saveData();
             LOGGER.info("Successfully deleted medical record: {} {}", firstName, lastName);
         } else {
             LOGGER.warn("No matching medical record found for: {} {}", firstName, lastName);
@@ -172,11 +212,21 @@ public class MedicalRecordRepository {
     }
 
     /**
-     * Reloads the list of medical records by clearing the current data and
-     * re-reading the JSON file.
+     * Reloads the medical records by clearing the current data and
+     * re-reading the JSON file. The other sections of the data store, and their pending
+     * writes, are left alone.
      */
     public void reloadData() {
-        this.medicalRecords = new CopyOnWriteArrayList<>(loadData());
+        List<MedicalRecord> loaded = dataStore.reloadMedicalRecords();
+        lock.lock();
+        try {
+            medicalRecordsMap.clear();
+            lastNameIndex.clear();
+            loaded.forEach(this::putMedicalRecord);
+        } finally {
+            lock.unlock();
+        }
+        dataStore.reloaded();
         LOGGER.info("MedicalRecordRepository: data reloaded successfully.");
     }
 }
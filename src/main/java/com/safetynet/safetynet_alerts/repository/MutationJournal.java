@@ -0,0 +1,362 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * Append-only log of repository mutations, kept next to the JSON snapshot.
+ * <p>
+ * Each mutation costs one small appended line, whatever the size of the data set.
+ * On startup the journal is replayed on top of the snapshot; compaction writes a new
+ * snapshot and drops the entries it covers. Compaction first moves the current journal
+ * aside (see {@link #rotate()}) so that mutations keep being appended while the snapshot
+ * is written, and only deletes the rotated part once the snapshot is safely on disk.
+ * <p>
+ * An append interrupted by a crash leaves a partial last line. It is skipped on replay and cut
+ * off before the file is appended to again, so that the next entry starts on a line of its own.
+ */
+public class MutationJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MutationJournal.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path journalPath;
+    private final Path rotatedPath;
+    private final boolean syncEachWrite;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    /**
+     * Constructs the journal. The file is only created on the first append.
+     *
+     * @param objectMapper  The ObjectMapper used to write and read entries.
+     * @param journalPath   The journal file.
+     * @param syncEachWrite Whether every append is forced to disk before returning.
+     */
+    public MutationJournal(ObjectMapper objectMapper, Path journalPath, boolean syncEachWrite) {
+        this.objectMapper = objectMapper;
+        this.journalPath = journalPath.toAbsolutePath();
+        this.rotatedPath = this.journalPath.resolveSibling(this.journalPath.getFileName() + ".old");
+        this.syncEachWrite = syncEachWrite;
+    }
+
+    /**
+     * Appends one entry as a single JSON line.
+     *
+     * @param entry The mutation to record.
+     * @throws IOException If the entry cannot be written.
+     */
+    public void append(JournalEntry entry) throws IOException {
+        lock.lock();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entry);
+            ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+            FileChannel out = openChannel();
+            while (line.hasRemaining()) {
+                out.write(line);
+            }
+            if (syncEachWrite) {
+                out.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends several entries, one JSON line each, with a single write and at most one sync.
+     *
+     * @param entries The mutations to record, in order.
+     * @throws IOException If the entries cannot be written.
+     */
+    public void appendAll(List<JournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream(entries.size() * 128);
+            for (JournalEntry entry : entries) {
+                objectMapper.writeValue(lines, entry);
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            FileChannel out = openChannel();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            if (syncEachWrite) {
+                out.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The append channel of the journal, opened, and the file created, on first use.
+     *         A partial last line left by an interrupted append is cut off first.
+     * @throws IOException If the journal file cannot be opened.
+     */
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            dropPartialLine(journalPath);
+            channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    /**
+     * Truncates a journal file after its last complete line, if it does not end with one.
+     *
+     * @param path The journal file.
+     * @throws IOException If the file cannot be read or truncated.
+     */
+    private static void dropPartialLine(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long end = size;
+            ByteBuffer buffer = ByteBuffer.allocate(4096);
+            while (end > 0) {
+                long start = Math.max(0, end - buffer.capacity());
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (file.read(buffer, start + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                int newline = buffer.position() - 1;
+                while (newline >= 0 && buffer.get(newline) != '\n') {
+                    newline--;
+                }
+                if (newline >= 0) {
+                    end = start + newline + 1;
+                    break;
+                }
+                end = start;
+            }
+            if (end < size) {
+                LOGGER.warn("Dropping the partial entry left by an interrupted append at the end of {} ({} bytes)",
+                        path, size - end);
+                file.truncate(end);
+                file.force(false);
+            }
+        }
+    }
+
+    /**
+     * Reads every entry not yet folded into a snapshot, oldest first.
+     * An unparsable last line is the tail of an interrupted append and is skipped; an unparsable
+     * line anywhere else is reported as corruption, and the entries after it are still read.
+     *
+     * @return The entries of the rotated journal, if any, followed by those of the current journal.
+     * @throws IOException If a journal file exists but cannot be read.
+     */
+    public List<JournalEntry> readAll() throws IOException {
+        lock.lock();
+        try {
+            List<JournalEntry> entries = new ArrayList<>();
+            readInto(rotatedPath, entries);
+            readInto(journalPath, entries);
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void readInto(Path path, List<JournalEntry> entries) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int number = 0;
+            String next = reader.readLine();
+            while (next != null) {
+                String line = next;
+                next = reader.readLine();
+                number++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(objectMapper.readValue(line, JournalEntry.class));
+                } catch (IOException e) {
+                    if (next == null) {
+                        LOGGER.warn("Ignoring truncated journal entry at the end of {}", path);
+                    } else {
+                        LOGGER.error("Skipping corrupt journal entry at line {} of {}", number, path, e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the current entries aside so that a snapshot can be written while new entries
+     * go to a fresh journal. If a previous compaction failed, the current entries are
+     * added after the ones already rotated.
+     *
+     * @throws IOException If the journal cannot be moved.
+     */
+    public void rotate() throws IOException {
+        lock.lock();
+        try {
+            closeChannel();
+            if (!Files.exists(journalPath)) {
+                return;
+            }
+            dropPartialLine(journalPath);
+            if (Files.exists(rotatedPath)) {
+                dropPartialLine(rotatedPath);
+                Files.write(rotatedPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+                Files.delete(journalPath);
+            } else {
+                Files.move(journalPath, rotatedPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a snapshot while no entry is being appended, then moves the entries it covers aside
+     * with {@link #rotate()}.
+     *
+     * @param snapshot Takes the snapshot.
+     * @param <T>      The type of the snapshot.
+     * @return The snapshot.
+     * @throws IOException If the journal cannot be moved.
+     */
+    public <T> T rotate(Supplier<T> snapshot) throws IOException {
+        lock.lock();
+        try {
+            T taken = snapshot.get();
+            rotate();
+            return taken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the rotated entries once a snapshot containing them has been written.
+     *
+     * @throws IOException If the rotated journal cannot be deleted.
+     */
+    public void deleteRotated() throws IOException {
+        lock.lock();
+        try {
+            Files.deleteIfExists(rotatedPath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the journal file. A later append reopens it.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closeChannel();
+        } catch (IOException e) {
+            LOGGER.error("Failed to close journal {}", journalPath, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * @return The journal file.
+     */
+    public Path getPath() {
+        return journalPath;
+    }
+
+    /**
+     * Applies journal entries on top of a snapshot, with the same name and address
+     * normalization as the repositories.
+     *
+     * @param snapshot The data read from the JSON snapshot.
+     * @param entries  The entries to apply, oldest first.
+     * @return A new wrapper holding the resulting data.
+     */
+    public static JsonWrapper replay(JsonWrapper snapshot, List<JournalEntry> entries) {
+        Map<String, Person> persons = new LinkedHashMap<>();
+        snapshot.getPersons().forEach(p -> persons.put(nameKey(p.getFirstName(), p.getLastName()), p));
+        Map<String, MedicalRecord> medicalRecords = new LinkedHashMap<>();
+        snapshot.getMedicalrecords().forEach(mr -> medicalRecords.put(nameKey(mr.getFirstName(), mr.getLastName()), mr));
+        Map<String, List<FireStation>> fireStations = new LinkedHashMap<>();
+        snapshot.getFirestations().forEach(fs ->
+                fireStations.computeIfAbsent(addressKey(fs.getAddress()), a -> new ArrayList<>()).add(fs));
+
+        for (JournalEntry entry : entries) {
+            switch (entry.getOp()) {
+                case PUT_PERSON -> persons.put(nameKey(entry.getPerson().getFirstName(), entry.getPerson().getLastName()), entry.getPerson());
+                case DELETE_PERSON -> persons.remove(nameKey(entry.getFirstName(), entry.getLastName()));
+                case PUT_MEDICAL_RECORD -> medicalRecords.put(
+                        nameKey(entry.getMedicalRecord().getFirstName(), entry.getMedicalRecord().getLastName()), entry.getMedicalRecord());
+                case DELETE_MEDICAL_RECORD -> medicalRecords.remove(nameKey(entry.getFirstName(), entry.getLastName()));
+                case SET_FIRE_STATIONS -> {
+                    List<FireStation> mappings = entry.getFireStations();
+                    if (mappings == null || mappings.isEmpty()) {
+                        fireStations.remove(addressKey(entry.getAddress()));
+                    } else {
+                        fireStations.put(addressKey(entry.getAddress()), new ArrayList<>(mappings));
+                    }
+                }
+            }
+        }
+
+        JsonWrapper replayed = new JsonWrapper();
+        replayed.setPersons(new ArrayList<>(persons.values()));
+        replayed.setMedicalrecords(new ArrayList<>(medicalRecords.values()));
+        List<FireStation> allFireStations = new ArrayList<>();
+        fireStations.values().forEach(allFireStations::addAll);
+        replayed.setFirestations(allFireStations);
+        return replayed;
+    }
+
+    private static String nameKey(String firstName, String lastName) {
+        return firstName.trim().toLowerCase() + "_" + lastName.trim().toLowerCase();
+    }
+
+    private static String addressKey(String address) {
+        return address == null ? null : address.trim().toLowerCase();
+    }
+}
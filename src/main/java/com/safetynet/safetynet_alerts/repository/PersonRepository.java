@@ -1,122 +1,72 @@
 package com.safetynet.safetynet_alerts.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safetynet.safetynet_alerts.model.Person;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Repository that handles storage and retrieval of {@link Person} objects.
- * Data is initially loaded from a JSON file and kept in memory for quick access.
+ * Data is initially loaded from the shared {@link JsonDataStore} and kept in memory for quick access.
+ * <p>
+ * Besides the name key, persons are indexed by address, by last name and by city; the city index keeps,
+ * per city, how many persons share each email and a ready-made list of the distinct emails.
  */
 @Repository
 public class PersonRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PersonRepository.class);
 
-    private final ObjectMapper objectMapper;
-    private final String sourceJsonFilePath;
-    private final String targetJsonFilePath;
+    private final JsonDataStore dataStore;
     private final Map<String, Person> personsMap = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Person>> addressIndex = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Person>> lastNameIndex = new ConcurrentHashMap<>();
+    private final Map<String, CityEmails> cityIndex = new ConcurrentHashMap<>();
 
     /**
-     * Constructs the PersonRepository, ensuring the target JSON file exists and then loading data into memory.
-     *
-     * @param objectMapper       The ObjectMapper used for JSON parsing.
-     * @param sourceJsonFilePath The path to the source JSON file.
-     * @param targetJsonFilePath The path to the target (modifiable) JSON file.
-     */
-    public PersonRepository(
-            ObjectMapper objectMapper,
-            @Value("${data.file.path:data.json}") String sourceJsonFilePath,
-            @Value("${modifiable.data.path:target/data/data.json}") String targetJsonFilePath
-    ) {
-        this.objectMapper = objectMapper;
-        this.sourceJsonFilePath = sourceJsonFilePath;
-        this.targetJsonFilePath = targetJsonFilePath;
-        ensureTargetFile();
-        loadData();
-    }
+     * Guards the mutations, which are journaled while it is held; see {@link JsonDataStore#recordMutation(JournalEntry)}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
-     * Ensures that the target file exists by copying it from the source if necessary.
-     * If the source file cannot be found or copied, an error is logged.
+     * Constructs the PersonRepository, loading the persons of the shared data store into memory
+     * and registering them as the persons section to persist.
+     *
+     * @param dataStore The shared in-memory copy of the JSON data file.
      */
-    private void ensureTargetFile() {
-        File targetFile = new File(targetJsonFilePath);
-        if (!targetFile.exists()) {
-            LOGGER.info("Target JSON file not found. Creating a copy from source.");
-            try {
-                File sourceFile = new File(sourceJsonFilePath);
-                if (sourceFile.exists()) {
-                    targetFile.getParentFile().mkdirs();
-                    Files.copy(sourceFile.toPath(), targetFile.toPath());
-                    LOGGER.info("Copied source JSON to target location: {}", targetFile.getAbsolutePath());
-                } else {
-                    LOGGER.error("Source JSON file not found. Cannot create target file.");
-                }
-            } catch (IOException e) {
-                LOGGER.error("Failed to copy source JSON to target location.", e);
-            }
-        }
+    public PersonRepository(JsonDataStore dataStore) {
+        this.dataStore = dataStore;
+        loadData();
+        dataStore.registerPersons(this::getAllPersons);
     }
 
     /**
-     * Loads person data from the target JSON file into an in-memory map.
-     * If the file doesn't exist or cannot be read, an error is logged.
+     * Loads person data from the shared data store into an in-memory map.
      */
     public void loadData() {
-        File file = new File(targetJsonFilePath);
-        if (!file.exists()) {
-            LOGGER.error("Target JSON file not found at: {}", targetJsonFilePath);
-            return;
-        }
-
+        long start = System.nanoTime();
+        lock.lock();
         try {
-            LOGGER.info("Loading data from file: {}", file.getAbsolutePath());
-            Map<String, List<Person>> data = objectMapper.readValue(file, new TypeReference<>() {});
-            List<Person> persons = data.getOrDefault("persons", Collections.emptyList());
-
-            persons.forEach(p -> {
-                String key = generateKey(p.getFirstName(), p.getLastName());
-                personsMap.put(key, p);
-            });
-
-            LOGGER.info("PersonRepository: Successfully loaded {} persons.", personsMap.size());
-        } catch (IOException e) {
-            LOGGER.error("Error loading JSON data: ", e);
+            dataStore.getPersons().forEach(this::putPerson);
+        } finally {
+            lock.unlock();
         }
+        dataStore.getLatencyMetrics().recordSince("PersonRepository.loadData", start);
+        LOGGER.info("PersonRepository: Successfully loaded {} persons.", personsMap.size());
     }
 
     /**
-     * Saves all persons from the in-memory map back to the target JSON file.
+     * Saves all persons, along with the other sections of the data store, back to the target JSON file.
      * If the file cannot be written, logs an error instead.
      */
     public void saveData() {
-        File file = new File(targetJsonFilePath);
-        try {
-            if (!file.exists() || !file.canWrite()) {
-                LOGGER.error("Cannot write to file: {}", file.getAbsolutePath());
-                return;
-            }
-
-            Map<String, List<Person>> dataToSave = new HashMap<>();
-            dataToSave.put("persons", new ArrayList<>(personsMap.values()));
-            objectMapper.writeValue(file, dataToSave);
-
-            LOGGER.info("PersonRepository: Data saved successfully to {}", file.getAbsolutePath());
-        } catch (IOException e) {
-            LOGGER.error("Error saving JSON data: ", e);
-        }
+        long start = System.nanoTime();
+        dataStore.save();
+        dataStore.getLatencyMetrics().recordSince("PersonRepository.saveData", start);
     }
 
     /**
@@ -130,6 +80,79 @@ public class PersonRepository {
         return (firstName.trim().toLowerCase() + "_" + lastName.trim().toLowerCase());
     }
 
+    /**
+     * Normalizes an address so that lookups in the address index are case-insensitive.
+     *
+     * @param address The address to normalize.
+     * @return The trimmed, lowercase address, or null if the address is null.
+     */
+    private String normalizeAddress(String address) {
+        return address == null ? null : address.trim().toLowerCase();
+    }
+
+    /**
+     * Stores a person in the main map and keeps the address index consistent,
+     * removing the previous entry for the same key from its old address bucket.
+     * The caller holds the lock.
+     *
+     * @param person The {@link Person} to store.
+     * @return The person previously stored under the same name, or null.
+     */
+    private Person putPerson(Person person) {
+        String key = generateKey(person.getFirstName(), person.getLastName());
+        Person previous = personsMap.put(key, person);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        index(key, person);
+        return previous;
+    }
+
+    /**
+     * Adds a person to the bucket of its address in the address index, to the bucket
+     * of their last name, and their email to the emails of their city.
+     *
+     * @param key    The person's key.
+     * @param person The {@link Person} to index.
+     */
+    private void index(String key, Person person) {
+        String address = normalizeAddress(person.getAddress());
+        if (address != null) {
+            addressIndex.computeIfAbsent(address, a -> new ConcurrentHashMap<>()).put(key, person);
+        }
+        lastNameIndex.computeIfAbsent(person.getLastName().trim().toLowerCase(), l -> new ConcurrentHashMap<>())
+                .put(key, person);
+        String city = normalizeAddress(person.getCity());
+        if (city != null && person.getEmail() != null) {
+            cityIndex.computeIfAbsent(city, c -> new CityEmails()).add(person.getEmail());
+        }
+    }
+
+    /**
+     * Removes a person from the buckets of its address and last name and their email
+     * from their city, dropping the buckets and the city once empty.
+     *
+     * @param key    The person's key.
+     * @param person The {@link Person} to remove from the index.
+     */
+    private void unindex(String key, Person person) {
+        String address = normalizeAddress(person.getAddress());
+        if (address != null) {
+            addressIndex.computeIfPresent(address, (a, bucket) -> {
+                bucket.remove(key);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+        lastNameIndex.computeIfPresent(person.getLastName().trim().toLowerCase(), (l, bucket) -> {
+            bucket.remove(key);
+            return bucket.isEmpty() ? null : bucket;
+        });
+        String city = normalizeAddress(person.getCity());
+        if (city != null && person.getEmail() != null) {
+            cityIndex.computeIfPresent(city, (c, emails) -> emails.remove(person.getEmail()) ? null : emails);
+        }
+    }
+
     /**
      * Retrieves all persons currently held in the repository.
      *
@@ -151,18 +174,49 @@ public class PersonRepository {
     }
 
     /**
-     * Adds a new person or updates an existing person in the repository, then saves the data to the JSON file.
+     * Adds a new person or updates an existing person in the repository, then schedules the data to be written to the JSON file.
      *
      * @param person The {@link Person} to add or update.
      */
     public void addOrUpdatePerson(Person person) {
-        String key = generateKey(person.getFirstName(), person.getLastName());
-        LOGGER.debug("Adding/updating person with key: {}", key);
-        personsMap.put(key, person);
-        saveData();
+        LOGGER.debug("Adding/updating person with key: {}",
+                generateKey(person.getFirstName(), person.getLastName()));
+        lock.lock();
+        try {
+            Person previous = putPerson(person);
+            dataStore.recordMutation(JournalEntry.putPerson(person));
+            dataStore.personChanged(previous, person);
+        } finally {
+            lock.unlock();
+        }
         LOGGER.info("Person added/updated: {}", person);
     }
 
+    /**
+     * Adds or updates a batch of persons in one pass: every person is stored and indexed under a
+     * single lock acquisition, the batch is journaled in one write and the listeners are notified once.
+     *
+     * @param persons The persons to add or update, applied in order.
+     * @return The persons previously stored under the same names, in the same order, null where a person was added.
+     */
+    public List<Person> addOrUpdatePersons(List<Person> persons) {
+        List<Person> previous = new ArrayList<>(persons.size());
+        List<JournalEntry> entries = new ArrayList<>(persons.size());
+        lock.lock();
+        try {
+            for (Person person : persons) {
+                previous.add(putPerson(person));
+                entries.add(JournalEntry.putPerson(person));
+            }
+            dataStore.recordMutations(entries);
+            dataStore.personsChanged(previous, persons);
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("{} persons added/updated in bulk.", persons.size());
+        return previous;
+    }
+
     /**
      * Deletes a person identified by first and last name.
      *
@@ -173,9 +227,19 @@ public class PersonRepository {
     public boolean deletePerson(String firstName, String lastName) {
         String key = generateKey(firstName, lastName);
         LOGGER.debug("Attempting to delete person with key: {}", key);
-        if (personsMap.containsKey(key)) {
-            personsMap.remove(key);
-            saveData();
+        Person removed;
+        lock.lock();
+        try {
+            removed = personsMap.remove(key);
+            if (removed != null) {
+                unindex(key, removed);
+                dataStore.recordMutation(JournalEntry.deletePerson(firstName, lastName));
+                dataStore.personChanged(removed, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null) {
             LOGGER.info("Person deleted: {} {}", firstName, lastName);
             return true;
         }
@@ -184,27 +248,108 @@ public class PersonRepository {
     }
 
     /**
-     * Finds all persons living at a specified address.
+     * Finds all persons living at a specified address (case-insensitive),
+     * using the address index instead of scanning every person.
      *
      * @param address The address to match.
      * @return A list of {@link Person} objects living at the specified address.
      */
     public List<Person> findByAddress(String address) {
-        List<Person> results = new ArrayList<>();
-        for (Person p : personsMap.values()) {
-            if (p.getAddress() != null && p.getAddress().equalsIgnoreCase(address)) {
-                results.add(p);
-            }
-        }
-        return results;
+        Map<String, Person> bucket = address == null ? null : addressIndex.get(normalizeAddress(address));
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    /**
+     * Finds all persons with the given last name (case-insensitive),
+     * using the last-name index instead of scanning every person.
+     *
+     * @param lastName The last name to match.
+     * @return A list of {@link Person} objects with that last name.
+     */
+    public List<Person> findByLastName(String lastName) {
+        Map<String, Person> bucket = lastName == null ? null : lastNameIndex.get(lastName.trim().toLowerCase());
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    /**
+     * Retrieves the distinct emails of the persons living in a city (case-insensitive).
+     * The distinct emails are maintained on every mutation, so no person is scanned.
+     *
+     * @param city The city to match.
+     * @return An unmodifiable list of distinct emails, in order of first appearance.
+     */
+    public List<String> getEmailsByCity(String city) {
+        CityEmails emails = city == null ? null : cityIndex.get(normalizeAddress(city));
+        return emails == null ? List.of() : emails.list();
     }
 
     /**
      * Clears the in-memory data and reloads it from the JSON file.
+     * The other sections of the data store, and their pending writes, are left alone.
      */
     public void reloadData() {
-        personsMap.clear();
-        loadData();
+        List<Person> loaded = dataStore.reloadPersons();
+        lock.lock();
+        try {
+            personsMap.clear();
+            addressIndex.clear();
+            lastNameIndex.clear();
+            cityIndex.clear();
+            loaded.forEach(this::putPerson);
+        } finally {
+            lock.unlock();
+        }
+        dataStore.reloaded();
         LOGGER.info("PersonRepository: Data reloaded successfully.");
     }
+
+    /**
+     * The emails of one city: how many persons use each email, and the distinct emails as a
+     * ready-made list. The list is dropped whenever the set of distinct emails changes and rebuilt
+     * on the next read, so that loading a city of n persons costs O(n) rather than one copy per person.
+     */
+    private static final class CityEmails {
+
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private volatile List<String> list = List.of();
+
+        synchronized void add(String email) {
+            if (counts.merge(email, 1, Integer::sum) == 1) {
+                list = null;
+            }
+        }
+
+        /**
+         * @return True if the city has no email left.
+         */
+        synchronized boolean remove(String email) {
+            Integer count = counts.get(email);
+            if (count != null) {
+                if (count == 1) {
+                    counts.remove(email);
+                    list = null;
+                } else {
+                    counts.put(email, count - 1);
+                }
+            }
+            return counts.isEmpty();
+        }
+
+        /**
+         * @return The distinct emails, in order of first appearance.
+         */
+        List<String> list() {
+            List<String> current = list;
+            if (current == null) {
+                synchronized (this) {
+                    current = list;
+                    if (current == null) {
+                        current = List.copyOf(counts.keySet());
+                        list = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
 }
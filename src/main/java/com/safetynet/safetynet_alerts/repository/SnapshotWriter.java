@@ -0,0 +1,118 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+
+/**
+ * Writes the whole data document so that the target file is never left half written.
+ * <p>
+ * The document is streamed to a temporary file in the target's directory, forced to
+ * disk, then renamed over the target in one atomic step. A crash at any point leaves
+ * either the previous file or the new one, never a truncated mix.
+ */
+public class SnapshotWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotWriter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the SnapshotWriter.
+     *
+     * @param objectMapper The ObjectMapper used to serialize the document.
+     */
+    public SnapshotWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Atomically replaces the target file with the given document.
+     *
+     * @param target The file to replace.
+     * @param data   The persons, fire stations and medical records to write.
+     * @throws IOException If the document cannot be written; the target is then left untouched.
+     */
+    public void write(File target, JsonWrapper data) throws IOException {
+        Path targetPath = target.toPath().toAbsolutePath();
+        Path directory = targetPath.getParent();
+        Path tempPath = Files.createTempFile(directory, target.getName() + ".", ".tmp");
+        boolean moved = false;
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempPath.toFile());
+                 BufferedOutputStream out = new BufferedOutputStream(fileOut, BUFFER_SIZE)) {
+                objectMapper.writeValue(new NonClosingOutputStream(out), data);
+                out.flush();
+                fileOut.getChannel().force(true);
+            }
+            move(tempPath, targetPath);
+            moved = true;
+            syncDirectory(directory);
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+    }
+
+    /**
+     * Renames the temporary file over the target, atomically when the file system allows it.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            LOGGER.warn("Atomic move not supported for {}, falling back to a plain replace.", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the rename to disk. Not every platform allows
+     * opening a directory, in which case the rename is left to the operating system.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.debug("Could not sync directory {}", directory, e);
+        }
+    }
+
+    /**
+     * Keeps Jackson from closing the file before it has been forced to disk.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
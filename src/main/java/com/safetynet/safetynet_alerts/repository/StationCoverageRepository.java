@@ -0,0 +1,163 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.Household;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.model.StationCoverage;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-station {@link StationCoverage} aggregates, kept until a change touches the station.
+ * <p>
+ * Every person, medical record or fire station change drops the aggregates of the stations
+ * covering the affected addresses; the next read rebuilds them from the materialized
+ * {@link HouseholdRepository} households, which costs as much as the result itself. Other
+ * reads return the stored aggregate as is, until the date rolls over and ages must be recounted.
+ * <p>
+ * A generation counter guards against storing an aggregate computed from data that changed
+ * while it was being built. This listener must be registered after the household view,
+ * which the constructor dependency guarantees, so that households are current when it runs.
+ */
+@Repository
+public class StationCoverageRepository implements DataChangeListener {
+
+    private final FireStationRepository fireStationRepository;
+    private final PersonRepository personRepository;
+    private final HouseholdRepository householdRepository;
+    private final Map<String, StationCoverage> coverages = new ConcurrentHashMap<>();
+    private long generation;
+
+    /**
+     * Constructs the StationCoverageRepository and subscribes to the changes of the shared data store.
+     *
+     * @param dataStore             The shared data store publishing repository changes.
+     * @param fireStationRepository Repository for fire station mappings.
+     * @param personRepository      Repository for person data.
+     * @param householdRepository   Materialized households the aggregates are built from.
+     */
+    public StationCoverageRepository(JsonDataStore dataStore,
+                                     FireStationRepository fireStationRepository,
+                                     PersonRepository personRepository,
+                                     HouseholdRepository householdRepository) {
+        this.fireStationRepository = fireStationRepository;
+        this.personRepository = personRepository;
+        this.householdRepository = householdRepository;
+        dataStore.addChangeListener(this);
+    }
+
+    /**
+     * Retrieves the aggregate of the persons covered by a station, building it if needed.
+     *
+     * @param stationNumber The station number.
+     * @return The aggregate, empty if the station covers no address.
+     */
+    public StationCoverage findByStation(String stationNumber) {
+        if (stationNumber == null) {
+            return StationCoverage.of(null, List.of());
+        }
+        StationCoverage coverage = coverages.get(stationNumber);
+        if (coverage != null && coverage.isCurrent()) {
+            return coverage;
+        }
+        long expected = currentGeneration();
+        List<Household> households = new ArrayList<>();
+        for (String address : fireStationRepository.getAddressesByStation(stationNumber)) {
+            households.add(householdRepository.findByAddress(address));
+        }
+        coverage = StationCoverage.of(stationNumber, households);
+        store(stationNumber, coverage, expected);
+        return coverage;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void store(String stationNumber, StationCoverage coverage, long expected) {
+        if (generation == expected) {
+            coverages.put(stationNumber, coverage);
+        }
+    }
+
+    /**
+     * Drops the aggregates of every station covering an address.
+     *
+     * @param address The changed address.
+     */
+    private synchronized void invalidateAddress(String address) {
+        generation++;
+        for (FireStation fireStation : fireStationRepository.getFireStationsByAddress(address)) {
+            coverages.remove(String.valueOf(fireStation.getStation()));
+        }
+    }
+
+    @Override
+    public void onPersonChanged(Person previous, Person current) {
+        if (previous != null) {
+            invalidateAddress(previous.getAddress());
+        }
+        if (current != null) {
+            invalidateAddress(current.getAddress());
+        }
+    }
+
+    @Override
+    public void onMedicalRecordChanged(MedicalRecord previous, MedicalRecord current) {
+        MedicalRecord changed = current != null ? current : previous;
+        personRepository.getPersonByName(changed.getFirstName(), changed.getLastName())
+                .ifPresent(person -> invalidateAddress(person.getAddress()));
+    }
+
+    @Override
+    public synchronized void onFireStationsChanged(String address, List<FireStation> previous, List<FireStation> current) {
+        generation++;
+        previous.forEach(fireStation -> coverages.remove(String.valueOf(fireStation.getStation())));
+        current.forEach(fireStation -> coverages.remove(String.valueOf(fireStation.getStation())));
+    }
+
+    @Override
+    public synchronized void onPersonsChanged(List<Person> previous, List<Person> current) {
+        Set<String> addresses = new HashSet<>();
+        for (int i = 0; i < current.size(); i++) {
+            if (previous.get(i) != null) {
+                addresses.add(previous.get(i).getAddress());
+            }
+            addresses.add(current.get(i).getAddress());
+        }
+        addresses.forEach(this::invalidateAddress);
+    }
+
+    @Override
+    public synchronized void onMedicalRecordsChanged(List<MedicalRecord> previous, List<MedicalRecord> current) {
+        Set<String> addresses = new HashSet<>();
+        for (MedicalRecord changed : current) {
+            personRepository.getPersonByName(changed.getFirstName(), changed.getLastName())
+                    .ifPresent(person -> addresses.add(person.getAddress()));
+        }
+        addresses.forEach(this::invalidateAddress);
+    }
+
+    @Override
+    public synchronized void onFireStationsChanged(Map<String, List<FireStation>> previous,
+                                                   Map<String, List<FireStation>> current) {
+        generation++;
+        previous.values().forEach(mappings -> mappings.forEach(fireStation ->
+                coverages.remove(String.valueOf(fireStation.getStation()))));
+        current.values().forEach(mappings -> mappings.forEach(fireStation ->
+                coverages.remove(String.valueOf(fireStation.getStation()))));
+    }
+
+    @Override
+    public synchronized void onReload() {
+        generation++;
+        coverages.clear();
+    }
+}
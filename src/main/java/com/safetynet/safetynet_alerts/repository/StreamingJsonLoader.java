@@ -0,0 +1,84 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+
+/**
+ * Reads the data file token by token instead of binding it as one document.
+ * <p>
+ * The {@code persons}, {@code firestations} and {@code medicalrecords} arrays are walked
+ * element by element; each element is bound on its own and handed to the given consumer
+ * right away, so no tree or intermediate copy of the whole file is ever held in memory.
+ * Unknown top-level fields are skipped.
+ */
+public class StreamingJsonLoader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the StreamingJsonLoader.
+     *
+     * @param objectMapper The ObjectMapper providing the parser and the element binding configuration.
+     */
+    public StreamingJsonLoader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams the file into the given consumers, in file order.
+     *
+     * @param file           The JSON data file.
+     * @param persons        Receives each person.
+     * @param fireStations   Receives each fire station mapping.
+     * @param medicalRecords Receives each medical record.
+     * @throws IOException If the file cannot be read or is not a valid data document.
+     */
+    public void load(File file,
+                     Consumer<Person> persons,
+                     Consumer<FireStation> fireStations,
+                     Consumer<MedicalRecord> medicalRecords) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the data file to contain a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (section) {
+                    case "persons" -> readArray(parser, objectMapper.readerFor(Person.class), persons);
+                    case "firestations" -> readArray(parser, objectMapper.readerFor(FireStation.class), fireStations);
+                    case "medicalrecords" -> readArray(parser, objectMapper.readerFor(MedicalRecord.class), medicalRecords);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static <T> void readArray(JsonParser parser, ObjectReader reader, Consumer<T> consumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected '" + parser.currentName() + "' to be an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end of file in '" + parser.currentName() + "'");
+            }
+            T element = reader.readValue(parser);
+            if (element != null) {
+                consumer.accept(element);
+            }
+        }
+    }
+}
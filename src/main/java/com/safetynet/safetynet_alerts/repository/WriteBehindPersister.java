@@ -0,0 +1,144 @@
+package com.safetynet.safetynet_alerts.repository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces repository mutations into as few file writes as possible.
+ * <p>
+ * Each mutation only marks the data dirty. The first mark schedules a flush after
+ * the configured interval; reaching the dirty-count threshold flushes right away.
+ * Either way, every mutation marked before a flush starts is covered by that single write.
+ * A non-positive interval disables coalescing and writes on every mutation.
+ */
+public class WriteBehindPersister {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindPersister.class);
+
+    private final Runnable writer;
+    private final long flushIntervalMillis;
+    private final int maxDirtyCount;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledFuture<?> pendingFlush;
+    private boolean closed;
+
+    /**
+     * Constructs the persister. The background thread is only started on the first scheduled flush.
+     *
+     * @param writer              Writes the current data to disk.
+     * @param flushIntervalMillis Maximum delay between a mutation and its write; non-positive to write through.
+     * @param maxDirtyCount       Number of pending mutations that triggers an immediate flush.
+     */
+    public WriteBehindPersister(Runnable writer, long flushIntervalMillis, int maxDirtyCount) {
+        this.writer = writer;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxDirtyCount = Math.max(1, maxDirtyCount);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "json-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Records one mutation and schedules the write that will cover it.
+     */
+    public void markDirty() {
+        int count = dirtyCount.incrementAndGet();
+        boolean writeThrough;
+        synchronized (this) {
+            writeThrough = closed || flushIntervalMillis <= 0;
+            if (!writeThrough) {
+                if (count == maxDirtyCount) {
+                    cancelPendingFlush();
+                    pendingFlush = scheduler.schedule(this::flushQuietly, 0, TimeUnit.MILLISECONDS);
+                } else if (pendingFlush == null) {
+                    pendingFlush = scheduler.schedule(this::flushQuietly, flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (writeThrough) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the data now if any mutation is pending. Blocks until the write completes.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                cancelPendingFlush();
+            }
+            int pending = dirtyCount.getAndSet(0);
+            if (pending == 0) {
+                return;
+            }
+            LOGGER.debug("Flushing {} pending mutation(s).", pending);
+            writer.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drops pending mutations without writing them, e.g. before the data is re-read from disk.
+     */
+    public void discard() {
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                cancelPendingFlush();
+            }
+            dirtyCount.set(0);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of mutations not yet written.
+     */
+    public int getDirtyCount() {
+        return dirtyCount.get();
+    }
+
+    /**
+     * Stops the background thread and writes any pending mutation.
+     * Mutations marked afterwards are written on the caller thread.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            cancelPendingFlush();
+        }
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Write-behind flush failed.", e);
+        }
+    }
+
+    private void cancelPendingFlush() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+    }
+}
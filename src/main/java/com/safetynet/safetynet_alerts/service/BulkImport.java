@@ -0,0 +1,69 @@
+package com.safetynet.safetynet_alerts.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO.ItemResult;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO.Status;
+
+/**
+ * The steps shared by the bulk imports of the services: every item is validated, the valid
+ * ones are applied to their repository in a single batch, and each item gets its outcome.
+ */
+final class BulkImport {
+
+    private BulkImport() {
+    }
+
+    /**
+     * Validates the items, applies the valid ones in one batch and reports the outcome of each.
+     *
+     * @param items    The received items, in request order.
+     * @param validate Returns why an item is invalid, or null if it can be applied.
+     * @param apply    Applies the valid items in order and returns, for each, the value it replaced or null.
+     * @param <T>      The type of the items.
+     * @return The per-item results.
+     */
+    static <T> BulkImportResultDTO run(List<T> items, Function<T, String> validate, Function<List<T>, List<?>> apply) {
+        ItemResult[] results = new ItemResult[items.size()];
+        List<T> valid = new ArrayList<>(items.size());
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String error = validate.apply(item);
+            if (error == null) {
+                valid.add(item);
+                validIndexes.add(i);
+            } else {
+                results[i] = new ItemResult(i, Status.REJECTED, error);
+            }
+        }
+        if (!valid.isEmpty()) {
+            List<?> replaced = apply.apply(valid);
+            for (int j = 0; j < valid.size(); j++) {
+                int index = validIndexes.get(j);
+                results[index] = new ItemResult(index, replaced.get(j) == null ? Status.CREATED : Status.UPDATED, null);
+            }
+        }
+        return BulkImportResultDTO.of(Arrays.asList(results));
+    }
+
+    /**
+     * @param missing The names of the required fields an item lacks.
+     * @return The error of an item lacking those fields, or null if none is missing.
+     */
+    static String missing(List<String> missing) {
+        return missing.isEmpty() ? null : "missing " + String.join(", ", missing);
+    }
+
+    /**
+     * @param value A field value.
+     * @return Whether the value is null or only whitespace.
+     */
+    static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,24 +1,29 @@
 package com.safetynet.safetynet_alerts.service;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.dto.CoveredPersonDTO;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
 import com.safetynet.safetynet_alerts.model.FireStation;
-import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Household;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.model.StationCoverage;
 import com.safetynet.safetynet_alerts.repository.FireStationRepository;
-import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
-import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
 
 /**
  * Provides business logic related to {@link FireStation}, such as
@@ -31,24 +36,24 @@ public class FireStationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(FireStationService.class);
 
     private final FireStationRepository fireStationRepository;
-    private final PersonRepository personRepository;
-    private final MedicalRecordRepository medicalRecordRepository;
+    private final StationCoverageRepository stationCoverageRepository;
+    private final HouseholdRepository householdRepository;
 
     /**
      * Constructs the FireStationService with the required repositories.
      *
-     * @param fireStationRepository   Repository managing fire station data.
-     * @param personRepository        Repository managing person data.
-     * @param medicalRecordRepository Repository managing medical record data.
+     * @param fireStationRepository     Repository managing fire station data.
+     * @param stationCoverageRepository Per-station aggregates of the covered persons.
+     * @param householdRepository       Residents and medical records grouped by address.
      */
     public FireStationService(
             FireStationRepository fireStationRepository,
-            PersonRepository personRepository,
-            MedicalRecordRepository medicalRecordRepository
+            StationCoverageRepository stationCoverageRepository,
+            HouseholdRepository householdRepository
     ) {
         this.fireStationRepository = fireStationRepository;
-        this.personRepository = personRepository;
-        this.medicalRecordRepository = medicalRecordRepository;
+        this.stationCoverageRepository = stationCoverageRepository;
+        this.householdRepository = householdRepository;
     }
 
     /**
@@ -61,6 +66,33 @@ public class FireStationService {
         fireStationRepository.addFireStation(fireStation);
     }
 
+    /**
+     * Adds or updates a batch of {@link FireStation} mappings, each one as {@link #addFireStation(FireStation)}
+     * would. Mappings without an address or station are rejected; the others are applied in a single batch.
+     *
+     * @param fireStations The mappings to import, in request order.
+     * @return The outcome of every mapping; a mapping replacing one of its address counts as updated.
+     */
+    public BulkImportResultDTO importFireStations(List<FireStation> fireStations) {
+        LOGGER.info("Importing {} fire station mappings.", fireStations.size());
+        return BulkImport.run(fireStations, this::validate, fireStationRepository::addFireStations);
+    }
+
+    /**
+     * @param fireStation A mapping to import.
+     * @return Why the mapping cannot be imported, or null if it can.
+     */
+    private String validate(FireStation fireStation) {
+        List<String> missing = new ArrayList<>();
+        if (BulkImport.isBlank(fireStation.getAddress())) {
+            missing.add("address");
+        }
+        if (BulkImport.isBlank(fireStation.getStation())) {
+            missing.add("station");
+        }
+        return BulkImport.missing(missing);
+    }
+
     /**
      * Deletes the {@link FireStation} mapping for the specified address.
      *
@@ -86,53 +118,20 @@ public class FireStationService {
 
     /**
      * Retrieves information about persons covered by a specific fire station.
-     * Returns a map including details about each person, and counts of adults/children.
+     * Returns the details of each person, and counts of adults/children.
      *
      * @param stationNumber The fire station number to filter by.
-     * @return A map containing 'persons' (list of person details),
-     *         'adultCount', and 'childCount'.
+     * @return The covered persons, the adult count and the child count.
      */
-    public Map<String, Object> getPeopleCoveredByFireStation(String stationNumber) {
+    public FireStationCoverageDTO getPeopleCoveredByFireStation(String stationNumber) {
         LOGGER.debug("Fetching people covered by station number: {}", stationNumber);
 
-        List<String> addresses = fireStationRepository.getAllFireStations().stream()
-                .filter(fs -> fs.getStation().equals(stationNumber))
-                .map(FireStation::getAddress)
-                .collect(Collectors.toList());
-
-        List<Person> coveredPersons = personRepository.getAllPersons().stream()
-                .filter(person -> addresses.contains(person.getAddress()))
-                .collect(Collectors.toList());
-
-        List<Map<String, String>> personDetails = new ArrayList<>();
-        int adultCount = 0;
-        int childCount = 0;
-
-        for (Person person : coveredPersons) {
-            Map<String, String> details = new HashMap<>();
-            details.put("firstName", person.getFirstName());
-            details.put("lastName", person.getLastName());
-            details.put("address", person.getAddress());
-            details.put("phone", person.getPhone());
-
-            Optional<MedicalRecord> medicalRecord =
-                    medicalRecordRepository.getMedicalRecordByName(person.getFirstName(), person.getLastName());
-            int age = medicalRecord.map(MedicalRecord::getAge).orElse(-1);
-
-            if (age >= 0 && age <= 18) {
-                childCount++;
-            } else if (age > 18) {
-                adultCount++;
-            }
-            personDetails.add(details);
+        StationCoverage coverage = stationCoverageRepository.findByStation(stationNumber);
+        List<CoveredPersonDTO> persons = new ArrayList<>(coverage.getResidents().size());
+        for (Person person : coverage.getResidents()) {
+            persons.add(CoveredPersonDTO.of(person));
         }
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("persons", personDetails);
-        result.put("adultCount", adultCount);
-        result.put("childCount", childCount);
-
-        return result;
+        return new FireStationCoverageDTO(persons, coverage.getAdultCount(), coverage.getChildCount());
     }
 
     /**
@@ -142,44 +141,95 @@ public class FireStationService {
      * @param stations A list of station numbers (integers).
      * @return A map where the key is an address, and the value is a list of residents with associated info.
      */
-    public Map<String, List<Map<String, Object>>> getFloodStationsInfo(List<Integer> stations) {
+    public Map<String, List<ResidentDTO>> getFloodStationsInfo(List<Integer> stations) {
         LOGGER.debug("Fetching flood information for stations={}", stations);
 
-        List<FireStation> allFireStations = fireStationRepository.getAllFireStations();
-        Set<String> addresses = new HashSet<>();
-
+        Set<String> addresses = new LinkedHashSet<>();
         for (Integer station : stations) {
-            String stationStr = station.toString();
-            allFireStations.stream()
-                    .filter(fs -> fs.getStation().equals(stationStr))
-                    .map(FireStation::getAddress)
-                    .forEach(addresses::add);
+            addresses.addAll(fireStationRepository.getAddressesByStation(station.toString()));
         }
 
-        Map<String, List<Map<String, Object>>> result = new HashMap<>();
+        Map<String, List<ResidentDTO>> result = new LinkedHashMap<>();
 
         for (String address : addresses) {
-            List<Person> personsAtAddress = personRepository.findByAddress(address);
-
-            List<Map<String, Object>> inhabitants = personsAtAddress.stream()
-                    .map(person -> {
-                        Map<String, Object> inhabitantInfo = new HashMap<>();
-                        inhabitantInfo.put("firstName", person.getFirstName());
-                        inhabitantInfo.put("lastName", person.getLastName());
-                        inhabitantInfo.put("phone", person.getPhone());
-
-                        medicalRecordRepository.getMedicalRecordByName(person.getFirstName(), person.getLastName())
-                                .ifPresent(medicalRecord -> {
-                                    inhabitantInfo.put("age", medicalRecord.getAge());
-                                    inhabitantInfo.put("medications", medicalRecord.getMedications());
-                                    inhabitantInfo.put("allergies", medicalRecord.getAllergies());
-                                });
-                        return inhabitantInfo;
-                    })
-                    .collect(Collectors.toList());
-
+            List<Household.Member> members = householdRepository.findByAddress(address).getMembers();
+            List<ResidentDTO> inhabitants = new ArrayList<>(members.size());
+            for (Household.Member member : members) {
+                inhabitants.add(ResidentDTO.of(member.getPerson(), member.getMedicalRecord()));
+            }
             result.put(address, inhabitants);
         }
         return result;
     }
+
+    /**
+     * Writes the persons covered by a fire station straight to a JSON generator, in the same
+     * form as {@link #getPeopleCoveredByFireStation(String)}, without building the response first.
+     *
+     * @param stationNumber The fire station number to filter by.
+     * @param generator     The generator the response is written to.
+     * @throws IOException If the response cannot be written.
+     */
+    public void writePeopleCoveredByFireStation(String stationNumber, JsonGenerator generator) throws IOException {
+        LOGGER.debug("Streaming people covered by station number: {}", stationNumber);
+
+        StationCoverage coverage = stationCoverageRepository.findByStation(stationNumber);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : coverage.getResidents()) {
+            generator.writeObject(CoveredPersonDTO.of(person));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("adultCount", coverage.getAdultCount());
+        generator.writeNumberField("childCount", coverage.getChildCount());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes flood information straight to a JSON generator, in the same form as
+     * {@link #getFloodStationsInfo(List)}, household by household while iterating the station
+     * and household indexes. Only one resident is held at a time, whatever the size of the result.
+     * <p>
+     * An address covered by several of the requested stations is written once, under the first of them.
+     *
+     * @param stations  A list of station numbers (integers).
+     * @param generator The generator the response is written to.
+     * @throws IOException If the response cannot be written.
+     */
+    public void writeFloodStationsInfo(List<Integer> stations, JsonGenerator generator) throws IOException {
+        LOGGER.debug("Streaming flood information for stations={}", stations);
+
+        List<String> stationNumbers = stations.stream().map(String::valueOf).distinct().toList();
+        generator.writeStartObject();
+        for (int i = 0; i < stationNumbers.size(); i++) {
+            List<String> previousStations = stationNumbers.subList(0, i);
+            for (String address : fireStationRepository.getAddressesByStation(stationNumbers.get(i))) {
+                if (isCoveredByAny(address, previousStations)) {
+                    continue;
+                }
+                generator.writeArrayFieldStart(address);
+                for (Household.Member member : householdRepository.findByAddress(address).getMembers()) {
+                    generator.writeObject(ResidentDTO.of(member.getPerson(), member.getMedicalRecord()));
+                }
+                generator.writeEndArray();
+            }
+            generator.flush();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * @return True if one of the given stations covers the address.
+     */
+    private boolean isCoveredByAny(String address, List<String> stationNumbers) {
+        if (stationNumbers.isEmpty()) {
+            return false;
+        }
+        for (FireStation fireStation : fireStationRepository.getFireStationsByAddress(address)) {
+            if (stationNumbers.contains(fireStation.getStation())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,5 +1,6 @@
 package com.safetynet.safetynet_alerts.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.model.AgeCalculator;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
 
@@ -60,6 +63,47 @@ public class MedicalRecordService {
         medicalRecordRepository.addOrUpdateMedicalRecord(mr);
     }
 
+    /**
+     * Adds or updates a batch of medical records. Records without a name, medication or allergy
+     * list, or whose birth date is not a valid MM/dd/yyyy date, are rejected; the others are
+     * applied to the repository in a single batch.
+     *
+     * @param records The MedicalRecord objects to import, in request order.
+     * @return The outcome of every record.
+     */
+    public BulkImportResultDTO importMedicalRecords(List<MedicalRecord> records) {
+        LOGGER.info("Importing {} medical records.", records.size());
+        return BulkImport.run(records, this::validate, medicalRecordRepository::addOrUpdateMedicalRecords);
+    }
+
+    /**
+     * @param mr A medical record to import.
+     * @return Why the record cannot be imported, or null if it can.
+     */
+    private String validate(MedicalRecord mr) {
+        List<String> missing = new ArrayList<>();
+        if (BulkImport.isBlank(mr.getFirstName())) {
+            missing.add("firstName");
+        }
+        if (BulkImport.isBlank(mr.getLastName())) {
+            missing.add("lastName");
+        }
+        if (BulkImport.isBlank(mr.getBirthdate())) {
+            missing.add("birthdate");
+        }
+        if (mr.getMedications() == null) {
+            missing.add("medications");
+        }
+        if (mr.getAllergies() == null) {
+            missing.add("allergies");
+        }
+        String error = BulkImport.missing(missing);
+        if (error == null && AgeCalculator.parseBirthdate(mr.getBirthdate()) == AgeCalculator.INVALID_DATE) {
+            error = "birthdate is not a valid MM/dd/yyyy date: " + mr.getBirthdate();
+        }
+        return error;
+    }
+
     /**
      * Deletes a medical record identified by the person's first and last names.
      *
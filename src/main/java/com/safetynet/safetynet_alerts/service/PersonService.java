@@ -1,22 +1,28 @@
 package com.safetynet.safetynet_alerts.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.Household;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
 import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
 import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
 import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
 
 /**
  * Business logic related to Person operations.
@@ -29,22 +35,30 @@ public class PersonService {
     private final PersonRepository personRepository;
     private final MedicalRecordRepository medicalRecordRepository;
     private final FireStationRepository fireStationRepository;
+    private final HouseholdRepository householdRepository;
+    private final StationCoverageRepository stationCoverageRepository;
 
     /**
      * Constructs the PersonService with required repositories.
      *
-     * @param personRepository        Repository for Person data.
-     * @param medicalRecordRepository Repository for MedicalRecord data.
-     * @param fireStationRepository   Repository for FireStation data.
+     * @param personRepository          Repository for Person data.
+     * @param medicalRecordRepository   Repository for MedicalRecord data.
+     * @param fireStationRepository     Repository for FireStation data.
+     * @param householdRepository       Materialized households, used by the address-based alerts.
+     * @param stationCoverageRepository Per-station aggregates, used by the phone alert.
      */
     public PersonService(
             PersonRepository personRepository,
             MedicalRecordRepository medicalRecordRepository,
-            FireStationRepository fireStationRepository
+            FireStationRepository fireStationRepository,
+            HouseholdRepository householdRepository,
+            StationCoverageRepository stationCoverageRepository
     ) {
         this.personRepository = personRepository;
         this.medicalRecordRepository = medicalRecordRepository;
         this.fireStationRepository = fireStationRepository;
+        this.householdRepository = householdRepository;
+        this.stationCoverageRepository = stationCoverageRepository;
     }
 
     /**
@@ -67,6 +81,39 @@ public class PersonService {
         personRepository.addOrUpdatePerson(person);
     }
 
+    /**
+     * Adds or updates a batch of persons. Persons without a first name, last name, address
+     * or city are rejected; the others are applied to the repository in a single batch.
+     *
+     * @param persons The persons to import, in request order.
+     * @return The outcome of every person.
+     */
+    public BulkImportResultDTO importPersons(List<Person> persons) {
+        LOGGER.info("Importing {} persons.", persons.size());
+        return BulkImport.run(persons, this::validate, personRepository::addOrUpdatePersons);
+    }
+
+    /**
+     * @param person A person to import.
+     * @return Why the person cannot be imported, or null if it can.
+     */
+    private String validate(Person person) {
+        List<String> missing = new ArrayList<>();
+        if (BulkImport.isBlank(person.getFirstName())) {
+            missing.add("firstName");
+        }
+        if (BulkImport.isBlank(person.getLastName())) {
+            missing.add("lastName");
+        }
+        if (BulkImport.isBlank(person.getAddress())) {
+            missing.add("address");
+        }
+        if (BulkImport.isBlank(person.getCity())) {
+            missing.add("city");
+        }
+        return BulkImport.missing(missing);
+    }
+
     /**
      * Updates an existing person if found in the repository.
      *
@@ -98,26 +145,22 @@ public class PersonService {
      * Retrieves child information for a given address (childAlert endpoint).
      *
      * @param address The address to search for children.
-     * @return A list of strings describing children and other household members.
+     * @return One entry per child, with their age and the other household members.
      */
-    public List<String> getChildrenByAddress(String address) {
+    public List<ChildAlertDTO> getChildrenByAddress(String address) {
         LOGGER.debug("Searching children at address: {}", address);
-        List<Person> people = personRepository.findByAddress(address);
-        List<String> result = new ArrayList<>();
-
-        for (Person p : people) {
-            Optional<MedicalRecord> mr = medicalRecordRepository.getMedicalRecordByName(p.getFirstName(), p.getLastName());
-            if (mr.isPresent()) {
-                int age = mr.get().getAge();
-                if (age <= 18) {
-                    String info = "Child: " + p.getFirstName() + " " + p.getLastName() +
-                                  ", Age: " + age +
-                                  ", Other members: " + people.stream()
-                                    .filter(o -> !o.equals(p))
-                                    .map(o -> o.getFirstName() + " " + o.getLastName())
-                                    .collect(Collectors.joining(", "));
-                    result.add(info);
+        List<Household.Member> members = householdRepository.findByAddress(address).getMembers();
+        List<ChildAlertDTO> result = new ArrayList<>();
+
+        for (Household.Member child : members) {
+            if (child.isChild()) {
+                List<String> others = new ArrayList<>(members.size() - 1);
+                for (Household.Member other : members) {
+                    if (other != child) {
+                        others.add(other.getFullName());
+                    }
                 }
+                result.add(new ChildAlertDTO(child.getFullName(), child.getAge(), others));
             }
         }
         return result;
@@ -131,17 +174,7 @@ public class PersonService {
      */
     public List<String> getPhoneNumbersByStation(String stationNumber) {
         LOGGER.debug("Searching phone numbers for station {}", stationNumber);
-        List<String> addresses = fireStationRepository.getAllFireStations().stream()
-                .filter(fs -> fs.getStation().equals(stationNumber))
-                .map(fs -> fs.getAddress())
-                .collect(Collectors.toList());
-
-        return personRepository.getAllPersons().stream()
-                .filter(p -> addresses.contains(p.getAddress()))
-                .map(Person::getPhone)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
+        return stationCoverageRepository.findByStation(stationNumber).getPhones();
     }
 
     /**
@@ -149,75 +182,38 @@ public class PersonService {
      * (fire endpoint).
      *
      * @param address The address to search.
-     * @return A map containing 'firestationNumber' and a list of 'residents' details.
+     * @return The fire station number ("N/A" if none) and the residents' details.
      */
-    public Map<String, Object> getPersonsByAddress(String address) {
+    public FireAlertDTO getPersonsByAddress(String address) {
         LOGGER.debug("Searching persons at address={} along with station info", address);
-        String stationNumber = fireStationRepository.getAllFireStations().stream()
-                .filter(fs -> fs.getAddress().equalsIgnoreCase(address))
-                .map(fs -> fs.getStation())
-                .findFirst()
+        String stationNumber = fireStationRepository.getFireStationByAddress(address)
+                .map(FireStation::getStation)
                 .orElse("N/A");
 
-        List<Person> persons = personRepository.findByAddress(address);
-        List<Map<String, Object>> personsDetails = new ArrayList<>();
-
-        for (Person p : persons) {
-            Map<String, Object> details = new HashMap<>();
-            details.put("firstName", p.getFirstName());
-            details.put("lastName", p.getLastName());
-            details.put("phone", p.getPhone());
-
-            Optional<MedicalRecord> mr = medicalRecordRepository.getMedicalRecordByName(p.getFirstName(), p.getLastName());
-            if (mr.isPresent()) {
-                details.put("age", mr.get().getAge());
-                details.put("medications", mr.get().getMedications());
-                details.put("allergies", mr.get().getAllergies());
-            } else {
-                details.put("age", null);
-                details.put("medications", List.of());
-                details.put("allergies", List.of());
-            }
-            personsDetails.add(details);
+        List<Household.Member> members = householdRepository.findByAddress(address).getMembers();
+        List<ResidentDTO> residents = new ArrayList<>(members.size());
+        for (Household.Member member : members) {
+            residents.add(ResidentDTO.of(member.getPerson(), member.getMedicalRecord()));
         }
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("firestationNumber", stationNumber);
-        response.put("residents", personsDetails);
-        return response;
+        return new FireAlertDTO(stationNumber, residents);
     }
 
     /**
      * Retrieves person information (age, email, medical data) for all who match the specified last name (personInfo endpoint).
      *
      * @param lastName The last name to filter persons by.
-     * @return A list of maps, each containing info about a person.
+     * @return The info of each matching person.
      */
-    public List<Map<String, Object>> getPersonInfoByLastName(String lastName) {
+    public List<PersonInfoDTO> getPersonInfoByLastName(String lastName) {
         LOGGER.debug("Searching for person info by lastName={}", lastName);
-        List<Person> matched = personRepository.getAllPersons().stream()
-                .filter(p -> p.getLastName().equalsIgnoreCase(lastName))
-                .collect(Collectors.toList());
+        List<Person> matched = personRepository.findByLastName(lastName);
+        Map<String, MedicalRecord> records = matched.isEmpty()
+                ? Map.of()
+                : medicalRecordRepository.getMedicalRecordsByLastName(lastName);
 
-        List<Map<String, Object>> result = new ArrayList<>();
+        List<PersonInfoDTO> result = new ArrayList<>(matched.size());
         for (Person p : matched) {
-            Map<String, Object> info = new HashMap<>();
-            info.put("firstName", p.getFirstName());
-            info.put("lastName", p.getLastName());
-            info.put("address", p.getAddress());
-            info.put("email", p.getEmail());
-
-            Optional<MedicalRecord> mr = medicalRecordRepository.getMedicalRecordByName(p.getFirstName(), p.getLastName());
-            if (mr.isPresent()) {
-                info.put("age", mr.get().getAge());
-                info.put("medications", mr.get().getMedications());
-                info.put("allergies", mr.get().getAllergies());
-            } else {
-                info.put("age", null);
-                info.put("medications", List.of());
-                info.put("allergies", List.of());
-            }
-            result.add(info);
+            result.add(PersonInfoDTO.of(p, records.get(p.getFirstName().trim().toLowerCase())));
         }
         return result;
     }
@@ -230,11 +226,6 @@ public class PersonService {
      */
     public List<String> getEmailsByCity(String city) {
         LOGGER.debug("Fetching emails for city: {}", city);
-        return personRepository.getAllPersons().stream()
-                .filter(person -> person.getCity() != null && person.getCity().equalsIgnoreCase(city))
-                .map(Person::getEmail)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
+        return personRepository.getEmailsByCity(city);
     }
 }
@@ -0,0 +1,192 @@
+package com.safetynet.safetynet_alerts.integration.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.cache.ResponseCache;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+class ResponseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PersonRepository personRepository;
+    private MedicalRecordRepository medicalRecordRepository;
+    private FireStationRepository fireStationRepository;
+    private ResponseCache responseCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, """
+                {"persons": [
+                  {"firstName": "John", "lastName": "Boyd", "address": "1509 Culver St", "city": "Culver", "zip": "97451", "phone": "841-874-6512", "email": "jaboyd@email.com"},
+                  {"firstName": "Jonanathan", "lastName": "Marrack", "address": "29 15th St", "city": "Culver", "zip": "97451", "phone": "841-874-6513", "email": "drk@email.com"}
+                ],
+                "firestations": [
+                  {"address": "1509 Culver St", "station": "3"},
+                  {"address": "29 15th St", "station": "2"}
+                ],
+                "medicalrecords": []}
+                """);
+        JsonDataStore dataStore = new JsonDataStore(new ObjectMapper(), "source.json", file.toString());
+        personRepository = new PersonRepository(dataStore);
+        medicalRecordRepository = new MedicalRecordRepository(dataStore);
+        fireStationRepository = new FireStationRepository(dataStore);
+        responseCache = new ResponseCache(dataStore, fireStationRepository, personRepository, true, 3);
+    }
+
+    private Object cached(String endpoint, String parameter, String tag) {
+        return responseCache.get(endpoint, parameter, List.of(tag), () -> endpoint + parameter + loads.incrementAndGet());
+    }
+
+    @Test
+    void get_ShouldComputeOnceAndServeRepeatedCallsFromTheCache() {
+        Object first = cached("/childAlert", "1509 culver st", ResponseCache.addressTag("1509 Culver St"));
+
+        assertSame(first, cached("/childAlert", "1509 culver st", ResponseCache.addressTag("1509 Culver St")));
+        assertEquals(1, loads.get());
+        assertEquals(1, responseCache.getHits());
+        assertEquals(1, responseCache.getMisses());
+    }
+
+    @Test
+    void personChange_ShouldOnlyInvalidateEntriesOfTheirAddressStationCityAndLastName() {
+        cached("/childAlert", "1509 culver st", ResponseCache.addressTag("1509 Culver St"));
+        cached("/firestation", "3", ResponseCache.stationTag("3"));
+        cached("/firestation", "2", ResponseCache.stationTag("2"));
+
+        personRepository.addOrUpdatePerson(new Person("Jonanathan", "Marrack", "29 15th St", "Culver", "97451", "841-874-6599", "drk@email.com"));
+
+        assertEquals(2, responseCache.size());
+        cached("/firestation", "2", ResponseCache.stationTag("2"));
+        assertEquals(4, loads.get());
+
+        cached("/communityEmail", "culver", ResponseCache.cityTag("Culver"));
+        cached("/personInfo", "boyd", ResponseCache.lastNameTag("Boyd"));
+        personRepository.deletePerson("John", "Boyd");
+
+        cached("/communityEmail", "culver", ResponseCache.cityTag("culver"));
+        cached("/personInfo", "boyd", ResponseCache.lastNameTag("boyd"));
+        cached("/firestation", "2", ResponseCache.stationTag("2"));
+        assertEquals(8, loads.get());
+    }
+
+    @Test
+    void medicalRecordChange_ShouldInvalidateTheAlertsOfThePerson() {
+        cached("/fire", "29 15th st", ResponseCache.addressTag("29 15th St"));
+        cached("/fire", "1509 culver st", ResponseCache.addressTag("1509 Culver St"));
+
+        medicalRecordRepository.addOrUpdateMedicalRecord(new MedicalRecord("Jonanathan", "Marrack", "01/03/1989", List.of(), List.of()));
+
+        cached("/fire", "29 15th st", ResponseCache.addressTag("29 15th St"));
+        cached("/fire", "1509 culver st", ResponseCache.addressTag("1509 Culver St"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void fireStationChange_ShouldInvalidateTheOldAndNewStations() {
+        cached("/phoneAlert", "2", ResponseCache.stationTag("2"));
+        cached("/phoneAlert", "4", ResponseCache.stationTag("4"));
+        cached("/phoneAlert", "3", ResponseCache.stationTag("3"));
+
+        fireStationRepository.updateFireStation("29 15th St", "4");
+
+        assertEquals(1, responseCache.size());
+
+        fireStationRepository.addFireStation(new FireStation("1 New St", "5"));
+
+        assertEquals(1, responseCache.size());
+    }
+
+    @Test
+    void get_ShouldEvictTheLeastRecentlyUsedEntryOnceFull() {
+        cached("/communityEmail", "a", ResponseCache.cityTag("a"));
+        cached("/communityEmail", "b", ResponseCache.cityTag("b"));
+        cached("/communityEmail", "c", ResponseCache.cityTag("c"));
+        cached("/communityEmail", "a", ResponseCache.cityTag("a"));
+        cached("/communityEmail", "d", ResponseCache.cityTag("d"));
+
+        assertEquals(3, responseCache.size());
+        cached("/communityEmail", "a", ResponseCache.cityTag("a"));
+        assertEquals(4, loads.get());
+        cached("/communityEmail", "b", ResponseCache.cityTag("b"));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotStoreAResultComputedWhileTheDataChanged() {
+        responseCache.get("/firestation", "3", List.of(ResponseCache.stationTag("3")), () -> {
+            personRepository.addOrUpdatePerson(new Person("Jacob", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6513", "jb@email.com"));
+            return "stale";
+        });
+
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    void get_ShouldServeAHitWhileTheCacheIsLocked() {
+        Object value = cached("/communityEmail", "a", ResponseCache.cityTag("a"));
+
+        synchronized (responseCache) {
+            assertSame(value, assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> cached("/communityEmail", "a", ResponseCache.cityTag("a"))));
+        }
+        assertEquals(1, responseCache.getHits());
+    }
+
+    @Test
+    void invalidate_ShouldBoundTheTrackedTags() {
+        for (int i = 0; i < 100; i++) {
+            cached("/communityEmail", "city" + i, ResponseCache.cityTag("city" + i));
+            responseCache.invalidate(List.of(ResponseCache.cityTag("other" + i)));
+        }
+
+        assertEquals(6, responseCache.trackedTags());
+    }
+
+    @Test
+    void version_ShouldSurviveAChangeOfOtherData() {
+        cached("/communityEmail", "a", ResponseCache.cityTag("a"));
+        long version = responseCache.version(List.of(ResponseCache.cityTag("a")));
+
+        responseCache.invalidate(List.of(ResponseCache.cityTag("b")));
+
+        assertEquals(version, responseCache.version(List.of(ResponseCache.cityTag("a"))));
+    }
+
+    @Test
+    void version_ShouldNotGoBackwardsOncePruned() {
+        responseCache.invalidate(List.of(ResponseCache.cityTag("a")));
+        long version = responseCache.version(List.of(ResponseCache.cityTag("a")));
+
+        for (int i = 0; i < 10; i++) {
+            cached("/communityEmail", "city" + i, ResponseCache.cityTag("city" + i));
+        }
+
+        assertEquals(6, responseCache.trackedTags());
+        assertEquals(version, responseCache.version(List.of(ResponseCache.cityTag("a"))));
+        assertEquals(version, responseCache.version(List.of(ResponseCache.cityTag("b"))));
+    }
+}
@@ -1,10 +1,22 @@
 package com.safetynet.safetynet_alerts.integration.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.cache.ResponseCache;
 import com.safetynet.safetynet_alerts.controller.AlertController;
+import com.safetynet.safetynet_alerts.controller.StreamedJson;
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.CoveredPersonDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
 import com.safetynet.safetynet_alerts.dto.PersonDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
 import com.safetynet.safetynet_alerts.model.FireStation;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
 import com.safetynet.safetynet_alerts.service.FireStationService;
 import com.safetynet.safetynet_alerts.service.MedicalRecordService;
 import com.safetynet.safetynet_alerts.service.PersonService;
@@ -15,6 +27,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,41 +40,58 @@ class AlertControllerTest {
     private PersonService personService;
     private FireStationService fireStationService;
     private MedicalRecordService medicalRecordService;
+    private ResponseCache responseCache;
 
     @BeforeEach
     void setUp() {
         personService = mock(PersonService.class);
         fireStationService = mock(FireStationService.class);
         medicalRecordService = mock(MedicalRecordService.class);
-        alertController = new AlertController(personService, fireStationService, medicalRecordService);
+        responseCache = new ResponseCache(mock(JsonDataStore.class), mock(FireStationRepository.class),
+                mock(PersonRepository.class), true, 100);
+        alertController = new AlertController(personService, fireStationService, medicalRecordService, responseCache, false);
     }
     
     @Test
     void testGetFireStationInfo() {
         String stationNumber = "1";
-        Map<String, Object> mockResponse = Map.of(
-            "persons", List.of(Map.of("firstName", "John", "lastName", "Doe")),
-            "adultCount", 1,
-            "childCount", 0
-        );
+        FireStationCoverageDTO mockResponse = new FireStationCoverageDTO(
+            List.of(new CoveredPersonDTO("John", "Doe", "1509 Culver St", "841-874-6512")), 1, 0);
 
         when(fireStationService.getPeopleCoveredByFireStation(stationNumber)).thenReturn(mockResponse);
 
-        ResponseEntity<Map<String, Object>> response = alertController.getFireStationInfo(stationNumber);
+        ResponseEntity<?> response = alertController.getFireStationInfo(stationNumber);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockResponse, response.getBody());
         verify(fireStationService, times(1)).getPeopleCoveredByFireStation(stationNumber);
     }
 
+    @Test
+    void testGetFireStationInfo_ShouldBeServedFromCacheUntilInvalidated() {
+        FireStationCoverageDTO mockResponse = new FireStationCoverageDTO(List.of(), 0, 0);
+        when(fireStationService.getPeopleCoveredByFireStation("1")).thenReturn(mockResponse);
+
+        alertController.getFireStationInfo("1");
+        ResponseEntity<?> response = alertController.getFireStationInfo("1");
+
+        assertEquals(mockResponse, response.getBody());
+        verify(fireStationService, times(1)).getPeopleCoveredByFireStation("1");
+
+        responseCache.invalidate(List.of(ResponseCache.stationTag("1")));
+        alertController.getFireStationInfo("1");
+
+        verify(fireStationService, times(2)).getPeopleCoveredByFireStation("1");
+    }
+
     @Test
     void testGetChildrenByAddress() {
         String address = "1509 Culver St";
-        List<String> mockChildren = List.of("Child: John Doe, Age: 10");
+        List<ChildAlertDTO> mockChildren = List.of(new ChildAlertDTO("John Doe", 10, List.of()));
 
         when(personService.getChildrenByAddress(address)).thenReturn(mockChildren);
 
-        ResponseEntity<List<String>> response = alertController.getChildrenByAddress(address);
+        ResponseEntity<List<ChildAlertDTO>> response = alertController.getChildrenByAddress(address);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockChildren, response.getBody());
@@ -84,14 +115,12 @@ class AlertControllerTest {
     @Test
     void testGetPersonsByAddressWithMedicalRecord() {
         String address = "1509 Culver St";
-        Map<String, Object> mockResult = Map.of(
-            "firestationNumber", "1",
-            "residents", List.of(Map.of("firstName", "John", "lastName", "Doe"))
-        );
+        FireAlertDTO mockResult = new FireAlertDTO("1",
+            List.of(new ResidentDTO("John", "Doe", "555-1234", 40, List.of(), List.of())));
 
         when(personService.getPersonsByAddress(address)).thenReturn(mockResult);
 
-        ResponseEntity<Map<String, Object>> response = alertController.getPersonsByAddressWithMedicalRecord(address);
+        ResponseEntity<FireAlertDTO> response = alertController.getPersonsByAddressWithMedicalRecord(address);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockResult, response.getBody());
@@ -102,40 +131,19 @@ class AlertControllerTest {
     void testGetFloodStationsInfo() {
         List<Integer> stations = List.of(1, 2);
 
-        Map<String, List<Map<String, Object>>> mockResponse = Map.of(
+        Map<String, List<ResidentDTO>> mockResponse = Map.of(
             "1509 Culver St", List.of(
-                Map.of(
-                    "firstName", "John",
-                    "lastName", "Doe",
-                    "phone", "555-1234",
-                    "age", 40,
-                    "medications", List.of("med1", "med2"),
-                    "allergies", List.of("allergy1")
-                ),
-                Map.of(
-                    "firstName", "Jane",
-                    "lastName", "Doe",
-                    "phone", "555-5678",
-                    "age", 35,
-                    "medications", List.of("med3"),
-                    "allergies", List.of()
-                )
+                new ResidentDTO("John", "Doe", "555-1234", 40, List.of("med1", "med2"), List.of("allergy1")),
+                new ResidentDTO("Jane", "Doe", "555-5678", 35, List.of("med3"), List.of())
             ),
             "123 Main St", List.of(
-                Map.of(
-                    "firstName", "Alice",
-                    "lastName", "Smith",
-                    "phone", "555-0000",
-                    "age", 25,
-                    "medications", List.of(),
-                    "allergies", List.of("peanut")
-                )
+                new ResidentDTO("Alice", "Smith", "555-0000", 25, List.of(), List.of("peanut"))
             )
         );
 
         when(fireStationService.getFloodStationsInfo(stations)).thenReturn(mockResponse);
 
-        ResponseEntity<Map<String, List<Map<String, Object>>>> response = alertController.getFloodStationsInfo(stations);
+        ResponseEntity<?> response = alertController.getFloodStationsInfo(stations);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockResponse, response.getBody());
@@ -143,14 +151,54 @@ class AlertControllerTest {
         verify(fireStationService, times(1)).getFloodStationsInfo(stations);
     }
 
+    @Test
+    void testGetFloodStationsInfo_Streaming() throws Exception {
+        AlertController streamingController = new AlertController(personService, fireStationService, medicalRecordService,
+                responseCache, true);
+        List<Integer> stations = List.of(1, 2);
+        doAnswer(invocation -> {
+            JsonGenerator generator = invocation.getArgument(1);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("1509 Culver St");
+            generator.writeObject(new ResidentDTO("John", "Doe", "555-1234", 40, List.of(), List.of()));
+            generator.writeEndArray();
+            generator.writeEndObject();
+            return null;
+        }).when(fireStationService).writeFloodStationsInfo(eq(stations), any(JsonGenerator.class));
+
+        ResponseEntity<?> response = streamingController.getFloodStationsInfo(stations);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertInstanceOf(StreamedJson.class, response.getBody());
+        verify(fireStationService, never()).writeFloodStationsInfo(any(), any());
+
+        assertEquals("{\"1509 Culver St\":[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"phone\":\"555-1234\","
+                + "\"age\":40,\"medications\":[],\"allergies\":[]}]}", new ObjectMapper().writeValueAsString(response.getBody()));
+        verify(fireStationService, never()).getFloodStationsInfo(any());
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    void testGetFireStationInfo_Streaming() throws Exception {
+        AlertController streamingController = new AlertController(personService, fireStationService, medicalRecordService,
+                responseCache, true);
+
+        ResponseEntity<?> response = streamingController.getFireStationInfo("1");
+        new ObjectMapper().writeValueAsString(response.getBody());
+
+        verify(fireStationService, times(1)).writePeopleCoveredByFireStation(eq("1"), any(JsonGenerator.class));
+        verify(fireStationService, never()).getPeopleCoveredByFireStation(any());
+    }
+
     @Test
     void testGetPersonsByLastName() {
         String lastName = "Doe";
-        List<Map<String, Object>> mockInfo = List.of(Map.of("firstName", "John", "lastName", "Doe"));
+        List<PersonInfoDTO> mockInfo = List.of(
+            new PersonInfoDTO("John", "Doe", "123 Main St", "john.doe@example.com", 40, List.of(), List.of()));
 
         when(personService.getPersonInfoByLastName(lastName)).thenReturn(mockInfo);
 
-        ResponseEntity<List<Map<String, Object>>> response = alertController.getPersonsByLastName(lastName);
+        ResponseEntity<List<PersonInfoDTO>> response = alertController.getPersonsByLastName(lastName);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockInfo, response.getBody());
@@ -245,6 +293,14 @@ class AlertControllerTest {
         verify(fireStationService, times(1)).addFireStation(fireStation);
     }
 
+    @Test
+    void testAddFireStationWithoutAddress() {
+        ResponseEntity<String> response = alertController.addFireStation(new FireStation(null, "1"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(fireStationService, never()).addFireStation(any());
+    }
+
     @Test
     void testUpdateFireStation() {
         FireStation fireStation = new FireStation("123 Street", "2");
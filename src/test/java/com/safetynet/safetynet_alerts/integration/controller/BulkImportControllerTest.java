@@ -0,0 +1,155 @@
+package com.safetynet.safetynet_alerts.integration.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.controller.BulkImportController;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO.ItemResult;
+import com.safetynet.safetynet_alerts.dto.BulkImportResultDTO.Status;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
+import com.safetynet.safetynet_alerts.service.FireStationService;
+import com.safetynet.safetynet_alerts.service.MedicalRecordService;
+import com.safetynet.safetynet_alerts.service.PersonService;
+
+class BulkImportControllerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private File dataFile;
+    private PersonRepository personRepository;
+    private FireStationRepository fireStationRepository;
+    private MedicalRecordRepository medicalRecordRepository;
+    private HouseholdRepository householdRepository;
+    private StationCoverageRepository stationCoverageRepository;
+    private BulkImportController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataFile = tempDir.resolve("data.json").toFile();
+        Files.writeString(dataFile.toPath(),
+                "{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\",\"city\":\"Culver\"}],"
+                + "\"firestations\":[{\"address\":\"1509 Culver St\",\"station\":\"3\"}],\"medicalrecords\":[]}");
+        JsonDataStore dataStore = openStore();
+        personRepository = new PersonRepository(dataStore);
+        fireStationRepository = new FireStationRepository(dataStore);
+        medicalRecordRepository = new MedicalRecordRepository(dataStore);
+        householdRepository = new HouseholdRepository(dataStore, personRepository, medicalRecordRepository);
+        stationCoverageRepository = new StationCoverageRepository(dataStore, fireStationRepository, personRepository,
+                householdRepository);
+        controller = new BulkImportController(
+                new PersonService(personRepository, medicalRecordRepository, fireStationRepository,
+                        householdRepository, stationCoverageRepository),
+                new FireStationService(fireStationRepository, stationCoverageRepository, householdRepository),
+                new MedicalRecordService(medicalRecordRepository),
+                objectMapper);
+    }
+
+    private JsonDataStore openStore() {
+        return new JsonDataStore(objectMapper, "source.json", dataFile.getAbsolutePath(), 60_000, 1000, true, 60_000, false, false);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importPersons_ShouldApplyAJsonArrayAndReportEveryItem() throws IOException {
+        ResponseEntity<BulkImportResultDTO> response = controller.importPersons(body("["
+                + "{\"firstName\":\"Jane\",\"lastName\":\"Doe\",\"address\":\"1 Main St\",\"city\":\"Springfield\"},"
+                + "{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1 Main St\",\"city\":\"Springfield\"},"
+                + "{\"firstName\":\"\",\"lastName\":\"Nobody\"}]"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BulkImportResultDTO result = response.getBody();
+        assertEquals(3, result.received());
+        assertEquals(1, result.created());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.rejected());
+        assertEquals(new ItemResult(0, Status.CREATED, null), result.results().get(0));
+        assertEquals(new ItemResult(1, Status.UPDATED, null), result.results().get(1));
+        assertEquals(new ItemResult(2, Status.REJECTED, "missing firstName, address, city"), result.results().get(2));
+
+        assertEquals(2, personRepository.getAllPersons().size());
+        assertEquals(2, householdRepository.findByAddress("1 main st").getMembers().size());
+        assertTrue(householdRepository.findByAddress("1509 Culver St").isEmpty());
+    }
+
+    @Test
+    void importFireStationsAndMedicalRecords_ShouldAcceptNdjson() throws IOException {
+        assertEquals(1, stationCoverageRepository.findByStation("3").getResidents().size());
+
+        BulkImportResultDTO stations = controller.importFireStations(body(
+                "{\"address\":\"1 Main St\",\"station\":\"4\"}\n"
+                + "{\"address\":\"1509 Culver St\",\"station\":\"2\"}\n"
+                + "{\"address\":\"2 Main St\"}\n")).getBody();
+        BulkImportResultDTO records = controller.importMedicalRecords(body(
+                "{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"birthdate\":\"03/06/1984\",\"medications\":[],\"allergies\":[]}\n"
+                + "{\"firstName\":\"Jane\",\"lastName\":\"Doe\",\"birthdate\":\"1984-03-06\",\"medications\":[],\"allergies\":[]}\n"))
+                .getBody();
+
+        assertEquals(List.of(Status.CREATED, Status.UPDATED, Status.REJECTED),
+                stations.results().stream().map(ItemResult::status).toList());
+        assertEquals("missing station", stations.results().get(2).error());
+        assertEquals("4", fireStationRepository.getFireStationByAddress("1 main st").orElseThrow().getStation());
+        assertEquals("2", fireStationRepository.getFireStationByAddress("1509 Culver St").orElseThrow().getStation());
+        assertTrue(stationCoverageRepository.findByStation("3").getResidents().isEmpty());
+        assertEquals(1, stationCoverageRepository.findByStation("2").getResidents().size());
+
+        assertEquals(1, records.created());
+        assertEquals(1, records.rejected());
+        assertTrue(records.results().get(1).error().startsWith("birthdate is not a valid"));
+        assertTrue(medicalRecordRepository.getMedicalRecordByName("John", "Boyd").isPresent());
+    }
+
+    @Test
+    void importPersons_ShouldApplyNothing_WhenTheBodyIsNotValidJson() {
+        assertThrows(JsonProcessingException.class, () -> controller.importPersons(body(
+                "[{\"firstName\":\"Jane\",\"lastName\":\"Doe\",\"address\":\"1 Main St\",\"city\":\"Springfield\"},{\"firstName\":")));
+
+        assertEquals(1, personRepository.getAllPersons().size());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.handleJsonProcessingException(new JsonProcessingException("broken") { }).getStatusCode());
+    }
+
+    @Test
+    void importPersons_ShouldBeJournaledAndSurviveARestart() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            ndjson.append(objectMapper.writeValueAsString(
+                    new Person("First" + i, "Last", i % 10 + " Main St", "Springfield", "1", "2", "f" + i + "@email.com")))
+                    .append('\n');
+        }
+
+        assertEquals(1_000, controller.importPersons(body(ndjson.toString())).getBody().created());
+
+        assertEquals(1_000, Files.readAllLines(tempDir.resolve("data.json.journal")).size());
+        assertEquals(1_001, new PersonRepository(openStore()).getAllPersons().size());
+    }
+}
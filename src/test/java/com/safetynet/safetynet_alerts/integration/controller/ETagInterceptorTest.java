@@ -0,0 +1,107 @@
+package com.safetynet.safetynet_alerts.integration.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.safetynet.safetynet_alerts.cache.ResponseCache;
+import com.safetynet.safetynet_alerts.controller.ETagInterceptor;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+class ETagInterceptorTest {
+
+    private ResponseCache responseCache;
+    private ETagInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new ResponseCache(mock(JsonDataStore.class), mock(FireStationRepository.class),
+                mock(PersonRepository.class), true, 100);
+        interceptor = new ETagInterceptor(responseCache);
+    }
+
+    private MockHttpServletResponse get(String path, String parameter, String value, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addParameter(parameter, value);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+        assertEquals(proceed, response.getStatus() == 200);
+        return response;
+    }
+
+    @Test
+    void preHandle_ShouldEmitAnETagAndProceed_WithoutIfNoneMatch() {
+        MockHttpServletResponse response = get("/firestation", "stationNumber", "3", null);
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getHeader("ETag").startsWith("W/\""));
+    }
+
+    @Test
+    void preHandle_ShouldAnswerNotModified_WhileTheTagMatches() {
+        String etag = get("/firestation", "stationNumber", "3", null).getHeader("ETag");
+
+        MockHttpServletResponse response = get("/firestation", "stationNumber", "3", etag);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void preHandle_ShouldProceed_OnceTheStationChanged() {
+        String etag = get("/firestation", "stationNumber", "3", null).getHeader("ETag");
+        String otherEtag = get("/fire", "address", "1509 Culver St", null).getHeader("ETag");
+
+        responseCache.invalidate(List.of(ResponseCache.stationTag("3")));
+
+        MockHttpServletResponse response = get("/firestation", "stationNumber", "3", etag);
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader("ETag"));
+        assertEquals(304, get("/fire", "address", "1509 culver st", otherEtag).getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldChangeEveryTag_AfterAReload() {
+        String etag = get("/communityEmail", "city", "Culver", null).getHeader("ETag");
+
+        responseCache.onReload();
+
+        assertEquals(200, get("/communityEmail", "city", "Culver", etag).getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldCombineTheStationsOfAFloodRequest() {
+        String etag = get("/flood/stations", "stations", "1,2", null).getHeader("ETag");
+
+        assertEquals(304, get("/flood/stations", "stations", "1, 2", "\"other\", " + etag).getStatus());
+
+        responseCache.invalidate(List.of(ResponseCache.stationTag("2")));
+
+        assertEquals(200, get("/flood/stations", "stations", "1,2", etag).getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldIgnoreRequestsItCannotTag() {
+        assertNull(get("/flood/stations", "stations", "one", "*").getHeader("ETag"));
+
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/person");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(post, response, new Object()));
+        assertFalse(response.containsHeader("ETag"));
+    }
+}
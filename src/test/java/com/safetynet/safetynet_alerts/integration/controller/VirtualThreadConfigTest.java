@@ -0,0 +1,24 @@
+package com.safetynet.safetynet_alerts.integration.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.safetynet.safetynet_alerts.controller.VirtualThreadConfig;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    void isSupported_ShouldRequireJava21() {
+        assertFalse(VirtualThreadConfig.isSupported(17));
+        assertTrue(VirtualThreadConfig.isSupported(21));
+    }
+
+    @Test
+    void isActive_ShouldDependOnTheRequestAndTheRuntime() {
+        assertFalse(new VirtualThreadConfig(false).isActive());
+        assertEquals(VirtualThreadConfig.isSupported(Runtime.version().feature()), new VirtualThreadConfig(true).isActive());
+    }
+}
@@ -0,0 +1,106 @@
+package com.safetynet.safetynet_alerts.integration.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.dataset.DatasetGenerator;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.StreamingJsonLoader;
+
+class DatasetGeneratorTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 6, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] generate(long seed, int persons) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DatasetGenerator(seed, persons, REFERENCE_DATE).write(out, objectMapper.getFactory());
+        return out.toByteArray();
+    }
+
+    @Test
+    void write_ShouldProduceTheSameFile_ForTheSameSeed() throws IOException {
+        assertArrayEquals(generate(42, 5_000), generate(42, 5_000));
+        assertFalse(Arrays.equals(generate(42, 5_000), generate(43, 5_000)));
+    }
+
+    @Test
+    void write_ShouldProduceALoadableFileWithOneRecordPerPerson(@TempDir Path directory) throws IOException {
+        File file = directory.resolve("county.json").toFile();
+        new DatasetGenerator(7, 20_000, REFERENCE_DATE).write(file, objectMapper.getFactory());
+
+        List<Person> persons = new ArrayList<>();
+        List<FireStation> fireStations = new ArrayList<>();
+        List<MedicalRecord> medicalRecords = new ArrayList<>();
+        new StreamingJsonLoader(objectMapper).load(file, persons::add, fireStations::add, medicalRecords::add);
+
+        assertEquals(20_000, persons.size());
+        assertEquals(20_000, medicalRecords.size());
+        Set<String> names = persons.stream().map(p -> p.getFirstName() + " " + p.getLastName()).collect(Collectors.toSet());
+        assertEquals(20_000, names.size());
+        assertEquals(names, medicalRecords.stream().map(r -> r.getFirstName() + " " + r.getLastName()).collect(Collectors.toSet()));
+
+        Set<String> coveredAddresses = fireStations.stream().map(FireStation::getAddress).collect(Collectors.toSet());
+        Set<String> addresses = persons.stream().map(Person::getAddress).collect(Collectors.toSet());
+        assertEquals(addresses, coveredAddresses);
+        assertTrue(fireStations.size() > addresses.size(), "some addresses should be covered by two stations");
+        assertTrue(fireStations.stream().map(FireStation::getStation).distinct().count() > 1);
+    }
+
+    @Test
+    void write_ShouldGroupPersonsIntoRealisticHouseholds() throws IOException {
+        JsonWrapper data = objectMapper.readValue(generate(3, 50_000), JsonWrapper.class);
+
+        Map<String, List<Person>> households = data.getPersons().stream().collect(Collectors.groupingBy(Person::getAddress));
+        assertTrue(households.values().stream().allMatch(h -> h.size() <= DatasetGenerator.MAX_HOUSEHOLD_SIZE));
+        assertTrue(households.values().stream().allMatch(h -> h.stream().map(Person::getLastName).distinct().count() == 1));
+        double averageSize = 50_000.0 / households.size();
+        assertTrue(averageSize > 2.0 && averageSize < 3.0, "average household size was " + averageSize);
+
+        Map<String, Long> householdsPerLastName = households.values().stream()
+                .collect(Collectors.groupingBy(h -> h.get(0).getLastName(), Collectors.counting()));
+        assertTrue(householdsPerLastName.values().stream().anyMatch(count -> count > 1));
+
+        Map<String, Integer> ages = new HashMap<>();
+        Set<String> medications = new HashSet<>();
+        for (MedicalRecord record : data.getMedicalrecords()) {
+            int age = REFERENCE_DATE.getYear() - Integer.parseInt(record.getBirthdate().substring(6));
+            ages.put(record.getFirstName() + " " + record.getLastName(), age);
+            medications.addAll(record.getMedications());
+        }
+        long children = ages.values().stream().filter(age -> age <= 18).count();
+        assertTrue(children > 5_000 && children < 20_000, children + " children");
+        assertTrue(ages.values().stream().allMatch(age -> age >= 0 && age <= 96));
+        assertTrue(medications.size() > 10 && medications.size() <= 18);
+    }
+
+    @Test
+    void constructor_ShouldRejectANegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1, -1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.safetynet.safetynet_alerts.integration.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.CoveredPersonDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
+
+class ResponseDTOJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void fireStationCoverage_ShouldKeepTheFieldsOfTheFormerMap() throws JsonProcessingException {
+        FireStationCoverageDTO dto = new FireStationCoverageDTO(
+                List.of(new CoveredPersonDTO("John", "Boyd", "1509 Culver St", "841-874-6512")), 1, 0);
+
+        assertEquals("{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\",\"phone\":\"841-874-6512\"}],"
+                + "\"adultCount\":1,\"childCount\":0}", objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    void fireAlert_ShouldWriteResidentsWithTheirMedicalData() throws JsonProcessingException {
+        FireAlertDTO dto = new FireAlertDTO("3", List.of(
+                new ResidentDTO("John", "Boyd", "841-874-6512", 40, List.of("aznol:350mg"), List.of("nillacilan")),
+                new ResidentDTO("Eric", "Cadigan", "841-874-7458", null, List.of(), List.of())));
+
+        assertEquals("{\"firestationNumber\":\"3\",\"residents\":["
+                + "{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"phone\":\"841-874-6512\",\"age\":40,\"medications\":[\"aznol:350mg\"],\"allergies\":[\"nillacilan\"]},"
+                + "{\"firstName\":\"Eric\",\"lastName\":\"Cadigan\",\"phone\":\"841-874-7458\",\"age\":null,\"medications\":[],\"allergies\":[]}]}",
+                objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    void personInfo_ShouldWriteFieldsInOrder() throws JsonProcessingException {
+        PersonInfoDTO dto = new PersonInfoDTO("John", "Boyd", "1509 Culver St", "jaboyd@email.com", 40, List.of(), List.of("nillacilan"));
+
+        assertEquals("{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\",\"email\":\"jaboyd@email.com\","
+                + "\"age\":40,\"medications\":[],\"allergies\":[\"nillacilan\"]}", objectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    void childAlert_ShouldBeWrittenAsASentence() throws JsonProcessingException {
+        List<ChildAlertDTO> dto = List.of(new ChildAlertDTO("Tenley Boyd", 12, List.of("John Boyd", "Jacob Boyd")));
+
+        assertEquals("[\"Child: Tenley Boyd, Age: 12, Other members: John Boyd, Jacob Boyd\"]", objectMapper.writeValueAsString(dto));
+    }
+}
@@ -0,0 +1,59 @@
+package com.safetynet.safetynet_alerts.integration.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.safetynet.safetynet_alerts.logging.AccessLogFilter;
+import com.safetynet.safetynet_alerts.logging.AccessLogSampler;
+
+class AccessLogSamplerTest {
+
+    @Test
+    void rateFor_ShouldUseTheEndpointRateOrTheDefault() {
+        AccessLogSampler sampler = new AccessLogSampler(1.0, " /phoneAlert=0.1, /flood/stations = 0 ");
+
+        assertEquals(0.1, sampler.rateFor("/phoneAlert"));
+        assertEquals(0.0, sampler.rateFor("/flood/stations"));
+        assertEquals(1.0, sampler.rateFor("/person"));
+    }
+
+    @Test
+    void shouldLog_ShouldSampleSuccessesButKeepEveryFailure() {
+        AccessLogSampler sampler = new AccessLogSampler(1.0, "/phoneAlert=0.1,/fire=0");
+
+        assertTrue(sampler.shouldLog("/phoneAlert", 200, 0.05));
+        assertFalse(sampler.shouldLog("/phoneAlert", 200, 0.5));
+        assertFalse(sampler.shouldLog("/fire", 200, 0.0));
+        assertTrue(sampler.shouldLog("/fire", 404, 0.99));
+        assertTrue(sampler.shouldLog("/person", 201, 0.99));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidRates() {
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.5, ""));
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.0, "/fire=-1"));
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogSampler(1.0, "/fire"));
+        assertEquals(1.0, new AccessLogSampler(1.0, null).rateFor("/fire"));
+    }
+
+    @Test
+    void filter_ShouldPassTheRequestThroughUnchanged() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(true, 1.0, "");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/firestation");
+        request.setQueryString("stationNumber=3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(request, chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+}
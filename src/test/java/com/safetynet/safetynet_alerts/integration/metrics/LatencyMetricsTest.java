@@ -0,0 +1,125 @@
+package com.safetynet.safetynet_alerts.integration.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.controller.MetricsController;
+import com.safetynet.safetynet_alerts.metrics.LatencyHistogram;
+import com.safetynet.safetynet_alerts.metrics.LatencyMetrics;
+import com.safetynet.safetynet_alerts.metrics.LatencySnapshot;
+import com.safetynet.safetynet_alerts.metrics.ServiceLatencyAspect;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.service.MedicalRecordService;
+
+class LatencyMetricsTest {
+
+    private static void assertClose(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.07, "expected about " + expected + " but was " + actual);
+    }
+
+    @Test
+    void snapshot_ShouldReportPercentilesWithinTheBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.count());
+        assertEquals(5_000_500, snapshot.meanNanos());
+        assertClose(5_000_000, snapshot.p50Nanos());
+        assertClose(9_900_000, snapshot.p99Nanos());
+        assertClose(9_990_000, snapshot.p999Nanos());
+        assertEquals(10_000_000, snapshot.maxNanos());
+    }
+
+    @Test
+    void snapshot_ShouldKeepTheTailOfASkewedDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(3);
+        }
+        histogram.record(2_000_000_000L);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(3, snapshot.p50Nanos());
+        assertEquals(3, snapshot.p99Nanos());
+        assertEquals(3, snapshot.p999Nanos());
+        assertEquals(2_000_000_000L, snapshot.maxNanos());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().maxNanos());
+    }
+
+    @Test
+    void snapshot_ShouldBeEmpty_WhenNothingWasRecorded() {
+        assertEquals(new LatencySnapshot(0, 0, 0, 0, 0, 0), new LatencyHistogram().snapshot());
+    }
+
+    @Test
+    void metrics_ShouldKeepOneHistogramPerNameAndServeThemInMicroseconds() throws Exception {
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.histogram("GET /firestation").record(1_500);
+        metrics.histogram("GET /firestation").record(2_500);
+        metrics.histogram("PersonService.getChildrenByAddress").record(800);
+
+        Map<String, LatencySnapshot> snapshot = metrics.snapshot();
+
+        assertEquals(List.of("GET /firestation", "PersonService.getChildrenByAddress"), List.copyOf(snapshot.keySet()));
+        assertEquals(2, snapshot.get("GET /firestation").count());
+        String json = new ObjectMapper().writeValueAsString(snapshot.get("PersonService.getChildrenByAddress"));
+        assertEquals("{\"count\":1,\"meanMicros\":0.8,\"p50Micros\":0.8,\"p99Micros\":0.8,\"p999Micros\":0.8,\"maxMicros\":0.8}", json);
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void controller_ShouldOnlyAnswerLocalRequests() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.histogram("GET /fire").record(1_000);
+        MetricsController controller = new MetricsController(metrics, true);
+        MockHttpServletRequest local = new MockHttpServletRequest();
+        local.setRemoteAddr("127.0.0.1");
+        MockHttpServletRequest remote = new MockHttpServletRequest();
+        remote.setRemoteAddr("10.1.2.3");
+
+        assertEquals(1, controller.getLatency(local).getBody().size());
+        assertEquals(HttpStatus.FORBIDDEN, controller.getLatency(remote).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, controller.resetLatency(remote).getStatusCode());
+        assertEquals(HttpStatus.OK, new MetricsController(metrics, false).getLatency(remote).getStatusCode());
+        assertEquals(HttpStatus.NO_CONTENT, controller.resetLatency(local).getStatusCode());
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void aspect_ShouldKeepTimingServiceCallsAfterAReset() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MedicalRecordService(mock(MedicalRecordRepository.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceLatencyAspect(metrics));
+        MedicalRecordService service = factory.getProxy();
+
+        service.getAllMedicalRecords();
+        assertEquals(1, metrics.snapshot().get("MedicalRecordService.getAllMedicalRecords").count());
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+
+        service.getAllMedicalRecords();
+        assertEquals(1, metrics.snapshot().get("MedicalRecordService.getAllMedicalRecords").count());
+    }
+}
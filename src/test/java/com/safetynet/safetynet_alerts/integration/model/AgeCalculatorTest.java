@@ -0,0 +1,53 @@
+package com.safetynet.safetynet_alerts.integration.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.safetynet.safetynet_alerts.dto.MedicalRecordDTO;
+import com.safetynet.safetynet_alerts.model.AgeCalculator;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+
+class AgeCalculatorTest {
+
+    @Test
+    void ageOn_ShouldRollOverOnTheBirthday() {
+        int birth = AgeCalculator.parseBirthdate("03/06/1984");
+
+        assertEquals(39, AgeCalculator.ageOn(birth, LocalDate.of(2024, 3, 5)));
+        assertEquals(40, AgeCalculator.ageOn(birth, LocalDate.of(2024, 3, 6)));
+    }
+
+    @Test
+    void ageOn_ShouldMatchPeriodForLeapDayBirths() {
+        int birth = AgeCalculator.parseBirthdate("02/29/2000");
+
+        for (LocalDate date : List.of(LocalDate.of(2001, 2, 28), LocalDate.of(2001, 3, 1), LocalDate.of(2004, 2, 29))) {
+            assertEquals(Period.between(LocalDate.of(2000, 2, 29), date).getYears(), AgeCalculator.ageOn(birth, date));
+        }
+    }
+
+    @Test
+    void parseBirthdate_ShouldRejectInvalidDates() {
+        assertEquals(AgeCalculator.INVALID_DATE, AgeCalculator.parseBirthdate(null));
+        assertEquals(AgeCalculator.INVALID_DATE, AgeCalculator.parseBirthdate("1984-03-06"));
+        assertEquals(-1, AgeCalculator.age(AgeCalculator.INVALID_DATE));
+    }
+
+    @Test
+    void getAge_ShouldFollowBirthdateUpdates() {
+        LocalDate birth = LocalDate.now().minusYears(10);
+        String formatted = String.format("%02d/%02d/%d", birth.getMonthValue(), birth.getDayOfMonth(), birth.getYear());
+        MedicalRecord record = new MedicalRecord("John", "Doe", "not a date", List.of(), List.of());
+        assertEquals(-1, record.getAge());
+
+        record.setBirthdate(formatted);
+
+        assertEquals(10, record.getAge());
+        assertEquals(10, new MedicalRecordDTO(formatted, List.of(), List.of()).calculateAge());
+    }
+}
@@ -0,0 +1,107 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.BinarySnapshot;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+class BinarySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File jsonFile;
+    private BinarySnapshot binarySnapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jsonFile = tempDir.resolve("data.json").toFile();
+        Files.writeString(jsonFile.toPath(), "{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\"}]}");
+        binarySnapshot = new BinarySnapshot(tempDir.resolve("data.json.bin"));
+    }
+
+    private static JsonWrapper sampleData() {
+        JsonWrapper wrapper = new JsonWrapper();
+        wrapper.setPersons(List.of(
+                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"),
+                new Person("Jacob", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6513", null)));
+        wrapper.setFirestations(List.of(new FireStation("1509 Culver St", "3")));
+        wrapper.setMedicalrecords(List.of(
+                new MedicalRecord("John", "Boyd", "03/06/1984", List.of("aznol:350mg"), List.of("nillacilan")),
+                new MedicalRecord("Jacob", "Boyd", "03/06/1989", null, List.of())));
+        return wrapper;
+    }
+
+    @Test
+    void read_ShouldReturnWhatWasWritten() {
+        binarySnapshot.write(sampleData(), jsonFile);
+
+        JsonWrapper read = binarySnapshot.read(jsonFile).orElseThrow();
+
+        assertEquals(sampleData().getPersons(), read.getPersons());
+        assertEquals(sampleData().getFirestations(), read.getFirestations());
+        assertEquals(List.of("aznol:350mg"), read.getMedicalrecords().get(0).getMedications());
+        assertTrue(read.getMedicalrecords().get(1).getMedications().isEmpty());
+        assertTrue(read.getMedicalrecords().get(1).getAllergies().isEmpty());
+    }
+
+    @Test
+    void read_ShouldShareRepeatedStrings() {
+        binarySnapshot.write(sampleData(), jsonFile);
+
+        JsonWrapper read = binarySnapshot.read(jsonFile).orElseThrow();
+
+        assertSame(read.getPersons().get(0).getAddress(), read.getPersons().get(1).getAddress());
+        assertSame(read.getPersons().get(0).getAddress(), read.getFirestations().get(0).getAddress());
+    }
+
+    @Test
+    void read_ShouldBeEmptyWhenJsonChanged() throws IOException {
+        binarySnapshot.write(sampleData(), jsonFile);
+
+        Files.writeString(jsonFile.toPath(), "{\"persons\":[]}");
+
+        assertFalse(binarySnapshot.read(jsonFile).isPresent());
+    }
+
+    @Test
+    void read_ShouldBeEmptyWhenMissingOrCorrupted() throws IOException {
+        assertFalse(binarySnapshot.read(jsonFile).isPresent());
+
+        Files.write(binarySnapshot.getPath(), Arrays.copyOf("garbage".getBytes(), 40));
+
+        assertFalse(binarySnapshot.read(jsonFile).isPresent());
+    }
+
+    @Test
+    void store_ShouldStartFromBinarySnapshotWrittenAtFirstLoad() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        new JsonDataStore(objectMapper, "source.json", jsonFile.getAbsolutePath(), 1000, 1000, false, 0, false, true);
+
+        assertTrue(Files.exists(binarySnapshot.getPath()));
+        assertEquals("John", binarySnapshot.read(jsonFile).orElseThrow().getPersons().get(0).getFirstName());
+
+        JsonDataStore restarted = new JsonDataStore(objectMapper, "source.json", jsonFile.getAbsolutePath(), 1000, 1000, false, 0, false, true);
+        assertEquals(List.of("John"), new PersonRepository(restarted).getAllPersons().stream().map(Person::getFirstName).toList());
+    }
+}
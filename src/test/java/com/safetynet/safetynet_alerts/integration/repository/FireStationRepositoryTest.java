@@ -2,32 +2,32 @@ package com.safetynet.safetynet_alerts.integration.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safetynet.safetynet_alerts.model.FireStation;
 import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
 
 class FireStationRepositoryTest {
 
@@ -36,12 +36,14 @@ class FireStationRepositoryTest {
     private ResourceLoader resourceLoader;
     private Resource mockResource;
     private File mockFile;
+    private File targetFile;
     private static final String SOURCE_JSON_FILE_PATH = "data.json";
-    private static final String TARGET_JSON_FILE_PATH = "target/classes/data.json";
     private static MockedStatic<Files> filesMockedStatic; 
     
     @BeforeAll
     static void setUpAll() {
+        // Starts logging first: SLF4J and Log4j look up their providers in the classpath jars, which fails once Files is mocked.
+        LoggerFactory.getLogger(FireStationRepositoryTest.class);
         filesMockedStatic = mockStatic(Files.class);
         filesMockedStatic.when(() -> Files.copy(any(), any())).thenAnswer(invocation -> null);
     }
@@ -53,19 +55,24 @@ class FireStationRepositoryTest {
 
     @BeforeEach
     void setUp() throws IOException {
-        objectMapper = mock(ObjectMapper.class);
+        objectMapper = new ObjectMapper();
 
-        Map<String, List<FireStation>> mockDataMap = new HashMap<>();
-        mockDataMap.put("firestations", List.of(new FireStation("123 Main St", "1")));
+        targetFile = File.createTempFile("firestations", ".json");
+        targetFile.deleteOnExit();
+        writeFireStations("{\"address\":\"123 Main St\",\"station\":\"1\"}");
 
-        when(objectMapper.readValue(any(File.class), any(TypeReference.class)))
-                .thenReturn(mockDataMap);
-
-        fireStationRepository = new FireStationRepository(
+        fireStationRepository = new FireStationRepository(new JsonDataStore(
             objectMapper,
             SOURCE_JSON_FILE_PATH,
-            TARGET_JSON_FILE_PATH
-        );
+            targetFile.getAbsolutePath()
+        ));
+    }
+
+    // Files is mocked statically in this class, so the data file is written through java.io.
+    private void writeFireStations(String fireStationsJson) throws IOException {
+        try (FileWriter writer = new FileWriter(targetFile)) {
+            writer.write("{\"firestations\":[" + fireStationsJson + "]}");
+        }
     }
 
     @Test
@@ -119,6 +126,57 @@ class FireStationRepositoryTest {
         assertEquals("2", allFireStations.get(0).getStation());
     }
 
+    @Test
+    void testAddFireStations() {
+        List<FireStation> replaced = fireStationRepository.addFireStations(List.of(
+                new FireStation("456 Elm St", "2"),
+                new FireStation("123 Main St", "3"),
+                new FireStation("456 ELM ST", "4")));
+
+        assertNull(replaced.get(0));
+        assertEquals("1", replaced.get(1).getStation());
+        assertEquals("2", replaced.get(2).getStation());
+        assertEquals(2, fireStationRepository.getAllFireStations().size());
+        assertEquals("4", fireStationRepository.getFireStationByAddress("456 Elm St").orElseThrow().getStation());
+        assertEquals(Set.of("123 Main St"), fireStationRepository.getAddressesByStation("3"));
+        assertTrue(fireStationRepository.getAddressesByStation("1").isEmpty());
+        assertTrue(fireStationRepository.getAddressesByStation("2").isEmpty());
+    }
+
+    @Test
+    void testAddFireStationWithoutAddressIsIgnored() {
+        fireStationRepository.addFireStation(new FireStation(null, "2"));
+
+        assertEquals(1, fireStationRepository.getAllFireStations().size());
+        assertTrue(fireStationRepository.getAddressesByStation("2").isEmpty());
+    }
+
+    @Test
+    void testAddFireStationsSkipsMappingWithoutAddress() {
+        List<FireStation> replaced = fireStationRepository.addFireStations(List.of(
+                new FireStation(null, "2"),
+                new FireStation("456 Elm St", "3")));
+
+        assertNull(replaced.get(0));
+        assertNull(replaced.get(1));
+        assertEquals(2, fireStationRepository.getAllFireStations().size());
+        assertTrue(fireStationRepository.getAddressesByStation("2").isEmpty());
+        assertEquals(Set.of("456 Elm St"), fireStationRepository.getAddressesByStation("3"));
+    }
+
+    @Test
+    void testLoadDataSkipsMappingWithoutAddress() throws IOException {
+        writeFireStations("{\"address\":\"123 Main St\",\"station\":\"1\"},{\"station\":\"2\"}");
+
+        FireStationRepository repository = new FireStationRepository(new JsonDataStore(
+            objectMapper,
+            SOURCE_JSON_FILE_PATH,
+            targetFile.getAbsolutePath()
+        ));
+
+        assertEquals(1, repository.getAllFireStations().size());
+    }
+
     @Test
     void testDeleteFireStationFound() {
         boolean result = fireStationRepository.deleteFireStation("123 Main St");
@@ -151,12 +209,34 @@ class FireStationRepositoryTest {
     }
 
     @Test
-    void testReloadData() throws IOException {
-        Map<String, List<FireStation>> newMockData = new HashMap<>();
-        newMockData.put("firestations", List.of(new FireStation("456 Elm St", "2")));
+    void testGetAddressesByStation() {
+        fireStationRepository.addFireStation(new FireStation("456 Elm St", "1"));
+        fireStationRepository.addFireStation(new FireStation("789 Oak St", "2"));
+
+        assertEquals(Set.of("123 Main St", "456 Elm St"), fireStationRepository.getAddressesByStation("1"));
+        assertEquals(Set.of("789 Oak St"), fireStationRepository.getAddressesByStation("2"));
+        assertTrue(fireStationRepository.getAddressesByStation("9").isEmpty());
+    }
+
+    @Test
+    void testUpdateFireStationMovesAddressBetweenStations() {
+        fireStationRepository.updateFireStation("123 MAIN ST", "2");
 
-        when(objectMapper.readValue(any(File.class), any(TypeReference.class)))
-            .thenReturn(newMockData);
+        assertTrue(fireStationRepository.getAddressesByStation("1").isEmpty());
+        assertEquals(Set.of("123 Main St"), fireStationRepository.getAddressesByStation("2"));
+    }
+
+    @Test
+    void testDeleteFireStationRemovesAddressFromStation() {
+        fireStationRepository.deleteFireStation("123 main st");
+
+        assertTrue(fireStationRepository.getAddressesByStation("1").isEmpty());
+        assertFalse(fireStationRepository.getFireStationByAddress("123 Main St").isPresent());
+    }
+
+    @Test
+    void testReloadData() throws IOException {
+        writeFireStations("{\"address\":\"456 Elm St\",\"station\":\"2\"}");
 
         fireStationRepository.reloadData();
 
@@ -0,0 +1,124 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.Household;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+class HouseholdRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PersonRepository personRepository;
+    private MedicalRecordRepository medicalRecordRepository;
+    private HouseholdRepository householdRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, """
+                {"persons": [
+                  {"firstName": "John", "lastName": "Boyd", "address": "1509 Culver St", "city": "Culver", "zip": "97451", "phone": "841-874-6512", "email": "jaboyd@email.com"},
+                  {"firstName": "Tenley", "lastName": "Boyd", "address": "1509 Culver St", "city": "Culver", "zip": "97451", "phone": "841-874-6512", "email": "tenz@email.com"},
+                  {"firstName": "Jonanathan", "lastName": "Marrack", "address": "29 15th St", "city": "Culver", "zip": "97451", "phone": "841-874-6513", "email": "drk@email.com"}
+                ],
+                "firestations": [],
+                "medicalrecords": [
+                  {"firstName": "John", "lastName": "Boyd", "birthdate": "03/06/1984", "medications": [], "allergies": []},
+                  {"firstName": "Tenley", "lastName": "Boyd", "birthdate": "02/18/2012", "medications": [], "allergies": []}
+                ]}
+                """);
+        JsonDataStore dataStore = new JsonDataStore(new ObjectMapper(), "source.json", file.toString());
+        personRepository = new PersonRepository(dataStore);
+        medicalRecordRepository = new MedicalRecordRepository(dataStore);
+        householdRepository = new HouseholdRepository(dataStore, personRepository, medicalRecordRepository);
+    }
+
+    @Test
+    void findByAddress_ShouldJoinMembersToTheirMedicalRecords() {
+        Household household = householdRepository.findByAddress(" 1509 CULVER ST ");
+
+        assertEquals(2, household.getMembers().size());
+        assertTrue(household.getMembers().stream().allMatch(m -> m.getMedicalRecord() != null));
+        assertEquals(1, household.getMembers().stream().filter(Household.Member::isChild).count());
+    }
+
+    @Test
+    void findByAddress_ShouldReturnEmptyHousehold_WhenNobodyLivesThere() {
+        assertTrue(householdRepository.findByAddress("Unknown St").isEmpty());
+        assertTrue(householdRepository.findByAddress(null).isEmpty());
+    }
+
+    @Test
+    void addedPerson_ShouldJoinTheHouseholdOfTheirAddress() {
+        personRepository.addOrUpdatePerson(new Person("Jacob", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6513", "drk@email.com"));
+
+        List<Household.Member> members = householdRepository.findByAddress("1509 Culver St").getMembers();
+
+        assertEquals(3, members.size());
+        Household.Member jacob = members.stream().filter(m -> m.getFullName().equals("Jacob Boyd")).findFirst().orElseThrow();
+        assertNull(jacob.getMedicalRecord());
+        assertEquals(-1, jacob.getAge());
+        assertFalse(jacob.isChild());
+    }
+
+    @Test
+    void movedPerson_ShouldLeaveTheirOldHousehold() {
+        personRepository.addOrUpdatePerson(new Person("Jonanathan", "Marrack", "1509 Culver St", "Culver", "97451", "841-874-6513", "drk@email.com"));
+
+        assertTrue(householdRepository.findByAddress("29 15th St").isEmpty());
+        assertEquals(3, householdRepository.findByAddress("1509 Culver St").getMembers().size());
+    }
+
+    @Test
+    void deletedPerson_ShouldLeaveTheirHousehold() {
+        personRepository.deletePerson("Tenley", "Boyd");
+
+        List<Household.Member> members = householdRepository.findByAddress("1509 Culver St").getMembers();
+
+        assertEquals(1, members.size());
+        assertEquals("John Boyd", members.get(0).getFullName());
+    }
+
+    @Test
+    void medicalRecordChanges_ShouldUpdateTheMember() {
+        medicalRecordRepository.addOrUpdateMedicalRecord(
+                new MedicalRecord("Jonanathan", "Marrack", "01/03/2015", List.of("aznol:350mg"), List.of()));
+
+        Household.Member member = householdRepository.findByAddress("29 15th St").getMembers().get(0);
+        assertTrue(member.isChild());
+        assertEquals(List.of("aznol:350mg"), member.getMedicalRecord().getMedications());
+
+        medicalRecordRepository.deleteMedicalRecord("Jonanathan", "Marrack");
+
+        assertNull(householdRepository.findByAddress("29 15th St").getMembers().get(0).getMedicalRecord());
+    }
+
+    @Test
+    void medicalRecordWithoutPerson_ShouldNotCreateAHousehold() {
+        medicalRecordRepository.addOrUpdateMedicalRecord(
+                new MedicalRecord("Nobody", "Here", "01/03/2015", List.of(), List.of()));
+
+        assertTrue(householdRepository.findByAddress("Here").isEmpty());
+        assertEquals(2, householdRepository.findByAddress("1509 Culver St").getMembers().size());
+    }
+}
@@ -8,12 +8,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -23,20 +24,19 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
 import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
 
 class MedicalRecordRepositoryTest {
 
     private MedicalRecordRepository medicalRecordRepository;
+    private JsonDataStore dataStore;
 
-    @Mock
-    private ObjectMapper mockObjectMapper;
+    private ObjectMapper objectMapper;
 
     @TempDir
     Path tempDir;
@@ -45,9 +45,10 @@ class MedicalRecordRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        objectMapper = spy(new ObjectMapper());
         tempFile = tempDir.resolve("data.json").toFile();
-        medicalRecordRepository = new MedicalRecordRepository(mockObjectMapper, "source.json", tempFile.getAbsolutePath());
+        dataStore = new JsonDataStore(objectMapper, "source.json", tempFile.getAbsolutePath());
+        medicalRecordRepository = new MedicalRecordRepository(dataStore);
     }
 
     @Test
@@ -55,9 +56,7 @@ class MedicalRecordRepositoryTest {
         File sourceFile = tempDir.resolve("source.json").toFile();
         Files.writeString(sourceFile.toPath(), "{\"medicalrecords\":[]}");
 
-        when(mockObjectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(Map.of("medicalrecords", List.of()));
-
-        MedicalRecordRepository repository = new MedicalRecordRepository(mockObjectMapper, sourceFile.getAbsolutePath(), tempFile.getAbsolutePath());
+        MedicalRecordRepository repository = new MedicalRecordRepository(new JsonDataStore(objectMapper, sourceFile.getAbsolutePath(), tempFile.getAbsolutePath()));
 
         assertTrue(tempFile.exists(), "The target file should have been created.");
     }
@@ -66,10 +65,6 @@ class MedicalRecordRepositoryTest {
     void testLoadData_FileExistsAndValid() throws IOException {
         Files.writeString(tempFile.toPath(), "{\"medicalrecords\":[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"birthdate\":\"01/01/2000\",\"medications\":[],\"allergies\":[]}]}\n");
 
-        when(mockObjectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(Map.of(
-            "medicalrecords", List.of(new MedicalRecord("John", "Doe", "01/01/2000", List.of(), List.of()))
-        ));
-
         medicalRecordRepository.reloadData();
         List<MedicalRecord> records = medicalRecordRepository.getAllMedicalRecords();
 
@@ -89,12 +84,28 @@ class MedicalRecordRepositoryTest {
         String validJsonContent = "{\"medicalrecords\":[]}";
         Files.writeString(tempFile.toPath(), validJsonContent);
 
-        doNothing().when(mockObjectMapper).writeValue(any(File.class), any(Map.class));
+        doNothing().when(objectMapper).writeValue(any(OutputStream.class), any(JsonWrapper.class));
 
         MedicalRecord record = new MedicalRecord("Jane", "Doe", "02/02/1990", List.of("med1"), List.of("allergy1"));
         medicalRecordRepository.addOrUpdateMedicalRecord(record);
+        verify(objectMapper, never()).writeValue(any(OutputStream.class), any(JsonWrapper.class));
 
-        verify(mockObjectMapper, times(1)).writeValue(any(File.class), any(Map.class));
+        dataStore.flush();
+
+        verify(objectMapper, times(1)).writeValue(any(OutputStream.class), any(JsonWrapper.class));
+    }
+
+    @Test
+    void testSaveData_CoalescesMutationsIntoOneWrite() throws IOException {
+        Files.writeString(tempFile.toPath(), "{\"medicalrecords\":[]}");
+
+        for (int i = 0; i < 50; i++) {
+            medicalRecordRepository.addOrUpdateMedicalRecord(new MedicalRecord("John" + i, "Doe", "01/01/2000", List.of(), List.of()));
+        }
+        dataStore.flush();
+        dataStore.flush();
+
+        verify(objectMapper, times(1)).writeValue(any(OutputStream.class), any(JsonWrapper.class));
     }
 
     @Test
@@ -133,6 +144,35 @@ class MedicalRecordRepositoryTest {
         assertEquals("John", result.get().getFirstName());
     }
 
+    @Test
+    void testGetMedicalRecordByName_IgnoresCaseAndSurroundingSpaces() {
+        MedicalRecord record = new MedicalRecord("John", "Doe", "01/01/2000", List.of(), List.of());
+        medicalRecordRepository.addOrUpdateMedicalRecord(record);
+
+        Optional<MedicalRecord> result = medicalRecordRepository.getMedicalRecordByName(" JOHN ", "doe");
+
+        assertTrue(result.isPresent());
+        assertEquals(record, result.get());
+    }
+
+    @Test
+    void testGetMedicalRecordsByLastName_ReturnsTheFamilyKeyedByFirstName() {
+        MedicalRecord john = new MedicalRecord("John", "Doe", "01/01/2000", List.of(), List.of());
+        MedicalRecord jane = new MedicalRecord("Jane", "Doe", "01/01/2010", List.of(), List.of());
+        medicalRecordRepository.addOrUpdateMedicalRecord(john);
+        medicalRecordRepository.addOrUpdateMedicalRecord(jane);
+        medicalRecordRepository.addOrUpdateMedicalRecord(new MedicalRecord("Bob", "Smith", "01/01/1990", List.of(), List.of()));
+
+        Map<String, MedicalRecord> family = medicalRecordRepository.getMedicalRecordsByLastName(" DOE ");
+
+        assertEquals(Map.of("john", john, "jane", jane), family);
+
+        medicalRecordRepository.deleteMedicalRecord("Jane", "Doe");
+
+        assertEquals(Map.of("john", john), medicalRecordRepository.getMedicalRecordsByLastName("Doe"));
+        assertTrue(medicalRecordRepository.getMedicalRecordsByLastName("Unknown").isEmpty());
+    }
+
     @Test
     void testEnsureTargetFile_SourceFileMissing() throws IOException {
         File sourceFile = new File("missing-source.json");
@@ -140,7 +180,7 @@ class MedicalRecordRepositoryTest {
             sourceFile.delete();
         }
 
-        MedicalRecordRepository repository = new MedicalRecordRepository(mockObjectMapper, sourceFile.getAbsolutePath(), tempFile.getAbsolutePath());
+        MedicalRecordRepository repository = new MedicalRecordRepository(new JsonDataStore(objectMapper, sourceFile.getAbsolutePath(), tempFile.getAbsolutePath()));
 
         assertFalse(tempFile.exists(), "The target file should not be created when the source file is missing.");
     }
@@ -160,8 +200,6 @@ class MedicalRecordRepositoryTest {
     void testLoadData_CorruptedJson() throws IOException {
         Files.writeString(tempFile.toPath(), "INVALID_JSON");
 
-        when(mockObjectMapper.readValue(any(File.class), any(TypeReference.class))).thenThrow(IOException.class);
-
         assertDoesNotThrow(() -> medicalRecordRepository.reloadData());
 
         assertTrue(medicalRecordRepository.getAllMedicalRecords().isEmpty(), "Corrupted JSON should result in no records being loaded.");
@@ -173,11 +211,11 @@ class MedicalRecordRepositoryTest {
 
         tempFile.setWritable(true);
 
-        doThrow(IOException.class).when(mockObjectMapper).writeValue(any(File.class), any(Map.class));
+        doThrow(IOException.class).when(objectMapper).writeValue(any(OutputStream.class), any(JsonWrapper.class));
 
         assertDoesNotThrow(() -> medicalRecordRepository.saveData());
 
-        verify(mockObjectMapper, times(1)).writeValue(any(File.class), any(Map.class));
+        verify(objectMapper, times(1)).writeValue(any(OutputStream.class), any(JsonWrapper.class));
     }
 
     @Test
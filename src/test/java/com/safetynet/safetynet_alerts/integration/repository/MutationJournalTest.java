@@ -0,0 +1,188 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JournalEntry;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MutationJournal;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+
+class MutationJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private File dataFile;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        dataFile = tempDir.resolve("data.json").toFile();
+        Files.writeString(dataFile.toPath(),
+                "{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\"}],"
+                + "\"firestations\":[{\"address\":\"1509 Culver St\",\"station\":\"3\"}],\"medicalrecords\":[]}");
+        journalPath = tempDir.resolve("data.json.journal");
+    }
+
+    private JsonDataStore openStore() {
+        return new JsonDataStore(objectMapper, "source.json", dataFile.getAbsolutePath(), 1000, 1000, true, 60_000, false, false);
+    }
+
+    @Test
+    void append_ShouldWriteOneLinePerMutation() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, false);
+
+        journal.append(JournalEntry.putPerson(new Person("Jane", "Doe", "1 Main St", "City", "1", "2", "3")));
+        journal.append(JournalEntry.deletePerson("Jane", "Doe"));
+        journal.close();
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        List<JournalEntry> entries = journal.readAll();
+        assertEquals(JournalEntry.Operation.PUT_PERSON, entries.get(0).getOp());
+        assertEquals("Jane", entries.get(0).getPerson().getFirstName());
+        assertEquals(JournalEntry.Operation.DELETE_PERSON, entries.get(1).getOp());
+    }
+
+    @Test
+    void appendAll_ShouldWriteOneLinePerMutationInOrder() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, true);
+
+        journal.append(JournalEntry.deletePerson("John", "Boyd"));
+        journal.appendAll(List.of(
+                JournalEntry.putPerson(new Person("Jane", "Doe", "1 Main St", "City", "1", "2", "3")),
+                JournalEntry.setFireStations("1 main st", List.of(new FireStation("1 Main St", "4")))));
+        journal.appendAll(List.of());
+        journal.close();
+
+        assertEquals(List.of(JournalEntry.Operation.DELETE_PERSON, JournalEntry.Operation.PUT_PERSON,
+                        JournalEntry.Operation.SET_FIRE_STATIONS),
+                journal.readAll().stream().map(JournalEntry::getOp).toList());
+    }
+
+    @Test
+    void readAll_ShouldIgnoreTruncatedLastLine() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, false);
+        journal.append(JournalEntry.deletePerson("Jane", "Doe"));
+        journal.close();
+        Files.writeString(journalPath, "{\"op\":\"PUT_PER", StandardOpenOption.APPEND);
+
+        assertEquals(1, journal.readAll().size());
+    }
+
+    @Test
+    void append_ShouldStartANewLineAfterATruncatedLastLine() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, false);
+        journal.append(JournalEntry.deletePerson("Jane", "Doe"));
+        journal.close();
+        Files.writeString(journalPath, "{\"op\":\"PUT_PER", StandardOpenOption.APPEND);
+
+        MutationJournal restarted = new MutationJournal(objectMapper, journalPath, false);
+        assertEquals(1, restarted.readAll().size());
+        restarted.append(JournalEntry.deletePerson("John", "Boyd"));
+        restarted.append(JournalEntry.deletePerson("Jacob", "Boyd"));
+        restarted.close();
+
+        List<JournalEntry> replayed = new MutationJournal(objectMapper, journalPath, false).readAll();
+        assertEquals(List.of("Jane", "John", "Jacob"), replayed.stream().map(JournalEntry::getFirstName).toList());
+        assertEquals(3, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    void readAll_ShouldKeepReadingAfterACorruptLine() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, false);
+        journal.append(JournalEntry.deletePerson("Jane", "Doe"));
+        journal.close();
+        Files.writeString(journalPath, "{\"op\":\"PUT_PER\n", StandardOpenOption.APPEND);
+        journal.append(JournalEntry.deletePerson("John", "Boyd"));
+        journal.close();
+
+        assertEquals(List.of("Jane", "John"), journal.readAll().stream().map(JournalEntry::getFirstName).toList());
+    }
+
+    @Test
+    void rotate_ShouldNotJoinATruncatedLineToTheNextEntries() throws IOException {
+        MutationJournal journal = new MutationJournal(objectMapper, journalPath, false);
+        journal.append(JournalEntry.deletePerson("Jane", "Doe"));
+        journal.close();
+        Files.writeString(journalPath, "{\"op\":\"PUT_PER", StandardOpenOption.APPEND);
+        journal.rotate();
+        journal.append(JournalEntry.deletePerson("John", "Boyd"));
+        journal.close();
+        Files.writeString(journalPath, "{\"op\":\"PUT_PER", StandardOpenOption.APPEND);
+        journal.rotate();
+        journal.append(JournalEntry.deletePerson("Jacob", "Boyd"));
+
+        assertEquals(List.of("Jane", "John", "Jacob"),
+                journal.readAll().stream().map(JournalEntry::getFirstName).toList());
+    }
+
+    @Test
+    void replay_ShouldApplyEntriesInOrderAndBeIdempotent() {
+        JsonWrapper snapshot = new JsonWrapper();
+        snapshot.setPersons(List.of(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841", "jb@email.com")));
+        snapshot.setFirestations(List.of(new FireStation("1509 Culver St", "3")));
+        snapshot.setMedicalrecords(List.of(new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of())));
+        List<JournalEntry> entries = List.of(
+                JournalEntry.putPerson(new Person("Jane", "Doe", "1 Main St", "City", "1", "2", "3")),
+                JournalEntry.deletePerson("JOHN", "boyd"),
+                JournalEntry.setFireStations("1509 culver st", List.of(new FireStation("1509 Culver St", "4"))),
+                JournalEntry.deleteMedicalRecord("John", "Boyd"));
+
+        JsonWrapper once = MutationJournal.replay(snapshot, entries);
+        JsonWrapper twice = MutationJournal.replay(once, entries);
+
+        assertEquals(List.of("Jane"), twice.getPersons().stream().map(Person::getFirstName).toList());
+        assertEquals(List.of(new FireStation("1509 Culver St", "4")), twice.getFirestations());
+        assertTrue(twice.getMedicalrecords().isEmpty());
+    }
+
+    @Test
+    void restart_ShouldReplayJournalOnTopOfSnapshot() {
+        JsonDataStore store = openStore();
+        PersonRepository persons = new PersonRepository(store);
+        FireStationRepository fireStations = new FireStationRepository(store);
+        persons.addOrUpdatePerson(new Person("Jane", "Doe", "1509 Culver St", "Culver", "97451", "841", "jd@email.com"));
+        persons.deletePerson("John", "Boyd");
+        fireStations.updateFireStation("1509 Culver St", "2");
+
+        assertTrue(Files.exists(journalPath));
+        JsonDataStore restarted = openStore();
+
+        assertEquals(List.of("Jane"), new PersonRepository(restarted).getAllPersons().stream().map(Person::getFirstName).toList());
+        assertEquals("2", new FireStationRepository(restarted).getFireStationByAddress("1509 Culver St").orElseThrow().getStation());
+    }
+
+    @Test
+    void flush_ShouldFoldJournalIntoSnapshot() throws IOException {
+        JsonDataStore store = openStore();
+        PersonRepository persons = new PersonRepository(store);
+        persons.addOrUpdatePerson(new Person("Jane", "Doe", "1509 Culver St", "Culver", "97451", "841", "jd@email.com"));
+
+        store.flush();
+
+        assertFalse(Files.exists(journalPath));
+        assertFalse(Files.exists(tempDir.resolve("data.json.journal.old")));
+        assertEquals(2, new PersonRepository(openStore()).getAllPersons().size());
+    }
+}
@@ -4,35 +4,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
-import com.fasterxml.jackson.core.exc.StreamReadException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DatabindException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
 import com.safetynet.safetynet_alerts.repository.PersonRepository;
 
 class PersonRepositoryTest {
 
     private PersonRepository personRepository;
-    private ObjectMapper mockObjectMapper;
+    private ObjectMapper objectMapper;
 
     @TempDir
     Path tempDir;
@@ -41,9 +38,9 @@ class PersonRepositoryTest {
 
     @BeforeEach
     void setUp() throws IOException {
-        mockObjectMapper = mock(ObjectMapper.class);
+        objectMapper = spy(new ObjectMapper());
         tempFile = tempDir.resolve("data.json").toFile();
-        personRepository = new PersonRepository(mockObjectMapper, "data.json", tempFile.getAbsolutePath());
+        personRepository = new PersonRepository(new JsonDataStore(objectMapper, "source.json", tempFile.getAbsolutePath()));
     }
 
     @Test
@@ -137,13 +134,92 @@ class PersonRepositoryTest {
     }
 
     @Test
-    void testLoadDataFileDoesNotExist() throws StreamReadException, DatabindException, IOException {
+    void findByAddress_ShouldIgnoreCase() {
+        Person person = new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com");
+        personRepository.addOrUpdatePerson(person);
+
+        List<Person> personsAtAddress = personRepository.findByAddress("123 MAIN ST");
+
+        assertEquals(1, personsAtAddress.size());
+        assertEquals(person, personsAtAddress.get(0));
+    }
+
+    @Test
+    void findByAddress_ShouldFollowPersonMovingToAnotherAddress() {
+        personRepository.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com"));
+        Person moved = new Person("John", "Doe", "456 Elm St", "City", "12345", "123-456-7890", "john.doe@email.com");
+        personRepository.addOrUpdatePerson(moved);
+
+        assertTrue(personRepository.findByAddress("123 Main St").isEmpty());
+        assertEquals(List.of(moved), personRepository.findByAddress("456 Elm St"));
+    }
+
+    @Test
+    void findByAddress_ShouldNotReturnDeletedPerson() {
+        personRepository.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com"));
+
+        personRepository.deletePerson("John", "Doe");
+
+        assertTrue(personRepository.findByAddress("123 Main St").isEmpty());
+    }
+
+    @Test
+    void findByLastName_ShouldReturnTheFamilyIgnoringCase() {
+        Person john = new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com");
+        Person jane = new Person("Jane", "DOE", "456 Elm St", "Town", "67890", "987-654-3210", "jane.doe@email.com");
+        personRepository.addOrUpdatePerson(john);
+        personRepository.addOrUpdatePerson(jane);
+        personRepository.addOrUpdatePerson(new Person("Bob", "Smith", "456 Elm St", "Town", "67890", "987-654-3210", "bob@email.com"));
+
+        List<Person> family = personRepository.findByLastName(" doe ");
+
+        assertEquals(2, family.size());
+        assertTrue(family.contains(john));
+        assertTrue(family.contains(jane));
+    }
+
+    @Test
+    void findByLastName_ShouldNotReturnDeletedPerson() {
+        personRepository.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com"));
+
+        personRepository.deletePerson("John", "Doe");
+
+        assertTrue(personRepository.findByLastName("Doe").isEmpty());
+    }
+
+    @Test
+    void getEmailsByCity_ShouldReturnDistinctEmailsIgnoringCase() {
+        personRepository.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "family@email.com"));
+        personRepository.addOrUpdatePerson(new Person("Jane", "Doe", "123 Main St", "CITY", "12345", "123-456-7890", "family@email.com"));
+        personRepository.addOrUpdatePerson(new Person("Bob", "Smith", "456 Elm St", "city ", "12345", "987-654-3210", "bob@email.com"));
+        personRepository.addOrUpdatePerson(new Person("Ann", "Lee", "789 Oak St", "Town", "67890", "555-555-5555", "ann@email.com"));
+
+        assertEquals(List.of("family@email.com", "bob@email.com"), personRepository.getEmailsByCity("city"));
+        assertEquals(List.of("ann@email.com"), personRepository.getEmailsByCity("Town"));
+        assertTrue(personRepository.getEmailsByCity("Nowhere").isEmpty());
+    }
+
+    @Test
+    void getEmailsByCity_ShouldFollowUpdatesAndDeletions() {
+        personRepository.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "family@email.com"));
+        personRepository.addOrUpdatePerson(new Person("Jane", "Doe", "123 Main St", "City", "12345", "123-456-7890", "family@email.com"));
+
+        personRepository.deletePerson("John", "Doe");
+        assertEquals(List.of("family@email.com"), personRepository.getEmailsByCity("City"));
+
+        personRepository.addOrUpdatePerson(new Person("Jane", "Doe", "1 Harbor Rd", "Town", "67890", "123-456-7890", "jane@email.com"));
+        assertTrue(personRepository.getEmailsByCity("City").isEmpty());
+        assertEquals(List.of("jane@email.com"), personRepository.getEmailsByCity("Town"));
+    }
+
+    @Test
+    void testLoadDataFileDoesNotExist() throws IOException {
         File nonExistentFile = new File("nonexistent.json");
-        personRepository = new PersonRepository(mockObjectMapper, "source.json", nonExistentFile.getAbsolutePath());
+        personRepository = new PersonRepository(new JsonDataStore(objectMapper, "source.json", nonExistentFile.getAbsolutePath()));
 
         personRepository.reloadData();
 
-        verify(mockObjectMapper, never()).readValue(any(File.class), any(TypeReference.class));
+        verify(objectMapper, never()).createParser(any(File.class));
         assertTrue(personRepository.getAllPersons().isEmpty());
     }
 
@@ -152,9 +228,6 @@ class PersonRepositoryTest {
         String jsonContent = "{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"address\":\"123 Main St\",\"city\":\"City\",\"zip\":\"12345\",\"phone\":\"123-456-7890\",\"email\":\"john.doe@email.com\"}]}";
         Files.writeString(tempFile.toPath(), jsonContent);
 
-        when(mockObjectMapper.readValue(any(File.class), any(TypeReference.class)))
-                .thenReturn(Map.of("persons", List.of(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com"))));
-
         personRepository.reloadData();
         List<Person> persons = personRepository.getAllPersons();
 
@@ -162,12 +235,30 @@ class PersonRepositoryTest {
         assertEquals("John", persons.get(0).getFirstName());
     }
 
+    @Test
+    void reloadData_ShouldKeepThePendingChangesOfTheOtherSections() throws IOException {
+        Files.writeString(tempFile.toPath(), "{\"persons\":[],\"firestations\":[],\"medicalrecords\":[]}");
+        JsonDataStore dataStore = new JsonDataStore(objectMapper, "source.json", tempFile.getAbsolutePath(),
+                60_000, 1000, false, 0, false, false);
+        PersonRepository persons = new PersonRepository(dataStore);
+        FireStationRepository fireStations = new FireStationRepository(dataStore);
+        persons.addOrUpdatePerson(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "jd@email.com"));
+        fireStations.addFireStation(new FireStation("123 Main St", "1"));
+
+        persons.reloadData();
+        dataStore.flush();
+
+        assertTrue(persons.getAllPersons().isEmpty());
+        assertEquals(List.of(), dataStore.getPersons());
+        assertEquals(List.of(new FireStation("123 Main St", "1")), dataStore.getFireStations());
+        assertTrue(Files.readString(tempFile.toPath()).contains("123 Main St"));
+        dataStore.close();
+    }
+
     @Test
     void testLoadData_InvalidJson_ShouldLogError() throws IOException {
         Files.writeString(tempFile.toPath(), "Invalid JSON content");
 
-        when(mockObjectMapper.readValue(any(File.class), any(TypeReference.class))).thenThrow(IOException.class);
-
         personRepository.reloadData();
 
         assertTrue(personRepository.getAllPersons().isEmpty(), "Person list should be empty if JSON is invalid");
@@ -0,0 +1,74 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.JsonWrapper;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.SnapshotWriter;
+
+class SnapshotWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static JsonWrapper fullData() {
+        JsonWrapper wrapper = new JsonWrapper();
+        wrapper.setPersons(List.of(new Person("John", "Doe", "123 Main St", "City", "12345", "123-456-7890", "john.doe@email.com")));
+        wrapper.setFirestations(List.of(new FireStation("123 Main St", "1")));
+        wrapper.setMedicalrecords(List.of(new MedicalRecord("John", "Doe", "01/01/2000", List.of("med1"), List.of())));
+        return wrapper;
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void write_ShouldReplaceTargetWithAllThreeSections() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        File target = tempDir.resolve("data.json").toFile();
+        Files.writeString(target.toPath(), "{\"persons\":[]}");
+
+        new SnapshotWriter(objectMapper).write(target, fullData());
+
+        JsonWrapper written = objectMapper.readValue(target, JsonWrapper.class);
+        assertEquals(1, written.getPersons().size());
+        assertEquals("1", written.getFirestations().get(0).getStation());
+        assertEquals("01/01/2000", written.getMedicalrecords().get(0).getBirthdate());
+        assertEquals(1, fileCount(), "No temporary file should be left behind.");
+    }
+
+    @Test
+    void write_ShouldLeaveTargetUntouchedWhenSerializationFails() throws IOException {
+        ObjectMapper failingMapper = mock(ObjectMapper.class);
+        doThrow(new IOException("disk full")).when(failingMapper).writeValue(any(OutputStream.class), any(JsonWrapper.class));
+        File target = tempDir.resolve("data.json").toFile();
+        Files.writeString(target.toPath(), "{\"persons\":[]}");
+
+        assertThrows(IOException.class, () -> new SnapshotWriter(failingMapper).write(target, fullData()));
+
+        assertEquals("{\"persons\":[]}", Files.readString(target.toPath()));
+        assertEquals(1, fileCount(), "The temporary file should be removed after a failure.");
+    }
+}
@@ -0,0 +1,148 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.model.StationCoverage;
+import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
+import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
+import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
+
+class StationCoverageRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PersonRepository personRepository;
+    private MedicalRecordRepository medicalRecordRepository;
+    private FireStationRepository fireStationRepository;
+    private StationCoverageRepository stationCoverageRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, """
+                {"persons": [
+                  {"firstName": "John", "lastName": "Boyd", "address": "1509 Culver St", "city": "Culver", "zip": "97451", "phone": "841-874-6512", "email": "jaboyd@email.com"},
+                  {"firstName": "Tenley", "lastName": "Boyd", "address": "1509 Culver St", "city": "Culver", "zip": "97451", "phone": "841-874-6512", "email": "tenz@email.com"},
+                  {"firstName": "Jonanathan", "lastName": "Marrack", "address": "29 15th St", "city": "Culver", "zip": "97451", "phone": "841-874-6513", "email": "drk@email.com"}
+                ],
+                "firestations": [
+                  {"address": "1509 Culver St", "station": "3"},
+                  {"address": "29 15th St", "station": "2"}
+                ],
+                "medicalrecords": [
+                  {"firstName": "John", "lastName": "Boyd", "birthdate": "03/06/1984", "medications": [], "allergies": []},
+                  {"firstName": "Tenley", "lastName": "Boyd", "birthdate": "02/18/2012", "medications": [], "allergies": []},
+                  {"firstName": "Jonanathan", "lastName": "Marrack", "birthdate": "01/03/1989", "medications": [], "allergies": []}
+                ]}
+                """);
+        JsonDataStore dataStore = new JsonDataStore(new ObjectMapper(), "source.json", file.toString());
+        personRepository = new PersonRepository(dataStore);
+        medicalRecordRepository = new MedicalRecordRepository(dataStore);
+        fireStationRepository = new FireStationRepository(dataStore);
+        HouseholdRepository householdRepository = new HouseholdRepository(dataStore, personRepository, medicalRecordRepository);
+        stationCoverageRepository = new StationCoverageRepository(dataStore, fireStationRepository, personRepository, householdRepository);
+    }
+
+    @Test
+    void findByStation_ShouldAggregateCoveredResidents() {
+        StationCoverage coverage = stationCoverageRepository.findByStation("3");
+
+        assertEquals(2, coverage.getResidents().size());
+        assertEquals(List.of("841-874-6512"), coverage.getPhones());
+        assertEquals(1, coverage.getAdultCount());
+        assertEquals(1, coverage.getChildCount());
+    }
+
+    @Test
+    void findByStation_ShouldReuseTheAggregateUntilSomethingChanges() {
+        StationCoverage first = stationCoverageRepository.findByStation("3");
+
+        assertSame(first, stationCoverageRepository.findByStation("3"));
+
+        personRepository.addOrUpdatePerson(new Person("Jonanathan", "Marrack", "29 15th St", "Culver", "97451", "841-874-6599", "drk@email.com"));
+
+        assertSame(first, stationCoverageRepository.findByStation("3"), "Station 3 does not cover the changed address");
+        assertEquals(List.of("841-874-6599"), stationCoverageRepository.findByStation("2").getPhones());
+    }
+
+    @Test
+    void personChanges_ShouldUpdateBothStationsWhenMoving() {
+        stationCoverageRepository.findByStation("2");
+        stationCoverageRepository.findByStation("3");
+
+        personRepository.addOrUpdatePerson(new Person("Jonanathan", "Marrack", "1509 Culver St", "Culver", "97451", "841-874-6513", "drk@email.com"));
+
+        assertTrue(stationCoverageRepository.findByStation("2").getResidents().isEmpty());
+        StationCoverage station3 = stationCoverageRepository.findByStation("3");
+        assertEquals(3, station3.getResidents().size());
+        assertEquals(2, station3.getAdultCount());
+        assertEquals(List.of("841-874-6512", "841-874-6513"), station3.getPhones());
+
+        personRepository.deletePerson("Tenley", "Boyd");
+
+        assertEquals(0, stationCoverageRepository.findByStation("3").getChildCount());
+    }
+
+    @Test
+    void medicalRecordChanges_ShouldUpdateTheCounts() {
+        stationCoverageRepository.findByStation("2");
+
+        medicalRecordRepository.addOrUpdateMedicalRecord(new MedicalRecord("Jonanathan", "Marrack", "01/03/2015", List.of(), List.of()));
+
+        StationCoverage coverage = stationCoverageRepository.findByStation("2");
+        assertEquals(0, coverage.getAdultCount());
+        assertEquals(1, coverage.getChildCount());
+
+        medicalRecordRepository.deleteMedicalRecord("Jonanathan", "Marrack");
+
+        coverage = stationCoverageRepository.findByStation("2");
+        assertEquals(0, coverage.getAdultCount());
+        assertEquals(0, coverage.getChildCount());
+        assertEquals(1, coverage.getResidents().size());
+    }
+
+    @Test
+    void fireStationChanges_ShouldMoveResidentsBetweenStations() {
+        stationCoverageRepository.findByStation("2");
+        stationCoverageRepository.findByStation("3");
+
+        fireStationRepository.updateFireStation("29 15th St", "3");
+
+        assertTrue(stationCoverageRepository.findByStation("2").getResidents().isEmpty());
+        assertEquals(3, stationCoverageRepository.findByStation("3").getResidents().size());
+
+        fireStationRepository.deleteFireStation("1509 Culver St");
+        fireStationRepository.addFireStation(new FireStation("1509 Culver St", "2"));
+
+        assertEquals(1, stationCoverageRepository.findByStation("3").getResidents().size());
+        assertEquals(2, stationCoverageRepository.findByStation("2").getResidents().size());
+    }
+
+    @Test
+    void findByStation_ShouldReturnEmptyCoverage_ForUnknownStation() {
+        StationCoverage coverage = stationCoverageRepository.findByStation("42");
+
+        assertTrue(coverage.getResidents().isEmpty());
+        assertTrue(coverage.getPhones().isEmpty());
+        assertTrue(stationCoverageRepository.findByStation(null).getResidents().isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.MedicalRecord;
+import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.StreamingJsonLoader;
+
+class StreamingJsonLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final StreamingJsonLoader loader = new StreamingJsonLoader(
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<FireStation> fireStations = new ArrayList<>();
+    private final List<MedicalRecord> medicalRecords = new ArrayList<>();
+
+    private File write(String json) throws IOException {
+        File file = tempDir.resolve("data.json").toFile();
+        Files.writeString(file.toPath(), json);
+        return file;
+    }
+
+    @Test
+    void load_ShouldStreamEverySectionInFileOrder() throws IOException {
+        File file = write("""
+                {
+                  "version": {"ignored": [1, 2, 3]},
+                  "medicalrecords": [{"firstName": "John", "lastName": "Boyd", "birthdate": "03/06/1984", "age": 40}],
+                  "persons": [
+                    {"firstName": "John", "lastName": "Boyd", "address": "1509 Culver St"},
+                    {"firstName": "Jacob", "lastName": "Boyd", "address": "1509 Culver St"}
+                  ],
+                  "firestations": [{"address": "1509 Culver St", "station": "3"}]
+                }
+                """);
+
+        loader.load(file, persons::add, fireStations::add, medicalRecords::add);
+
+        assertEquals(List.of("John", "Jacob"), persons.stream().map(Person::getFirstName).toList());
+        assertEquals(List.of(new FireStation("1509 Culver St", "3")), fireStations);
+        assertEquals("03/06/1984", medicalRecords.get(0).getBirthdate());
+    }
+
+    @Test
+    void load_ShouldAcceptMissingAndNullSections() throws IOException {
+        File file = write("{\"persons\": null}");
+
+        loader.load(file, persons::add, fireStations::add, medicalRecords::add);
+
+        assertTrue(persons.isEmpty());
+        assertTrue(fireStations.isEmpty());
+        assertTrue(medicalRecords.isEmpty());
+    }
+
+    @Test
+    void load_ShouldRejectTruncatedFile() throws IOException {
+        File file = write("{\"persons\": [{\"firstName\": \"John\"}, ");
+
+        assertThrows(IOException.class, () -> loader.load(file, persons::add, fireStations::add, medicalRecords::add));
+    }
+
+    @Test
+    void load_ShouldRejectNonObjectDocument() throws IOException {
+        File file = write("[]");
+
+        assertThrows(IOException.class, () -> loader.load(file, persons::add, fireStations::add, medicalRecords::add));
+    }
+}
@@ -0,0 +1,85 @@
+package com.safetynet.safetynet_alerts.integration.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.safetynet.safetynet_alerts.repository.WriteBehindPersister;
+
+class WriteBehindPersisterTest {
+
+    private final AtomicInteger writes = new AtomicInteger();
+
+    @Test
+    void markDirty_ShouldCoalesceMutationsIntoOneScheduledWrite() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        WriteBehindPersister persister = new WriteBehindPersister(() -> {
+            writes.incrementAndGet();
+            written.countDown();
+        }, 50, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            persister.markDirty();
+        }
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(1, writes.get());
+        assertEquals(0, persister.getDirtyCount());
+        persister.close();
+    }
+
+    @Test
+    void markDirty_ShouldFlushImmediatelyWhenThresholdIsReached() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        WriteBehindPersister persister = new WriteBehindPersister(() -> {
+            writes.incrementAndGet();
+            written.countDown();
+        }, 60_000, 10);
+
+        for (int i = 0; i < 10; i++) {
+            persister.markDirty();
+        }
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(1, writes.get());
+        persister.close();
+    }
+
+    @Test
+    void markDirty_ShouldWriteThroughWhenIntervalIsZero() {
+        WriteBehindPersister persister = new WriteBehindPersister(writes::incrementAndGet, 0, 1000);
+
+        persister.markDirty();
+        persister.markDirty();
+
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void close_ShouldWritePendingMutations() {
+        WriteBehindPersister persister = new WriteBehindPersister(writes::incrementAndGet, 60_000, 1000);
+        persister.markDirty();
+        persister.markDirty();
+
+        persister.close();
+
+        assertEquals(1, writes.get());
+        assertEquals(0, persister.getDirtyCount());
+    }
+
+    @Test
+    void flush_ShouldNotWriteWhenNothingIsPending() {
+        WriteBehindPersister persister = new WriteBehindPersister(writes::incrementAndGet, 60_000, 1000);
+
+        persister.flush();
+        persister.discard();
+        persister.close();
+
+        assertEquals(0, writes.get());
+    }
+}
@@ -1,18 +1,28 @@
 package com.safetynet.safetynet_alerts.integration.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safetynet.safetynet_alerts.dto.FireStationCoverageDTO;
 import com.safetynet.safetynet_alerts.dto.MedicalRecordDTO;
 import com.safetynet.safetynet_alerts.dto.PersonDTO;
+import com.safetynet.safetynet_alerts.dto.ResidentDTO;
 import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.Household;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.model.StationCoverage;
 import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
 import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
 import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
 import com.safetynet.safetynet_alerts.service.FireStationService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +33,8 @@ class FireStationServiceTest {
     private FireStationRepository fireStationRepository;
     private PersonRepository personRepository;
     private MedicalRecordRepository medicalRecordRepository;
+    private StationCoverageRepository stationCoverageRepository;
+    private HouseholdRepository householdRepository;
     private FireStationService fireStationService;
 
     @BeforeEach
@@ -30,7 +42,10 @@ class FireStationServiceTest {
         fireStationRepository = mock(FireStationRepository.class);
         personRepository = mock(PersonRepository.class);
         medicalRecordRepository = mock(MedicalRecordRepository.class);
-        fireStationService = new FireStationService(fireStationRepository, personRepository, medicalRecordRepository);
+        stationCoverageRepository = mock(StationCoverageRepository.class);
+        householdRepository = mock(HouseholdRepository.class);
+        fireStationService = new FireStationService(fireStationRepository, stationCoverageRepository,
+                householdRepository);
     }
     
     @Test
@@ -76,68 +91,108 @@ class FireStationServiceTest {
 
     @Test
     void testGetPeopleCoveredByFireStation() {
-        when(fireStationRepository.getAllFireStations()).thenReturn(List.of(
-                new FireStation("1509 Culver St", "3"),
-                new FireStation("29 15th St", "3")
-        ));
-
-        when(personRepository.getAllPersons()).thenReturn(List.of(
-                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com"),
-                new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jacob@email.com")
-        ));
-
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Boyd"))
-                .thenReturn(Optional.of(new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of())));
-
-        when(medicalRecordRepository.getMedicalRecordByName("Jacob", "Boyd"))
-                .thenReturn(Optional.of(new MedicalRecord("Jacob", "Boyd", "03/06/2012", List.of(), List.of())));
-
-        Map<String, Object> result = fireStationService.getPeopleCoveredByFireStation("3");
-
-        assertEquals(2, ((List<?>) result.get("persons")).size());
-        assertEquals(1, result.get("adultCount"));
-        assertEquals(1, result.get("childCount"));
-        verify(fireStationRepository, times(1)).getAllFireStations();
-        verify(personRepository, times(1)).getAllPersons();
+        when(stationCoverageRepository.findByStation("3")).thenReturn(StationCoverage.of("3", List.of(
+                new Household("1509 Culver St", List.of(new Household.Member(
+                        new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com"),
+                        new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of())))),
+                new Household("29 15th St", List.of(new Household.Member(
+                        new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jacob@email.com"),
+                        new MedicalRecord("Jacob", "Boyd", "03/06/2012", List.of(), List.of()))))
+        )));
+
+        FireStationCoverageDTO result = fireStationService.getPeopleCoveredByFireStation("3");
+
+        assertEquals(2, result.persons().size());
+        assertEquals("John", result.persons().get(0).firstName());
+        assertEquals("841-874-6513", result.persons().get(1).phone());
+        assertEquals(1, result.adultCount());
+        assertEquals(1, result.childCount());
+        verify(stationCoverageRepository, times(1)).findByStation("3");
+        verify(personRepository, never()).getAllPersons();
+        verify(medicalRecordRepository, never()).getMedicalRecordByName(anyString(), anyString());
     }
 
     @Test
     void testGetFloodStationsInfo() {
-        when(fireStationRepository.getAllFireStations()).thenReturn(List.of(
-                new FireStation("1509 Culver St", "3"),
-                new FireStation("29 15th St", "2"),
-                new FireStation("834 Binoc Ave", "3")
-        ));
-
-        when(personRepository.findByAddress("1509 Culver St")).thenReturn(List.of(
-                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com")
-        ));
-        when(personRepository.findByAddress("29 15th St")).thenReturn(List.of(
-                new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jacob@email.com")
-        ));
-        when(personRepository.findByAddress("834 Binoc Ave")).thenReturn(List.of(
-                new Person("Tessa", "Boyd", "834 Binoc Ave", "Culver", "97451", "841-874-6514", "tessa@email.com")
-        ));
-
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Boyd"))
-                .thenReturn(Optional.of(new MedicalRecord("John", "Boyd", "03/06/1984", List.of("med1"), List.of("allergy1"))));
-        when(medicalRecordRepository.getMedicalRecordByName("Jacob", "Boyd"))
-                .thenReturn(Optional.of(new MedicalRecord("Jacob", "Boyd", "03/06/2012", List.of(), List.of())));
-        when(medicalRecordRepository.getMedicalRecordByName("Tessa", "Boyd"))
-                .thenReturn(Optional.of(new MedicalRecord("Tessa", "Boyd", "02/18/2012", List.of("med2"), List.of("allergy2"))));
-
-        Map<String, List<Map<String, Object>>> result = fireStationService.getFloodStationsInfo(List.of(3, 2));
+        when(fireStationRepository.getAddressesByStation("3")).thenReturn(Set.of("1509 Culver St", "834 Binoc Ave"));
+        when(fireStationRepository.getAddressesByStation("2")).thenReturn(Set.of("29 15th St"));
+
+        when(householdRepository.findByAddress("1509 Culver St")).thenReturn(new Household("1509 Culver St", List.of(
+                new Household.Member(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com"),
+                        new MedicalRecord("John", "Boyd", "03/06/1984", List.of("med1"), List.of("allergy1"))))));
+        when(householdRepository.findByAddress("29 15th St")).thenReturn(new Household("29 15th St", List.of(
+                new Household.Member(new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jacob@email.com"),
+                        new MedicalRecord("Jacob", "Boyd", "03/06/2012", List.of(), List.of())))));
+        when(householdRepository.findByAddress("834 Binoc Ave")).thenReturn(new Household("834 Binoc Ave", List.of(
+                new Household.Member(new Person("Tessa", "Boyd", "834 Binoc Ave", "Culver", "97451", "841-874-6514", "tessa@email.com"),
+                        new MedicalRecord("Tessa", "Boyd", "02/18/2012", List.of("med2"), List.of("allergy2"))))));
+
+        Map<String, List<ResidentDTO>> result = fireStationService.getFloodStationsInfo(List.of(3, 2));
 
         assertEquals(3, result.size());
         assertTrue(result.containsKey("1509 Culver St"));
         assertTrue(result.containsKey("29 15th St"));
         assertTrue(result.containsKey("834 Binoc Ave"));
+        ResidentDTO john = result.get("1509 Culver St").get(0);
+        assertEquals("841-874-6512", john.phone());
+        assertEquals(List.of("med1"), john.medications());
+        assertEquals(List.of("allergy1"), john.allergies());
+
+        verify(fireStationRepository, never()).getAllFireStations();
+        verify(householdRepository, times(3)).findByAddress(anyString());
+        verify(personRepository, never()).findByAddress(anyString());
+        verify(medicalRecordRepository, never()).getMedicalRecordByName(anyString(), anyString());
+    }
 
-        verify(fireStationRepository, times(1)).getAllFireStations();
-        verify(personRepository, times(3)).findByAddress(anyString());
-        verify(medicalRecordRepository, times(3)).getMedicalRecordByName(anyString(), anyString());
+    private String write(JsonWriterCall call) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = new ObjectMapper().createGenerator(out)) {
+            call.write(generator);
+        }
+        return out.toString();
     }
 
+    private interface JsonWriterCall {
+        void write(JsonGenerator generator) throws IOException;
+    }
 
+    @Test
+    void testWritePeopleCoveredByFireStation() throws IOException {
+        when(stationCoverageRepository.findByStation("3")).thenReturn(StationCoverage.of("3", List.of(
+                new Household("1509 Culver St", List.of(new Household.Member(
+                        new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com"),
+                        new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of()))))
+        )));
+
+        String json = write(generator -> fireStationService.writePeopleCoveredByFireStation("3", generator));
+
+        assertEquals("{\"persons\":[{\"firstName\":\"John\",\"lastName\":\"Boyd\",\"address\":\"1509 Culver St\",\"phone\":\"841-874-6512\"}],"
+                + "\"adultCount\":1,\"childCount\":0}", json);
+        assertEquals(new ObjectMapper().writeValueAsString(fireStationService.getPeopleCoveredByFireStation("3")), json);
+    }
 
+    @Test
+    void testWriteFloodStationsInfo_ShouldWriteEachHouseholdOnceFromTheIndexes() throws IOException {
+        when(fireStationRepository.getAddressesByStation("3")).thenReturn(Set.of("1509 Culver St"));
+        when(fireStationRepository.getAddressesByStation("2")).thenReturn(Set.of("1509 Culver St", "29 15th St"));
+        when(fireStationRepository.getFireStationsByAddress("1509 Culver St"))
+                .thenReturn(List.of(new FireStation("1509 Culver St", "3"), new FireStation("1509 Culver St", "2")));
+        when(fireStationRepository.getFireStationsByAddress("29 15th St")).thenReturn(List.of(new FireStation("29 15th St", "2")));
+        when(householdRepository.findByAddress("1509 Culver St")).thenReturn(new Household("1509 Culver St", List.of(
+                new Household.Member(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "john@email.com"),
+                        new MedicalRecord("John", "Boyd", "03/06/1984", List.of("med1"), List.of())))));
+        when(householdRepository.findByAddress("29 15th St")).thenReturn(new Household("29 15th St", List.of(
+                new Household.Member(new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jacob@email.com"), null))));
+
+        String json = write(generator -> fireStationService.writeFloodStationsInfo(List.of(3, 2, 3), generator));
+
+        Map<?, ?> result = new ObjectMapper().readValue(json, Map.class);
+        assertEquals(List.of("1509 Culver St", "29 15th St"), new ArrayList<>(result.keySet()));
+        assertEquals(List.of(Map.of("firstName", "John", "lastName", "Boyd", "phone", "841-874-6512", "age",
+                new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of()).getAge(),
+                "medications", List.of("med1"), "allergies", List.of())), result.get("1509 Culver St"));
+        verify(householdRepository, times(1)).findByAddress("1509 Culver St");
+        verify(personRepository, never()).findByAddress(anyString());
+        verify(medicalRecordRepository, never()).getMedicalRecordByName(anyString(), anyString());
+    }
 }
@@ -6,6 +6,7 @@ import com.safetynet.safetynet_alerts.model.FireStation;
 import com.safetynet.safetynet_alerts.model.JsonWrapper;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.repository.JsonDataStore;
 import com.safetynet.safetynet_alerts.service.JsonDataService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +39,7 @@ class JsonDataServiceTest {
 
         objectMapper.writeValue(testFile, mockWrapper);
 
-        jsonDataService = new JsonDataService(objectMapper, testFile.getAbsolutePath(), null);
+        jsonDataService = new JsonDataService(new JsonDataStore(objectMapper, testFile.getAbsolutePath(), null));
     }
 
     @Test
@@ -66,7 +67,7 @@ class JsonDataServiceTest {
 
     @Test
     void testLoadDataFileNotFound() {
-        jsonDataService = new JsonDataService(objectMapper, "nonexistent.json", null);
+        jsonDataService = new JsonDataService(new JsonDataStore(objectMapper, "nonexistent.json", null));
         List<Person> persons = jsonDataService.getPersons();
         assertTrue(persons.isEmpty());
     }
@@ -76,7 +77,7 @@ class JsonDataServiceTest {
         objectMapper = mock(ObjectMapper.class);
         when(objectMapper.readValue(any(File.class), eq(JsonWrapper.class))).thenThrow(JsonParseException.class);
 
-        jsonDataService = new JsonDataService(objectMapper, testFile.getAbsolutePath(), null);
+        jsonDataService = new JsonDataService(new JsonDataStore(objectMapper, testFile.getAbsolutePath(), null));
 
         List<Person> persons = jsonDataService.getPersons();
         assertTrue(persons.isEmpty());
@@ -112,7 +113,7 @@ class JsonDataServiceTest {
         objectMapper = mock(ObjectMapper.class);
         when(objectMapper.readValue(any(File.class), eq(JsonWrapper.class))).thenThrow(IOException.class);
 
-        jsonDataService = new JsonDataService(objectMapper, testFile.getAbsolutePath(), null);
+        jsonDataService = new JsonDataService(new JsonDataStore(objectMapper, testFile.getAbsolutePath(), null));
 
         assertThrows(IllegalStateException.class, jsonDataService::reloadData);
     }
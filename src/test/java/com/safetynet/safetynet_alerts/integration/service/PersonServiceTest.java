@@ -19,12 +19,19 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.safetynet.safetynet_alerts.dto.ChildAlertDTO;
+import com.safetynet.safetynet_alerts.dto.FireAlertDTO;
+import com.safetynet.safetynet_alerts.dto.PersonInfoDTO;
 import com.safetynet.safetynet_alerts.model.FireStation;
+import com.safetynet.safetynet_alerts.model.Household;
 import com.safetynet.safetynet_alerts.model.MedicalRecord;
 import com.safetynet.safetynet_alerts.model.Person;
+import com.safetynet.safetynet_alerts.model.StationCoverage;
 import com.safetynet.safetynet_alerts.repository.FireStationRepository;
+import com.safetynet.safetynet_alerts.repository.HouseholdRepository;
 import com.safetynet.safetynet_alerts.repository.MedicalRecordRepository;
 import com.safetynet.safetynet_alerts.repository.PersonRepository;
+import com.safetynet.safetynet_alerts.repository.StationCoverageRepository;
 import com.safetynet.safetynet_alerts.service.PersonService;
 
 class PersonServiceTest {
@@ -32,6 +39,8 @@ class PersonServiceTest {
     private PersonRepository personRepository;
     private MedicalRecordRepository medicalRecordRepository;
     private FireStationRepository fireStationRepository;
+    private HouseholdRepository householdRepository;
+    private StationCoverageRepository stationCoverageRepository;
     private PersonService personService;
 
     @BeforeEach
@@ -39,7 +48,10 @@ class PersonServiceTest {
         personRepository = mock(PersonRepository.class);
         medicalRecordRepository = mock(MedicalRecordRepository.class);
         fireStationRepository = mock(FireStationRepository.class);
-        personService = new PersonService(personRepository, medicalRecordRepository, fireStationRepository);
+        householdRepository = mock(HouseholdRepository.class);
+        stationCoverageRepository = mock(StationCoverageRepository.class);
+        personService = new PersonService(personRepository, medicalRecordRepository, fireStationRepository,
+                householdRepository, stationCoverageRepository);
     }
     
     @Test
@@ -109,60 +121,67 @@ class PersonServiceTest {
 
     @Test
     void testGetChildrenByAddress() {
-        List<Person> mockPersons = List.of(
-                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"),
-                new Person("Tenley", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "tenley@email.com")
-        );
-
         MedicalRecord childRecord = new MedicalRecord("Tenley", "Boyd", "02/18/2012", List.of(), List.of());
         MedicalRecord adultRecord = new MedicalRecord("John", "Boyd", "03/06/1984", List.of(), List.of());
+        Household household = new Household("1509 Culver St", List.of(
+                new Household.Member(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"), adultRecord),
+                new Household.Member(new Person("Tenley", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "tenley@email.com"), childRecord)
+        ));
 
-        when(personRepository.findByAddress("1509 Culver St")).thenReturn(mockPersons);
-        when(medicalRecordRepository.getMedicalRecordByName("Tenley", "Boyd")).thenReturn(Optional.of(childRecord));
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Boyd")).thenReturn(Optional.of(adultRecord));
-
-        List<String> result = personService.getChildrenByAddress("1509 Culver St");
+        when(householdRepository.findByAddress("1509 Culver St")).thenReturn(household);
 
-        System.out.println("Result: " + result);
+        List<ChildAlertDTO> result = personService.getChildrenByAddress("1509 Culver St");
 
         assertEquals(1, result.size(), "Expected one child in the result.");
+        assertEquals("Tenley Boyd", result.get(0).fullName());
+        assertEquals(List.of("John Boyd"), result.get(0).otherMembers());
+        assertEquals("Child: Tenley Boyd, Age: " + childRecord.getAge() + ", Other members: John Boyd", result.get(0).toString());
+        verify(medicalRecordRepository, never()).getMedicalRecordByName(any(), any());
     }
 
     @Test
-    void testGetPhoneNumbersByStation() {
-        when(fireStationRepository.getAllFireStations()).thenReturn(List.of(
-                new FireStation("1509 Culver St", "3"),
-                new FireStation("29 15th St", "3")
+    void testGetChildrenByAddress_MemberWithoutRecordIsNotAChild() {
+        Household household = new Household("1509 Culver St", List.of(
+                new Household.Member(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"), null)
         ));
+        when(householdRepository.findByAddress("1509 Culver St")).thenReturn(household);
 
-        when(personRepository.getAllPersons()).thenReturn(List.of(
-                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"),
-                new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jboyd@email.com")
-        ));
+        assertTrue(personService.getChildrenByAddress("1509 Culver St").isEmpty());
+    }
+
+    @Test
+    void testGetPhoneNumbersByStation() {
+        when(stationCoverageRepository.findByStation("3")).thenReturn(StationCoverage.of("3", List.of(
+                new Household("1509 Culver St", List.of(
+                        new Household.Member(new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"), null),
+                        new Household.Member(new Person("Tenley", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "tenz@email.com"), null))),
+                new Household("29 15th St", List.of(
+                        new Household.Member(new Person("Jacob", "Boyd", "29 15th St", "Culver", "97451", "841-874-6513", "jboyd@email.com"), null)))
+        )));
 
         List<String> result = personService.getPhoneNumbersByStation("3");
 
         assertEquals(2, result.size());
         assertTrue(result.contains("841-874-6512"));
         assertTrue(result.contains("841-874-6513"));
+        verify(personRepository, never()).findByAddress(any());
     }
 
     @Test
     void testGetPersonsByAddress() {
-        when(fireStationRepository.getAllFireStations()).thenReturn(List.of(
-                new FireStation("1509 Culver St", "3")
-        ));
-        when(personRepository.findByAddress("1509 Culver St")).thenReturn(List.of(
-                new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com")
-        ));
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Boyd")).thenReturn(Optional.of(
-                new MedicalRecord("John", "Boyd", "03/06/1984", List.of("med1"), List.of("allergy1"))
-        ));
-
-        Map<String, Object> result = personService.getPersonsByAddress("1509 Culver St");
-
-        assertEquals("3", result.get("firestationNumber"));
-        assertEquals(1, ((List<?>) result.get("residents")).size());
+        when(fireStationRepository.getFireStationByAddress("1509 Culver St"))
+                .thenReturn(Optional.of(new FireStation("1509 Culver St", "3")));
+        when(householdRepository.findByAddress("1509 Culver St")).thenReturn(new Household("1509 Culver St", List.of(
+                new Household.Member(
+                        new Person("John", "Boyd", "1509 Culver St", "Culver", "97451", "841-874-6512", "jaboyd@email.com"),
+                        new MedicalRecord("John", "Boyd", "03/06/1984", List.of("med1"), List.of("allergy1")))
+        )));
+
+        FireAlertDTO result = personService.getPersonsByAddress("1509 Culver St");
+
+        assertEquals("3", result.firestationNumber());
+        assertEquals(1, result.residents().size());
+        assertEquals(List.of("med1"), result.residents().get(0).medications());
     }
 
     @Test
@@ -171,68 +190,62 @@ class PersonServiceTest {
                 new Person("John", "Doe", "123 Main St", "City", "12345", "555-1234", "john.doe@example.com"),
                 new Person("Jane", "Doe", "456 Elm St", "City", "12345", "555-5678", "jane.doe@example.com")
         );
-        when(personRepository.getAllPersons()).thenReturn(persons);
+        when(personRepository.findByLastName("Doe")).thenReturn(persons);
 
         MedicalRecord johnRecord = new MedicalRecord("John", "Doe", "1980-01-01", List.of("Med1"), List.of("Allergy1"));
         MedicalRecord janeRecord = new MedicalRecord("Jane", "Doe", "1990-01-01", List.of("Med2"), List.of("Allergy2"));
 
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Doe")).thenReturn(Optional.of(johnRecord));
-        when(medicalRecordRepository.getMedicalRecordByName("Jane", "Doe")).thenReturn(Optional.of(janeRecord));
+        when(medicalRecordRepository.getMedicalRecordsByLastName("Doe")).thenReturn(Map.of("john", johnRecord, "jane", janeRecord));
 
-        List<Map<String, Object>> result = personService.getPersonInfoByLastName("Doe");
+        List<PersonInfoDTO> result = personService.getPersonInfoByLastName("Doe");
 
         assertEquals(2, result.size());
 
-        Map<String, Object> johnInfo = result.get(0);
-        assertEquals("John", johnInfo.get("firstName"));
-        assertEquals("Doe", johnInfo.get("lastName"));
-        assertEquals("123 Main St", johnInfo.get("address"));
-        assertEquals("john.doe@example.com", johnInfo.get("email"));
-        assertEquals(johnRecord.getAge(), johnInfo.get("age"));
-        assertEquals(johnRecord.getMedications(), johnInfo.get("medications"));
-        assertEquals(johnRecord.getAllergies(), johnInfo.get("allergies"));
-
-        Map<String, Object> janeInfo = result.get(1);
-        assertEquals("Jane", janeInfo.get("firstName"));
-        assertEquals("Doe", janeInfo.get("lastName"));
-        assertEquals("456 Elm St", janeInfo.get("address"));
-        assertEquals("jane.doe@example.com", janeInfo.get("email"));
-        assertEquals(janeRecord.getAge(), janeInfo.get("age"));
-        assertEquals(janeRecord.getMedications(), janeInfo.get("medications"));
-        assertEquals(janeRecord.getAllergies(), janeInfo.get("allergies"));
-
-        verify(personRepository, times(1)).getAllPersons();
-        verify(medicalRecordRepository, times(1)).getMedicalRecordByName("John", "Doe");
-        verify(medicalRecordRepository, times(1)).getMedicalRecordByName("Jane", "Doe");
+        PersonInfoDTO johnInfo = result.get(0);
+        assertEquals("John", johnInfo.firstName());
+        assertEquals("Doe", johnInfo.lastName());
+        assertEquals("123 Main St", johnInfo.address());
+        assertEquals("john.doe@example.com", johnInfo.email());
+        assertEquals(Integer.valueOf(johnRecord.getAge()), johnInfo.age());
+        assertEquals(johnRecord.getMedications(), johnInfo.medications());
+        assertEquals(johnRecord.getAllergies(), johnInfo.allergies());
+
+        PersonInfoDTO janeInfo = result.get(1);
+        assertEquals("Jane", janeInfo.firstName());
+        assertEquals("Doe", janeInfo.lastName());
+        assertEquals("456 Elm St", janeInfo.address());
+        assertEquals("jane.doe@example.com", janeInfo.email());
+        assertEquals(Integer.valueOf(janeRecord.getAge()), janeInfo.age());
+        assertEquals(janeRecord.getMedications(), janeInfo.medications());
+        assertEquals(janeRecord.getAllergies(), janeInfo.allergies());
+
+        verify(personRepository, never()).getAllPersons();
+        verify(medicalRecordRepository, times(1)).getMedicalRecordsByLastName("Doe");
+        verify(medicalRecordRepository, never()).getMedicalRecordByName(any(), any());
     }
 
     @Test
     void testGetPersonInfoByLastName_NoMedicalRecord() {
         List<Person> persons = List.of(new Person("John", "Doe", "123 Main St", "City", "12345", "555-1234", "john.doe@example.com"));
-        when(personRepository.getAllPersons()).thenReturn(persons);
+        when(personRepository.findByLastName("Doe")).thenReturn(persons);
 
-        when(medicalRecordRepository.getMedicalRecordByName("John", "Doe")).thenReturn(Optional.empty());
+        when(medicalRecordRepository.getMedicalRecordsByLastName("Doe")).thenReturn(Map.of());
 
-        List<Map<String, Object>> result = personService.getPersonInfoByLastName("Doe");
+        List<PersonInfoDTO> result = personService.getPersonInfoByLastName("Doe");
 
         assertEquals(1, result.size());
-        Map<String, Object> johnInfo = result.get(0);
-        assertNull(johnInfo.get("age"));
-        assertTrue(((List<?>) johnInfo.get("medications")).isEmpty());
-        assertTrue(((List<?>) johnInfo.get("allergies")).isEmpty());
+        PersonInfoDTO johnInfo = result.get(0);
+        assertNull(johnInfo.age());
+        assertTrue(johnInfo.medications().isEmpty());
+        assertTrue(johnInfo.allergies().isEmpty());
 
-        verify(personRepository, times(1)).getAllPersons();
-        verify(medicalRecordRepository, times(1)).getMedicalRecordByName("John", "Doe");
+        verify(personRepository, times(1)).findByLastName("Doe");
+        verify(medicalRecordRepository, times(1)).getMedicalRecordsByLastName("Doe");
     }
 
     @Test
     void testGetEmailByCity() {
-        List<Person> persons = List.of(
-                new Person("John", "Doe", "123 Main St", "CityA", "12345", "555-1234", "john.doe@example.com"),
-                new Person("Jane", "Smith", "456 Elm St", "CityA", "12345", "555-5678", "jane.smith@example.com"),
-                new Person("Alice", "Brown", "789 Pine St", "CityB", "12345", "555-0000", "alice.brown@example.com")
-        );
-        when(personRepository.getAllPersons()).thenReturn(persons);
+        when(personRepository.getEmailsByCity("CityA")).thenReturn(List.of("john.doe@example.com", "jane.smith@example.com"));
 
         List<String> emails = personService.getEmailsByCity("CityA");
 
@@ -240,18 +253,18 @@ class PersonServiceTest {
         assertTrue(emails.contains("john.doe@example.com"));
         assertTrue(emails.contains("jane.smith@example.com"));
 
-        verify(personRepository, times(1)).getAllPersons();
+        verify(personRepository, times(1)).getEmailsByCity("CityA");
+        verify(personRepository, never()).getAllPersons();
     }
 
     @Test
     void testGetEmailByCity_NoMatches() {
-        List<Person> persons = List.of(new Person("Alice", "Brown", "789 Pine St", "CityB", "12345", "555-0000", "alice.brown@example.com"));
-        when(personRepository.getAllPersons()).thenReturn(persons);
+        when(personRepository.getEmailsByCity("CityA")).thenReturn(List.of());
 
         List<String> emails = personService.getEmailsByCity("CityA");
 
         assertTrue(emails.isEmpty());
 
-        verify(personRepository, times(1)).getAllPersons();
+        verify(personRepository, never()).getAllPersons();
     }
 }